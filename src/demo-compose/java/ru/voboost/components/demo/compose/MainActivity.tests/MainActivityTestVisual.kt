@@ -15,6 +15,7 @@ import org.robolectric.RobolectricTestRunner
 import org.robolectric.annotation.Config
 import org.robolectric.annotation.GraphicsMode
 import org.robolectric.shadows.ShadowLooper
+import ru.voboost.components.tabs.Tabs
 
 // Tab values for demo application
 private val TAB_VALUES = listOf(
@@ -364,6 +365,20 @@ class MainActivityTestVisual {
 
     // ========== SCROLL TESTS ==========
 
+    /**
+     * Helper: Finds the Tabs view in a view hierarchy recursively.
+     */
+    private fun findTabs(view: View): Tabs? {
+        if (view is Tabs) return view
+        if (view is ViewGroup) {
+            for (i in 0 until view.childCount) {
+                val found = findTabs(view.getChildAt(i))
+                if (found != null) return found
+            }
+        }
+        return null
+    }
+
     /**
      * Helper: Finds the first ScrollView in a view hierarchy recursively.
      */
@@ -401,9 +416,9 @@ class MainActivityTestVisual {
 
         // Find and scroll tabs to bottom
         val rootView = activity.findViewById<ViewGroup>(android.R.id.content)
-        val tabsScrollView = findScrollView(rootView)
-        if (tabsScrollView != null) {
-            tabsScrollView.fullScroll(ScrollView.FOCUS_DOWN)
+        val tabs = findTabs(rootView)
+        if (tabs != null) {
+            tabs.scrollTo(0, tabs.getMaxScrollY())
         }
 
         composeTestRule.waitForIdle()
@@ -18,6 +18,7 @@ import androidx.annotation.Nullable;
 
 import ru.voboost.components.demo.shared.DemoContent;
 import ru.voboost.components.demo.shared.DemoState;
+import ru.voboost.components.font.Font;
 import ru.voboost.components.i18n.Language;
 import ru.voboost.components.panel.Panel;
 import ru.voboost.components.radio.Radio;
@@ -58,6 +59,9 @@ public class MainActivity extends Activity {
     protected void onCreate(@Nullable Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
 
+        // Parse fonts off the UI thread while the hierarchy is being built
+        Font.preload(this);
+
         // Initialize demo state
         demoState = new DemoState();
 
@@ -22,6 +22,7 @@ import org.robolectric.shadows.ShadowLooper;
 
 import ru.voboost.components.demo.shared.DemoContent;
 import ru.voboost.components.tabs.TabItem;
+import ru.voboost.components.tabs.Tabs;
 
 /**
  * Visual regression tests for Java Demo Application using Roborazzi.
@@ -418,9 +419,9 @@ public class MainActivityTestVisual {
         ActivityController<MainActivity> controller = Robolectric.buildActivity(MainActivity.class);
         MainActivity activity = controller.create().start().resume().get();
 
-        // Get the tabs ScrollView from Screen
-        ScrollView tabsScrollView = activity.getScreen().getTabsScrollView();
-        assertNotNull("Tabs ScrollView should exist", tabsScrollView);
+        // Get the tabs from Screen; they scroll themselves
+        Tabs tabs = activity.getScreen().getTabs();
+        assertNotNull("Tabs should exist", tabs);
 
         // First measure and layout so scroll range is calculable
         View rootView = ((ViewGroup) activity.findViewById(android.R.id.content)).getChildAt(0);
@@ -429,12 +430,8 @@ public class MainActivityTestVisual {
                 View.MeasureSpec.makeMeasureSpec(720, View.MeasureSpec.EXACTLY));
         rootView.layout(0, 0, 1920, 720);
 
-        // Calculate scroll range and scroll synchronously
-        View scrollChild = tabsScrollView.getChildAt(0);
-        int scrollRange = scrollChild.getMeasuredHeight() - tabsScrollView.getMeasuredHeight();
-        if (scrollRange > 0) {
-            tabsScrollView.scrollTo(0, scrollRange);
-        }
+        // Scroll synchronously to the end of the scroll range
+        tabs.scrollTo(0, tabs.getMaxScrollY());
 
         // Flush the looper to process any pending layout/draw operations
         ShadowLooper.idleMainLooper();
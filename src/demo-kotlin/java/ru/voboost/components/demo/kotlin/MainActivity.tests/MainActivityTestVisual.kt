@@ -15,6 +15,7 @@ import org.robolectric.shadows.ShadowLooper
 import ru.voboost.components.demo.shared.DemoContent
 import ru.voboost.components.demo.shared.DemoState
 import ru.voboost.components.tabs.TabItem
+import ru.voboost.components.tabs.Tabs
 
 /**
  * Visual regression tests for Kotlin Demo Application using Roborazzi.
@@ -398,9 +399,9 @@ class MainActivityTestVisual {
         val controller = Robolectric.buildActivity(MainActivity::class.java)
         val activity = controller.create().start().resume().get()
 
-        // Get the tabs ScrollView from Screen
-        val tabsScrollView = activity.getScreen().getTabsScrollView()
-        assertNotNull("Tabs ScrollView should exist", tabsScrollView)
+        // Get the tabs from Screen; they scroll themselves
+        val tabs = activity.getScreen().getTabs()
+        assertNotNull("Tabs should exist", tabs)
 
         // First measure and layout so scroll range is calculable
         val contentView = activity.findViewById<ViewGroup>(android.R.id.content)
@@ -411,12 +412,8 @@ class MainActivityTestVisual {
         )
         rootView.layout(0, 0, 1920, 720)
 
-        // Calculate scroll range and scroll synchronously
-        val scrollChild = tabsScrollView!!.getChildAt(0)
-        val scrollRange = scrollChild.measuredHeight - tabsScrollView.measuredHeight
-        if (scrollRange > 0) {
-            tabsScrollView.scrollTo(0, scrollRange)
-        }
+        // Scroll synchronously to the end of the scroll range
+        tabs!!.scrollTo(0, tabs.getMaxScrollY())
 
         // Flush the looper to process any pending layout/draw operations
         ShadowLooper.idleMainLooper()
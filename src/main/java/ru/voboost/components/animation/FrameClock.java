@@ -0,0 +1,239 @@
+package ru.voboost.components.animation;
+
+import java.util.ArrayList;
+
+import android.os.SystemClock;
+import android.view.Choreographer;
+import android.view.View;
+
+/**
+ * Library-wide frame clock for component animations.
+ *
+ * <p>
+ * All components register their running animations here instead of starting
+ * their own animators. On every vsync the clock advances all active animations
+ * in a single pass and invalidates each affected view exactly once, no matter
+ * how many of its animations are running.
+ *
+ * <p>
+ * The clock is driven by {@link Choreographer} and must only be used from the
+ * UI thread. It is idle (no frame callback posted) while nothing animates.
+ *
+ * <p>
+ * The clock does not give targets a hardware layer: its animations change what
+ * the view draws, so a layer would be re-rendered on every frame on top of
+ * compositing it.
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * FrameClock.getInstance().start(animation);
+ * FrameClock.getInstance().stop(animation);
+ * </pre>
+ */
+public final class FrameClock implements Choreographer.FrameCallback {
+    private static FrameClock instance;
+
+    // Active animations and views to invalidate after the current tick
+    private final ArrayList<Animation> animations = new ArrayList<>(16);
+    private final ArrayList<View> dirtyViews = new ArrayList<>(16);
+    private final ArrayList<Animation> pendingStarts = new ArrayList<>(4);
+    private final ArrayList<Animation> pendingStops = new ArrayList<>(4);
+
+    private boolean isTicking = false;
+
+    // Statistics
+    private long lastTickDurationNanos = 0L;
+    private long tickCount = 0L;
+
+    /**
+     * A single animation driven by the clock.
+     */
+    public interface Animation {
+        /**
+         * Advances the animation to the given frame time.
+         *
+         * @param frameTimeNanos vsync time of the frame in nanoseconds
+         * @return true while the animation is still running
+         */
+        boolean onFrame(long frameTimeNanos);
+
+        /**
+         * Returns the view to invalidate after the frame.
+         *
+         * @return the animated view, or null if nothing has to be redrawn
+         */
+        View getTarget();
+    }
+
+    private FrameClock() {
+        // Use getInstance()
+    }
+
+    /**
+     * Returns the shared clock instance.
+     *
+     * @return the frame clock
+     */
+    public static FrameClock getInstance() {
+        if (instance == null) {
+            instance = new FrameClock();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts driving the animation. Starting an already running animation is a
+     * no-op, so callers can retarget the animation state and call this again.
+     *
+     * <p>
+     * A start during a tick wins over a stop of the same animation earlier in
+     * that tick, and over the animation finishing in that tick: it is driven
+     * again from the next frame.
+     *
+     * @param animation the animation to drive
+     */
+    public void start(Animation animation) {
+        if (animation == null) {
+            throw new IllegalArgumentException("Animation cannot be null");
+        }
+
+        if (isTicking) {
+            // The list is being compacted, so it cannot tell whether the
+            // animation stays; starts are merged in once the pass is done
+            pendingStops.remove(animation);
+            if (!pendingStarts.contains(animation)) {
+                pendingStarts.add(animation);
+            }
+
+            // The clock reschedules itself once the pass is done
+            return;
+        }
+
+        if (!animations.contains(animation)) {
+            animations.add(animation);
+        }
+        scheduleFrame();
+    }
+
+    /**
+     * Stops driving the animation. The animation keeps its current state.
+     *
+     * @param animation the animation to stop
+     */
+    public void stop(Animation animation) {
+        if (isTicking) {
+            // Removing while the tick iterates would shift indices
+            pendingStarts.remove(animation);
+            if (!pendingStops.contains(animation)) {
+                pendingStops.add(animation);
+            }
+        } else {
+            animations.remove(animation);
+        }
+    }
+
+    /**
+     * Checks whether the animation is currently driven by the clock.
+     *
+     * @param animation the animation to check
+     * @return true if the animation is active
+     */
+    public boolean isRunning(Animation animation) {
+        if (isTicking && pendingStops.contains(animation)) {
+            return false;
+        }
+        return animations.contains(animation) || pendingStarts.contains(animation);
+    }
+
+    /**
+     * Returns the number of active animations.
+     *
+     * @return active animation count
+     */
+    public int getActiveCount() {
+        return animations.size();
+    }
+
+    /**
+     * Returns how long the last tick took, including invalidation.
+     *
+     * @return duration of the last tick in nanoseconds
+     */
+    public long getLastTickDurationNanos() {
+        return lastTickDurationNanos;
+    }
+
+    /**
+     * Returns the number of ticks processed since the process started.
+     *
+     * @return tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        isTicking = true;
+        long tickStart = SystemClock.elapsedRealtimeNanos();
+
+        // Advance all animations in one pass, compacting finished ones in place
+        int size = animations.size();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Animation animation = animations.get(i);
+            boolean isRunning = animation.onFrame(frameTimeNanos);
+
+            View target = animation.getTarget();
+            if (target != null && !dirtyViews.contains(target)) {
+                dirtyViews.add(target);
+            }
+
+            if (isRunning) {
+                animations.set(kept++, animation);
+            }
+        }
+        for (int i = size - 1; i >= kept; i--) {
+            animations.remove(i);
+        }
+        isTicking = false;
+
+        // Apply stops requested by callbacks during this tick
+        for (int i = 0; i < pendingStops.size(); i++) {
+            animations.remove(pendingStops.get(i));
+        }
+        pendingStops.clear();
+
+        // Add animations started by callbacks during this tick, including ones
+        // that finished or were stopped earlier in the same pass
+        for (int i = 0; i < pendingStarts.size(); i++) {
+            Animation animation = pendingStarts.get(i);
+            if (!animations.contains(animation)) {
+                animations.add(animation);
+            }
+        }
+        pendingStarts.clear();
+
+        // Invalidate each affected view exactly once
+        for (int i = 0; i < dirtyViews.size(); i++) {
+            dirtyViews.get(i).invalidate();
+        }
+        dirtyViews.clear();
+
+        tickCount++;
+        lastTickDurationNanos = SystemClock.elapsedRealtimeNanos() - tickStart;
+
+        if (!animations.isEmpty()) {
+            scheduleFrame();
+        }
+    }
+
+    private void scheduleFrame() {
+        // Remove first so the callback is never posted twice for one frame
+        Choreographer choreographer = Choreographer.getInstance();
+        choreographer.removeFrameCallback(this);
+        choreographer.postFrameCallback(this);
+    }
+}
@@ -0,0 +1,261 @@
+package ru.voboost.components.animation;
+
+import static org.junit.Assert.*;
+
+import android.content.Context;
+import android.view.View;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+/**
+ * Unit tests for the shared FrameClock.
+ * Frames are delivered by calling doFrame directly.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = {33})
+public class FrameClockTestUnit {
+
+    private Context context;
+    private FrameClock clock;
+
+    @Before
+    public void setUp() {
+        context = RuntimeEnvironment.getApplication();
+        clock = FrameClock.getInstance();
+    }
+
+    @After
+    public void tearDown() {
+        // Drain anything a failed test left behind
+        while (clock.getActiveCount() > 0) {
+            clock.doFrame(Long.MAX_VALUE);
+        }
+    }
+
+    @Test
+    public void testStartAndFinish() {
+        CountingView view = new CountingView(context);
+        FrameAnimation animation = new FrameAnimation(view, 2);
+
+        clock.start(animation);
+        assertTrue(clock.isRunning(animation));
+        assertEquals(1, clock.getActiveCount());
+
+        clock.doFrame(1L);
+        assertTrue(clock.isRunning(animation));
+
+        clock.doFrame(2L);
+        assertFalse(clock.isRunning(animation));
+        assertEquals(0, clock.getActiveCount());
+        assertEquals(2, animation.frames);
+    }
+
+    @Test
+    public void testStartTwiceIsNoOp() {
+        FrameAnimation animation = new FrameAnimation(new CountingView(context), 1);
+
+        clock.start(animation);
+        clock.start(animation);
+
+        assertEquals(1, clock.getActiveCount());
+    }
+
+    @Test
+    public void testViewInvalidatedOncePerFrame() {
+        CountingView view = new CountingView(context);
+        FrameAnimation first = new FrameAnimation(view, 3);
+        FrameAnimation second = new FrameAnimation(view, 3);
+
+        clock.start(first);
+        clock.start(second);
+        view.invalidations = 0;
+
+        clock.doFrame(1L);
+
+        assertEquals(1, view.invalidations);
+        assertEquals(1, first.frames);
+        assertEquals(1, second.frames);
+    }
+
+    @Test
+    public void testStopDuringTick() {
+        CountingView view = new CountingView(context);
+        FrameAnimation victim = new FrameAnimation(view, 10);
+        FrameAnimation stopper =
+                new FrameAnimation(view, 10) {
+                    @Override
+                    public boolean onFrame(long frameTimeNanos) {
+                        clock.stop(victim);
+                        return super.onFrame(frameTimeNanos);
+                    }
+                };
+
+        clock.start(stopper);
+        clock.start(victim);
+        clock.doFrame(1L);
+
+        assertFalse(clock.isRunning(victim));
+        assertTrue(clock.isRunning(stopper));
+    }
+
+    @Test
+    public void testStopThenStartDuringTickKeepsRunning() {
+        CountingView view = new CountingView(context);
+        FrameAnimation victim = new FrameAnimation(view, 10);
+        FrameAnimation restarter =
+                new FrameAnimation(view, 10) {
+                    @Override
+                    public boolean onFrame(long frameTimeNanos) {
+                        clock.stop(victim);
+                        clock.start(victim);
+                        return super.onFrame(frameTimeNanos);
+                    }
+                };
+
+        clock.start(restarter);
+        clock.start(victim);
+        clock.doFrame(1L);
+
+        assertTrue("The restart should win over the stop", clock.isRunning(victim));
+        assertEquals(2, clock.getActiveCount());
+
+        clock.doFrame(2L);
+        assertEquals(2, victim.frames);
+    }
+
+    @Test
+    public void testStartAfterFinishInSameTick() {
+        CountingView view = new CountingView(context);
+        FrameAnimation finished = new FrameAnimation(view, 1);
+        FrameAnimation restarter =
+                new FrameAnimation(view, 10) {
+                    @Override
+                    public boolean onFrame(long frameTimeNanos) {
+                        // Runs after the first animation finished in this pass
+                        clock.start(finished);
+                        return super.onFrame(frameTimeNanos);
+                    }
+                };
+
+        clock.start(finished);
+        clock.start(restarter);
+        clock.doFrame(1L);
+
+        assertEquals(1, finished.frames);
+        assertTrue("The restart should survive the finish", clock.isRunning(finished));
+        assertEquals(2, clock.getActiveCount());
+
+        clock.doFrame(2L);
+        assertEquals(2, finished.frames);
+    }
+
+    @Test
+    public void testClockAnimationsDoNotUseLayers() {
+        CountingView view = new CountingView(context);
+        view.layout(0, 0, 100, 50);
+        FrameAnimation animation = new FrameAnimation(view, 2);
+
+        // The animation redraws the view every frame, so a layer would not help
+        clock.start(animation);
+        assertEquals(View.LAYER_TYPE_NONE, view.getLayerType());
+        clock.doFrame(1L);
+        assertEquals(View.LAYER_TYPE_NONE, view.getLayerType());
+
+        clock.doFrame(2L);
+        assertEquals(View.LAYER_TYPE_NONE, view.getLayerType());
+    }
+
+    @Test
+    public void testNullAnimationThrows() {
+        try {
+            clock.start(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("Animation cannot be null", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSpringSettlesOnTarget() {
+        Spring spring = Spring.fromOvershoot(1.0f, 400);
+        spring.snapTo(0f);
+        spring.animateTo(100f);
+
+        long frameNanos = 16_666_667L;
+        float peak = 0f;
+        int frame = 0;
+        while (spring.step(frame * frameNanos)) {
+            peak = Math.max(peak, spring.getValue());
+            frame++;
+            assertTrue("Spring should settle", frame < 600);
+        }
+
+        assertEquals(100f, spring.getValue(), 0f);
+        assertEquals(0f, spring.getVelocity(), 0f);
+        // OvershootInterpolator(1.0) peaks about 3.7% past the target
+        assertEquals(103.7f, peak, 1f);
+    }
+
+    @Test
+    public void testSpringRetargetKeepsVelocity() {
+        Spring spring = Spring.fromOvershoot(1.0f, 400);
+        spring.snapTo(0f);
+        spring.animateTo(100f);
+
+        long frameNanos = 16_666_667L;
+        for (int i = 0; i <= 5; i++) {
+            spring.step(i * frameNanos);
+        }
+        float value = spring.getValue();
+        float velocity = spring.getVelocity();
+        assertTrue("Spring should be moving", velocity > 0f);
+
+        spring.animateTo(-100f);
+
+        assertEquals(value, spring.getValue(), 0f);
+        assertEquals(velocity, spring.getVelocity(), 0f);
+        assertTrue(spring.isRunning());
+    }
+
+    private static class FrameAnimation implements FrameClock.Animation {
+        private final View target;
+        private final int length;
+        int frames = 0;
+
+        FrameAnimation(View target, int length) {
+            this.target = target;
+            this.length = length;
+        }
+
+        @Override
+        public boolean onFrame(long frameTimeNanos) {
+            frames++;
+            return frames < length;
+        }
+
+        @Override
+        public View getTarget() {
+            return target;
+        }
+    }
+
+    private static class CountingView extends View {
+        int invalidations = 0;
+
+        CountingView(Context context) {
+            super(context);
+        }
+
+        @Override
+        public void invalidate() {
+            invalidations++;
+            super.invalidate();
+        }
+    }
+}
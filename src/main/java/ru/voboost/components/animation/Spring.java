@@ -0,0 +1,205 @@
+package ru.voboost.components.animation;
+
+/**
+ * Underdamped spring for a single animated value.
+ *
+ * <p>
+ * The motion is evaluated analytically from the current position and velocity,
+ * so it is exact for any frame interval. Calling {@link #animateTo(float)}
+ * while the spring is moving keeps the current position and velocity and only
+ * moves the rest point: rapid retargeting stays smooth and allocates nothing.
+ *
+ * <p>
+ * Use {@link #fromOvershoot(float, long)} to get a spring with the same feel as
+ * an {@code OvershootInterpolator} of a given tension and duration.
+ */
+public final class Spring {
+    // Distance and speed (per second) below which the spring snaps to rest
+    private static final float REST_DISPLACEMENT = 0.5f;
+    private static final float REST_VELOCITY = 10f;
+
+    private final float dampingRatio;
+    private final float naturalFrequency;
+    private final float dampedFrequency;
+
+    private float value = 0f;
+    private float velocity = 0f;
+    private float target = 0f;
+    private long lastFrameTimeNanos = -1L;
+    private boolean isRunning = false;
+
+    /**
+     * Creates a new spring.
+     *
+     * @param dampingRatio     damping ratio, must be in (0, 1)
+     * @param naturalFrequency undamped angular frequency in radians per second
+     */
+    public Spring(float dampingRatio, float naturalFrequency) {
+        if (dampingRatio <= 0f || dampingRatio >= 1f) {
+            throw new IllegalArgumentException("Damping ratio must be in (0, 1)");
+        }
+        if (naturalFrequency <= 0f) {
+            throw new IllegalArgumentException("Natural frequency must be positive");
+        }
+
+        this.dampingRatio = dampingRatio;
+        this.naturalFrequency = naturalFrequency;
+        this.dampedFrequency =
+                (float) (naturalFrequency * Math.sqrt(1.0 - dampingRatio * dampingRatio));
+    }
+
+    /**
+     * Creates a spring matching an {@code OvershootInterpolator}.
+     *
+     * <p>
+     * The overshoot curve with tension T peaks at 4T³ / (27(T + 1)²) above the
+     * target, at 1 - 2T / (3(T + 1)) of the duration. The spring gets the damping
+     * ratio that produces the same peak and the frequency that reaches it at the
+     * same time.
+     *
+     * @param tension        overshoot tension, must be positive
+     * @param durationMillis duration of the matched animation in milliseconds
+     * @return a new spring
+     */
+    public static Spring fromOvershoot(float tension, long durationMillis) {
+        if (tension <= 0f) {
+            throw new IllegalArgumentException("Tension must be positive");
+        }
+        if (durationMillis <= 0) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+
+        double overshoot =
+                4.0 * tension * tension * tension / (27.0 * (tension + 1) * (tension + 1));
+        double logOvershoot = Math.log(overshoot);
+        double dampingRatio =
+                -logOvershoot / Math.sqrt(Math.PI * Math.PI + logOvershoot * logOvershoot);
+
+        double peakSeconds =
+                durationMillis / 1000.0 * (1.0 - 2.0 * tension / (3.0 * (tension + 1)));
+        double naturalFrequency =
+                Math.PI / (peakSeconds * Math.sqrt(1.0 - dampingRatio * dampingRatio));
+
+        return new Spring((float) dampingRatio, (float) naturalFrequency);
+    }
+
+    /**
+     * Moves the rest point. Position and velocity are kept, so a running motion
+     * continues smoothly towards the new target.
+     *
+     * @param target new rest position
+     */
+    public void animateTo(float target) {
+        this.target = target;
+        if (!isRunning) {
+            // Time starts at the next frame, like a fresh animation
+            lastFrameTimeNanos = -1L;
+            isRunning = true;
+        }
+    }
+
+    /**
+     * Jumps to the value and stops.
+     *
+     * @param value new position and target
+     */
+    public void snapTo(float value) {
+        this.value = value;
+        this.target = value;
+        this.velocity = 0f;
+        this.isRunning = false;
+    }
+
+    /**
+     * Stops at the current position and drops the velocity.
+     */
+    public void cancel() {
+        velocity = 0f;
+        isRunning = false;
+    }
+
+    /**
+     * Advances the spring to the given frame time.
+     *
+     * @param frameTimeNanos vsync time of the frame in nanoseconds
+     * @return true while the spring has not come to rest
+     */
+    public boolean step(long frameTimeNanos) {
+        if (!isRunning) {
+            return false;
+        }
+
+        if (lastFrameTimeNanos < 0) {
+            lastFrameTimeNanos = frameTimeNanos;
+            return true;
+        }
+
+        float dt = (frameTimeNanos - lastFrameTimeNanos) / 1_000_000_000f;
+        lastFrameTimeNanos = frameTimeNanos;
+        if (dt <= 0f) {
+            return true;
+        }
+
+        // x(t) = e^(-ζωt) * (x0 cos(ωd t) + (v0 + ζω x0) / ωd * sin(ωd t))
+        float displacement = value - target;
+        float decayRate = dampingRatio * naturalFrequency;
+        float decay = (float) Math.exp(-decayRate * dt);
+        float cos = (float) Math.cos(dampedFrequency * dt);
+        float sin = (float) Math.sin(dampedFrequency * dt);
+
+        float newDisplacement =
+                decay * (displacement * cos
+                        + (velocity + decayRate * displacement) / dampedFrequency * sin);
+        float newVelocity =
+                decay * (velocity * cos
+                        - (decayRate * velocity
+                                + naturalFrequency * naturalFrequency * displacement)
+                                / dampedFrequency * sin);
+
+        if (Math.abs(newDisplacement) < REST_DISPLACEMENT
+                && Math.abs(newVelocity) < REST_VELOCITY) {
+            snapTo(target);
+            return false;
+        }
+
+        value = target + newDisplacement;
+        velocity = newVelocity;
+        return true;
+    }
+
+    /**
+     * Returns the current position.
+     *
+     * @return current value
+     */
+    public float getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the current velocity.
+     *
+     * @return velocity in units per second
+     */
+    public float getVelocity() {
+        return velocity;
+    }
+
+    /**
+     * Returns the rest point the spring is moving to.
+     *
+     * @return target value
+     */
+    public float getTarget() {
+        return target;
+    }
+
+    /**
+     * Checks whether the spring is moving.
+     *
+     * @return true if the spring has not come to rest
+     */
+    public boolean isRunning() {
+        return isRunning;
+    }
+}
@@ -1,7 +1,22 @@
 package ru.voboost.components.font;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 import android.content.Context;
 import android.graphics.Typeface;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.Nullable;
 
 /**
  * Font component provides the project typeface for all components.
@@ -33,19 +48,75 @@ import android.graphics.Typeface;
  *
  * <p>
  * Use {@link #getBold(Context, String)} to automatically select the correct
- * bold font based on the text content.
+ * bold font based on the text content. The classification of recently used
+ * strings is memoized; models that know their labels up front (RadioButton,
+ * TabItem) precompute it and call {@link #getBold(Context, boolean)}.
  *
  * <p>
- * Caches the Typeface instances to avoid repeated loading.
+ * Caches the Typeface instances to avoid repeated loading. Call
+ * {@link #preload(Context)} early (e.g. in Activity.onCreate) to parse all
+ * variants on a background thread before the first frame needs them. Getters
+ * never wait for a preload: a variant that is still being parsed is loaded
+ * directly by the caller, and whichever load finishes first is kept.
  *
  * <p>
  * If the font file is not available, throws RuntimeException.
  * There is NO fallback to system default fonts.
  */
 public final class Font {
-    private static Typeface regular;
-    private static Typeface boldAscii;
-    private static Typeface boldUnicode;
+    /**
+     * Font file variants.
+     */
+    public enum Variant {
+        REGULAR("Font.ttf"),
+        BOLD_ASCII("Font_bold_ascii.ttf"),
+        BOLD_UNICODE("Font_bold_unicode.ttf");
+
+        private final String fileName;
+
+        Variant(String fileName) {
+            this.fileName = fileName;
+        }
+
+        /**
+         * Returns the asset file name of this variant.
+         *
+         * @return font file name
+         */
+        public String getFileName() {
+            return fileName;
+        }
+    }
+
+    private static final Variant[] VARIANTS = Variant.values();
+
+    // Bounded LRU of recently classified strings (text → isAsciiOnly)
+    private static final int CLASSIFICATION_CACHE_SIZE = 128;
+    private static final Map<String, Boolean> classificationCache =
+            new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > CLASSIFICATION_CACHE_SIZE;
+                }
+            };
+
+    // Loaded typefaces of the current cache generation. clearCache() swaps in a
+    // new generation, so loads still running store into the discarded one
+    private static volatile Cache cache = new Cache();
+
+    // Background preload
+    private static ExecutorService preloadExecutor;
+    private static Future<?> preloadFuture;
+
+    /**
+     * One cache generation: loaded typefaces and their load durations, indexed
+     * by Variant ordinal.
+     */
+    private static final class Cache {
+        final AtomicReferenceArray<Typeface> typefaces =
+                new AtomicReferenceArray<>(VARIANTS.length);
+        final AtomicLongArray loadTimesNanos = new AtomicLongArray(VARIANTS.length);
+    }
 
     private Font() {
         // Prevent instantiation
@@ -59,10 +130,7 @@ public final class Font {
      * @throws RuntimeException if the font file is not available
      */
     public static Typeface getRegular(Context context) {
-        if (regular == null) {
-            regular = loadFont(context, "Font.ttf");
-        }
-        return regular;
+        return get(context, Variant.REGULAR);
     }
 
     /**
@@ -79,40 +147,237 @@ public final class Font {
      * @throws RuntimeException if the font file is not available
      */
     public static Typeface getBold(Context context, String text) {
-        if (isAsciiOnly(text)) {
-            if (boldAscii == null) {
-                boldAscii = loadFont(context, "Font_bold_ascii.ttf");
-            }
-            return boldAscii;
-        } else {
-            if (boldUnicode == null) {
-                boldUnicode = loadFont(context, "Font_bold_unicode.ttf");
-            }
-
-            return boldUnicode;
-        }
+        return getBold(context, isAsciiOnly(text));
     }
 
     /**
-     * Clears the font cache. Call this in tests if needed.
+     * Returns the bold-weight typeface for text of a known script.
+     *
+     * @param context     Android context (used for assets access)
+     * @param isAsciiOnly true if the text contains only ASCII characters
+     * @return ASCII bold typeface if isAsciiOnly, otherwise the Unicode one
+     * @throws RuntimeException if the font file is not available
      */
-    public static void clearCache() {
-        regular = null;
-        boldAscii = null;
-        boldUnicode = null;
+    public static Typeface getBold(Context context, boolean isAsciiOnly) {
+        return get(context, isAsciiOnly ? Variant.BOLD_ASCII : Variant.BOLD_UNICODE);
     }
 
     /**
      * Checks if a string contains only ASCII characters (0-127).
      *
+     * <p>
+     * Results for recently used strings are memoized, so repeated calls with the
+     * same label do not rescan it.
+     *
      * @param text the text to check
      * @return true if the text is null, empty, or contains only ASCII characters
      */
-    private static boolean isAsciiOnly(String text) {
+    public static boolean isAsciiOnly(String text) {
         if (text == null || text.isEmpty()) {
             return true;
         }
 
+        synchronized (classificationCache) {
+            Boolean cached = classificationCache.get(text);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        boolean isAscii = scanAsciiOnly(text);
+        synchronized (classificationCache) {
+            classificationCache.put(text, isAscii);
+        }
+        return isAscii;
+    }
+
+    /**
+     * Starts loading all font variants on a background thread.
+     *
+     * <p>
+     * Repeated calls return the same future until {@link #clearCache()} is
+     * called or the preload fails; after a failure the next call starts a new
+     * preload. Variants that are already loaded are skipped.
+     *
+     * @param context Android context (the application context is retained)
+     * @return future that completes when all variants are loaded
+     */
+    public static Future<?> preload(Context context) {
+        return preload(context, null);
+    }
+
+    /**
+     * Starts loading all font variants on a background thread and runs the
+     * callback on the main thread when done.
+     *
+     * <p>
+     * The callback runs only if every variant was loaded. If a font file
+     * cannot be loaded, or the preload is cancelled by {@link #clearCache()},
+     * it is not run; the failure is reported by the returned future, whose
+     * {@code get()} throws an {@code ExecutionException} with the
+     * RuntimeException of the failed load as its cause.
+     *
+     * @param context    Android context (the application context is retained)
+     * @param onComplete callback run on the main thread after a successful
+     *                   load, or null
+     * @return future that completes when all variants are loaded
+     */
+    public static synchronized Future<?> preload(
+            Context context, @Nullable Runnable onComplete) {
+        if (context == null) {
+            throw new IllegalArgumentException("Context cannot be null");
+        }
+
+        if (preloadFuture == null) {
+            if (preloadExecutor == null) {
+                preloadExecutor = Executors.newSingleThreadExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "Font-preload");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+            }
+
+            Context appContext = context.getApplicationContext() != null
+                    ? context.getApplicationContext()
+                    : context;
+            Cache target = cache;
+            preloadFuture = preloadExecutor.submit(
+                    () -> {
+                        try {
+                            for (Variant variant : VARIANTS) {
+                                // Stop once clearCache() discarded this generation
+                                if (target != cache) {
+                                    return;
+                                }
+                                get(appContext, variant, target);
+                            }
+                        } catch (RuntimeException e) {
+                            onPreloadFailed(target);
+                            throw e;
+                        }
+                    });
+        }
+
+        if (onComplete != null) {
+            Future<?> future = preloadFuture;
+            Handler mainHandler = new Handler(Looper.getMainLooper());
+            preloadExecutor.execute(
+                    () -> {
+                        // Runs after the preload task on the single preload
+                        // thread, so get() returns at once
+                        try {
+                            future.get();
+                        } catch (ExecutionException | CancellationException e) {
+                            // Failed or cancelled: reported by the future only
+                            return;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        mainHandler.post(onComplete);
+                    });
+        }
+
+        return preloadFuture;
+    }
+
+    /**
+     * Forgets a failed preload, so the next {@link #preload} call retries.
+     * A preload of a generation discarded by {@link #clearCache()} no longer
+     * owns {@code preloadFuture} and leaves it alone.
+     */
+    private static synchronized void onPreloadFailed(Cache target) {
+        if (target == cache) {
+            preloadFuture = null;
+        }
+    }
+
+    /**
+     * Checks whether a variant has been loaded.
+     *
+     * @param variant font variant
+     * @return true if the typeface is cached
+     */
+    public static boolean isLoaded(Variant variant) {
+        return cache.typefaces.get(variant.ordinal()) != null;
+    }
+
+    /**
+     * Returns how long loading a variant took.
+     *
+     * @param variant font variant
+     * @return load duration in nanoseconds, or -1 if the variant is not loaded
+     */
+    public static long getLoadTimeNanos(Variant variant) {
+        Cache current = cache;
+        int index = variant.ordinal();
+        return current.typefaces.get(index) != null
+                ? current.loadTimesNanos.get(index)
+                : -1L;
+    }
+
+    /**
+     * Clears the font cache. Call this in tests if needed.
+     *
+     * <p>
+     * Does not wait for a running preload: the cache is replaced by a new
+     * generation, and typefaces the preload finishes afterwards are dropped
+     * instead of being written back.
+     */
+    public static synchronized void clearCache() {
+        if (preloadFuture != null) {
+            preloadFuture.cancel(false);
+            preloadFuture = null;
+        }
+
+        cache = new Cache();
+
+        synchronized (classificationCache) {
+            classificationCache.clear();
+        }
+    }
+
+    /**
+     * Returns the cached typeface, loading it on the calling thread if needed.
+     *
+     * <p>
+     * Never waits for another thread: if a preload is parsing the same file, both
+     * loads run and the first one stored wins.
+     */
+    private static Typeface get(Context context, Variant variant) {
+        return get(context, variant, cache);
+    }
+
+    /**
+     * Returns the typeface from the given cache generation, loading it into
+     * that generation if needed.
+     */
+    private static Typeface get(Context context, Variant variant, Cache target) {
+        AtomicReferenceArray<Typeface> typefaces = target.typefaces;
+        int index = variant.ordinal();
+        Typeface typeface = typefaces.get(index);
+        if (typeface != null) {
+            return typeface;
+        }
+
+        long start = SystemClock.elapsedRealtimeNanos();
+        typeface = loadFont(context, variant.getFileName());
+        long duration = SystemClock.elapsedRealtimeNanos() - start;
+
+        if (typefaces.compareAndSet(index, null, typeface)) {
+            target.loadTimesNanos.set(index, duration);
+            return typeface;
+        }
+
+        Typeface winner = typefaces.get(index);
+        return winner != null ? winner : typeface;
+    }
+
+    /**
+     * Scans a non-empty string for non-ASCII characters.
+     */
+    private static boolean scanAsciiOnly(String text) {
         for (int i = 0; i < text.length(); i++) {
             if (text.charAt(i) > 127) {
                 return false;
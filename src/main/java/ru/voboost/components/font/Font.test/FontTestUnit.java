@@ -0,0 +1,181 @@
+package ru.voboost.components.font;
+
+import static org.junit.Assert.*;
+import static org.robolectric.Shadows.shadowOf;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.content.res.AssetManager;
+import android.os.Looper;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+/**
+ * Unit tests for Font preloading.
+ * The preload runs on a single background thread, so a later preload always
+ * finishes after an earlier one.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = {33})
+public class FontTestUnit {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private Context context;
+
+    @Before
+    public void setUp() {
+        context = RuntimeEnvironment.getApplication();
+        Font.clearCache();
+    }
+
+    @After
+    public void tearDown() {
+        Font.clearCache();
+    }
+
+    @Test
+    public void testPreloadLoadsAllVariants() throws Exception {
+        for (Font.Variant variant : Font.Variant.values()) {
+            assertFalse(Font.isLoaded(variant));
+            assertEquals(-1L, Font.getLoadTimeNanos(variant));
+        }
+
+        Future<?> future = Font.preload(context);
+        future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        for (Font.Variant variant : Font.Variant.values()) {
+            assertTrue(variant + " should be loaded", Font.isLoaded(variant));
+            assertTrue(variant + " should have a load time", Font.getLoadTimeNanos(variant) >= 0);
+        }
+        assertSame("Repeated calls share the preload", future, Font.preload(context));
+    }
+
+    @Test
+    public void testCallbackRunsOnSuccessOnly() throws Exception {
+        AtomicBoolean failedCallback = new AtomicBoolean();
+        Future<?> failed = Font.preload(new FailingContext(context), () -> failedCallback.set(true));
+        assertFailed(failed);
+
+        // The callback of a later preload runs after the failed one was handled
+        AtomicBoolean succeededCallback = new AtomicBoolean();
+        Font.preload(context, () -> succeededCallback.set(true))
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        awaitOnMainLooper(succeededCallback);
+
+        assertFalse("The callback must not run after a failure", failedCallback.get());
+    }
+
+    @Test
+    public void testClearCacheDuringPreloadKeepsNewGenerationEmpty() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> running = Font.preload(new BlockingContext(context, release));
+
+        Font.clearCache();
+        release.countDown();
+        try {
+            running.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            fail("clearCache should cancel the running preload");
+        } catch (CancellationException expected) {
+            // Cancelled without interrupting the load
+        }
+
+        // A failing preload queued behind the old one finishes after it
+        assertFailed(Font.preload(new FailingContext(context)));
+
+        for (Font.Variant variant : Font.Variant.values()) {
+            assertFalse(variant + " must not be written back", Font.isLoaded(variant));
+        }
+    }
+
+    @Test
+    public void testPreloadRetriesAfterFailure() throws Exception {
+        Future<?> failed = Font.preload(new FailingContext(context));
+        assertFailed(failed);
+
+        Future<?> retry = Font.preload(context);
+        assertNotSame("A failed preload should not be returned again", failed, retry);
+        retry.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        for (Font.Variant variant : Font.Variant.values()) {
+            assertTrue(Font.isLoaded(variant));
+        }
+    }
+
+    private static void assertFailed(Future<?> future) throws Exception {
+        try {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            fail("The preload should fail");
+        } catch (ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof RuntimeException);
+        }
+    }
+
+    private static void awaitOnMainLooper(AtomicBoolean flag) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS);
+        while (!flag.get() && System.currentTimeMillis() < deadline) {
+            shadowOf(Looper.getMainLooper()).idle();
+            Thread.sleep(10);
+        }
+        assertTrue("The callback should have run", flag.get());
+    }
+
+    /**
+     * Context whose assets cannot be opened, so every font load fails.
+     */
+    private static class FailingContext extends ContextWrapper {
+        FailingContext(Context base) {
+            super(base);
+        }
+
+        @Override
+        public Context getApplicationContext() {
+            return this;
+        }
+
+        @Override
+        public AssetManager getAssets() {
+            throw new IllegalStateException("No assets");
+        }
+    }
+
+    /**
+     * Context whose first asset access waits until the latch is released.
+     */
+    private static class BlockingContext extends ContextWrapper {
+        private final CountDownLatch release;
+
+        BlockingContext(Context base, CountDownLatch release) {
+            super(base);
+            this.release = release;
+        }
+
+        @Override
+        public Context getApplicationContext() {
+            return this;
+        }
+
+        @Override
+        public AssetManager getAssets() {
+            try {
+                release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return getBaseContext().getAssets();
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package ru.voboost.components.i18n;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import androidx.annotation.Nullable;
+import androidx.compose.runtime.Immutable;
+
+/**
+ * Immutable localized text: one string per {@link Language}.
+ *
+ * <p>
+ * Texts are stored in an array indexed by {@link Language#ordinal()}, so a
+ * lookup is an array read instead of hashing a language code. Values are
+ * interned, so equal labels used by many options share one instance. The
+ * fallback text and the script classification used for font selection are
+ * computed once, when the string is created.
+ *
+ * <p>
+ * Missing languages resolve to the fallback text: the first available text in
+ * {@link Language} order. Labels for codes that are not a {@link Language} are
+ * kept for {@link #get(String)} and {@link #toMap()}. A string created by
+ * {@link #ofOrDefault(Map, String)} from a map without any text resolves every
+ * language to its default text.
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * LocalizedString label = LocalizedString.of("Settings", "Настройки");
+ * label.get(Language.RU); // "Настройки"
+ * </pre>
+ */
+@Immutable
+public final class LocalizedString {
+    private static final Language[] LANGUAGES = Language.values();
+
+    // Text per Language.ordinal(), null where no text was given
+    private final String[] texts;
+
+    // Texts for codes outside the Language enum, null if there are none
+    @Nullable
+    private final Map<String, String> extraTexts;
+
+    private final String fallback;
+
+    // Bit per Language.ordinal(), set if the resolved text is ASCII-only
+    private final int asciiOnlyMask;
+
+    private LocalizedString(
+            String[] texts,
+            @Nullable Map<String, String> extraTexts,
+            @Nullable String defaultText) {
+        this.texts = texts;
+        this.extraTexts = extraTexts;
+
+        String first = null;
+        for (String text : texts) {
+            if (text != null) {
+                first = text;
+                break;
+            }
+        }
+        if (first == null && extraTexts != null) {
+            first = extraTexts.values().iterator().next();
+        }
+        this.fallback = first != null ? first : defaultText;
+
+        int mask = 0;
+        for (int i = 0; i < texts.length; i++) {
+            if (isAsciiOnly(texts[i] != null ? texts[i] : fallback)) {
+                mask |= 1 << i;
+            }
+        }
+        this.asciiOnlyMask = mask;
+    }
+
+    /**
+     * Creates a localized string from a translation map.
+     *
+     * @param texts translation map: language code → localized text
+     * @return the localized string
+     * @throws IllegalArgumentException if the map is null or has no text
+     */
+    public static LocalizedString of(Map<String, String> texts) {
+        return ofOrDefault(texts, null);
+    }
+
+    /**
+     * Creates a localized string from a translation map whose values may all be
+     * null. Such a map resolves every language to the default text, which is
+     * how the Map constructors of {@code RadioButton} and {@code TabItem} fall
+     * back to the option value.
+     *
+     * @param texts       translation map: language code → localized text
+     * @param defaultText text for every language if the map has no text, or null
+     * @return the localized string
+     * @throws IllegalArgumentException if the map is null or empty, or has no
+     *                                  text and defaultText is null
+     */
+    public static LocalizedString ofOrDefault(
+            Map<String, String> texts, @Nullable String defaultText) {
+        if (texts == null || texts.isEmpty()) {
+            throw new IllegalArgumentException("Localized texts cannot be null or empty");
+        }
+
+        String[] byLanguage = new String[LANGUAGES.length];
+        Map<String, String> extra = null;
+        for (Map.Entry<String, String> entry : texts.entrySet()) {
+            String text = entry.getValue();
+            if (text == null) {
+                continue;
+            }
+
+            Language language = find(entry.getKey());
+            if (language != null) {
+                byLanguage[language.ordinal()] = text.intern();
+            } else {
+                if (extra == null) {
+                    extra = new HashMap<>(4);
+                }
+                extra.put(entry.getKey(), text.intern());
+            }
+        }
+
+        if (extra == null && allNull(byLanguage) && defaultText == null) {
+            throw new IllegalArgumentException("Localized texts cannot be null or empty");
+        }
+
+        return new LocalizedString(
+                byLanguage, extra, defaultText != null ? defaultText.intern() : null);
+    }
+
+    /**
+     * Creates a localized string for the built-in languages.
+     *
+     * @param en English text
+     * @param ru Russian text
+     * @return the localized string
+     * @throws IllegalArgumentException if both texts are null
+     */
+    public static LocalizedString of(@Nullable String en, @Nullable String ru) {
+        String[] byLanguage = new String[LANGUAGES.length];
+        byLanguage[Language.EN.ordinal()] = en != null ? en.intern() : null;
+        byLanguage[Language.RU.ordinal()] = ru != null ? ru.intern() : null;
+
+        if (allNull(byLanguage)) {
+            throw new IllegalArgumentException("Localized texts cannot be null or empty");
+        }
+
+        return new LocalizedString(byLanguage, null, null);
+    }
+
+    /**
+     * Returns the text for the language.
+     *
+     * @param language the language
+     * @return the localized text, or the fallback text if the language is missing
+     */
+    public String get(Language language) {
+        String text = texts[language.ordinal()];
+        return text != null ? text : fallback;
+    }
+
+    /**
+     * Returns the text for the language code.
+     *
+     * @param code language code (e.g. "en", "ru")
+     * @return the localized text, or the fallback text if the code is missing
+     */
+    public String get(String code) {
+        String text = getExact(code);
+        return text != null ? text : fallback;
+    }
+
+    /**
+     * Checks whether a text was given for the language (not the fallback).
+     *
+     * @param language the language
+     * @return true if the language has its own text
+     */
+    public boolean has(Language language) {
+        return texts[language.ordinal()] != null;
+    }
+
+    /**
+     * Checks whether a text was given for the language code (not the fallback).
+     *
+     * @param code language code (e.g. "en", "ru")
+     * @return true if the code has its own text
+     */
+    public boolean has(String code) {
+        return getExact(code) != null;
+    }
+
+    /**
+     * Checks whether {@link #get(Language)} contains only ASCII characters.
+     *
+     * <p>
+     * Precomputed, so renderers can pick the bold font variant without
+     * scanning the text.
+     *
+     * @param language the language
+     * @return true if the text for the language is ASCII-only
+     */
+    public boolean isAsciiOnly(Language language) {
+        return (asciiOnlyMask & (1 << language.ordinal())) != 0;
+    }
+
+    /**
+     * Returns the text used for missing languages.
+     *
+     * @return the fallback text
+     */
+    public String getFallback() {
+        return fallback;
+    }
+
+    /**
+     * Returns the texts as a new translation map.
+     *
+     * @return map of language code to localized text
+     */
+    public Map<String, String> toMap() {
+        Map<String, String> map = new HashMap<>(8);
+        for (int i = 0; i < texts.length; i++) {
+            if (texts[i] != null) {
+                map.put(LANGUAGES[i].getCode(), texts[i]);
+            }
+        }
+        if (extraTexts != null) {
+            map.putAll(extraTexts);
+        }
+        return map;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null || getClass() != obj.getClass())
+            return false;
+
+        LocalizedString that = (LocalizedString) obj;
+        return Arrays.equals(texts, that.texts)
+                && Objects.equals(fallback, that.fallback)
+                && (extraTexts == null
+                        ? that.extraTexts == null
+                        : extraTexts.equals(that.extraTexts));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(texts) * 31 + (extraTexts != null ? extraTexts.hashCode() : 0);
+    }
+
+    @Override
+    public String toString() {
+        return "LocalizedString" + toMap();
+    }
+
+    @Nullable
+    private String getExact(String code) {
+        Language language = find(code);
+        if (language != null) {
+            return texts[language.ordinal()];
+        }
+        return extraTexts != null ? extraTexts.get(code) : null;
+    }
+
+    @Nullable
+    private static Language find(String code) {
+        for (Language language : LANGUAGES) {
+            if (language.getCode().equals(code)) {
+                return language;
+            }
+        }
+        return null;
+    }
+
+    // Scans directly instead of going through Font.isAsciiOnly: the mask is
+    // computed once per string, so memoizing it would only take Font's lock and
+    // evict entries that ad-hoc callers of Font.getBold(Context, String) reuse
+    private static boolean isAsciiOnly(@Nullable String text) {
+        if (text == null) {
+            return true;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 127) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean allNull(String[] values) {
+        for (String value : values) {
+            if (value != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
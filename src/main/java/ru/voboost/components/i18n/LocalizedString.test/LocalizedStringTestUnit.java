@@ -0,0 +1,107 @@
+package ru.voboost.components.i18n;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import ru.voboost.components.radio.RadioButton;
+import ru.voboost.components.tabs.TabItem;
+
+/**
+ * Unit tests for LocalizedString.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = {33})
+public class LocalizedStringTestUnit {
+
+    @Test
+    public void testLookupByLanguageAndCode() {
+        LocalizedString label = LocalizedString.of("Settings", "Настройки");
+
+        assertEquals("Settings", label.get(Language.EN));
+        assertEquals("Настройки", label.get(Language.RU));
+        assertEquals("Настройки", label.get("ru"));
+        assertTrue(label.has(Language.RU));
+    }
+
+    @Test
+    public void testFallbackToFirstLanguage() {
+        Map<String, String> texts = new HashMap<>();
+        texts.put("en", "English Only");
+        LocalizedString label = LocalizedString.of(texts);
+
+        assertFalse(label.has(Language.RU));
+        assertEquals("English Only", label.get(Language.RU));
+        assertEquals("English Only", label.get("de"));
+        assertTrue(label.isAsciiOnly(Language.RU));
+    }
+
+    @Test
+    public void testScriptFlagsArePrecomputed() {
+        LocalizedString label = LocalizedString.of("Store", "Магазин");
+
+        assertTrue(label.isAsciiOnly(Language.EN));
+        assertFalse(label.isAsciiOnly(Language.RU));
+    }
+
+    @Test
+    public void testValuesAreInterned() {
+        LocalizedString first = LocalizedString.of(new String("Auto"), new String("Авто"));
+        LocalizedString second = LocalizedString.of(new String("Auto"), new String("Авто"));
+
+        assertSame(first.get(Language.EN), second.get(Language.EN));
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    public void testMapRoundTripKeepsUnknownCodes() {
+        Map<String, String> texts = new HashMap<>();
+        texts.put("en", "Yes");
+        texts.put("ru", "Да");
+        texts.put("de", "Ja");
+        LocalizedString label = LocalizedString.of(texts);
+
+        assertEquals("Ja", label.get("de"));
+        assertEquals(texts, label.toMap());
+    }
+
+    @Test
+    public void testAllNullMapFallsBackToDefault() {
+        Map<String, String> texts = new HashMap<>();
+        texts.put("en", null);
+        texts.put("ru", null);
+
+        LocalizedString label = LocalizedString.ofOrDefault(texts, "wifi");
+        assertFalse(label.has(Language.EN));
+        assertEquals("wifi", label.get(Language.RU));
+        assertEquals("wifi", label.getFallback());
+
+        // The Map adapters keep falling back to the value
+        assertEquals("wifi", new RadioButton("wifi", texts).getText(Language.EN));
+        assertEquals("wifi", new TabItem("wifi", texts).getText("ru"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAllNullMapRejectedWithoutDefault() {
+        Map<String, String> texts = new HashMap<>();
+        texts.put("en", null);
+        LocalizedString.of(texts);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyMapRejected() {
+        LocalizedString.of(new HashMap<>());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoTextsRejected() {
+        LocalizedString.of(null, null);
+    }
+}
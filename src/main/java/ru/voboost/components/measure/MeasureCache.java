@@ -0,0 +1,136 @@
+package ru.voboost.components.measure;
+
+/**
+ * Memoizes the result of a component's {@code onMeasure}.
+ *
+ * <p>
+ * A view keeps its force-layout flag for the whole layout pass, so containers
+ * that measure a child more than once per pass (ScrollView, LinearLayout with
+ * weights, nested components) re-run {@code onMeasure} each time even when
+ * nothing changed. The cache stores the last measure specs and the measured
+ * size and answers repeated requests without measuring again.
+ *
+ * <p>
+ * The owning view invalidates the cache from {@code requestLayout()} and
+ * {@code forceLayout()}. Every content change that can affect the size already
+ * requests layout, and for a {@code ViewGroup} this also covers children
+ * requesting layout, since the request travels up through all parents.
+ * Parents that re-lay out children without a request (list containers, custom
+ * layouts) call {@code forceLayout()}, which does not go through
+ * {@code requestLayout()}.
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * protected void onMeasure(int widthSpec, int heightSpec) {
+ *     if (measureCache.isValidFor(widthSpec, heightSpec)) {
+ *         setMeasuredDimension(measureCache.getWidth(), measureCache.getHeight());
+ *         return;
+ *     }
+ *     // ... measure ...
+ *     measureCache.store(widthSpec, heightSpec, getMeasuredWidth(), getMeasuredHeight());
+ * }
+ *
+ * public void requestLayout() {
+ *     if (measureCache != null) {
+ *         measureCache.invalidate();
+ *     }
+ *     super.requestLayout();
+ * }
+ *
+ * public void forceLayout() {
+ *     if (measureCache != null) {
+ *         measureCache.invalidate();
+ *     }
+ *     super.forceLayout();
+ * }
+ * </pre>
+ */
+public final class MeasureCache {
+    private int widthSpec;
+    private int heightSpec;
+    private int width;
+    private int height;
+    private boolean isValid = false;
+
+    // Statistics
+    private int passCount = 0;
+    private int hitCount = 0;
+
+    /**
+     * Checks whether the stored result can be reused for the given specs.
+     * Counts the request as a cache hit when it can.
+     *
+     * @param widthSpec  width measure spec
+     * @param heightSpec height measure spec
+     * @return true if the stored size is valid for these specs
+     */
+    public boolean isValidFor(int widthSpec, int heightSpec) {
+        if (isValid && this.widthSpec == widthSpec && this.heightSpec == heightSpec) {
+            hitCount++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Stores the result of a full measure pass.
+     *
+     * @param widthSpec  width measure spec
+     * @param heightSpec height measure spec
+     * @param width      measured width
+     * @param height     measured height
+     */
+    public void store(int widthSpec, int heightSpec, int width, int height) {
+        this.widthSpec = widthSpec;
+        this.heightSpec = heightSpec;
+        this.width = width;
+        this.height = height;
+        this.isValid = true;
+        passCount++;
+    }
+
+    /**
+     * Drops the stored result, so the next request measures again.
+     */
+    public void invalidate() {
+        isValid = false;
+    }
+
+    /**
+     * Returns the stored measured width.
+     *
+     * @return width in pixels
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the stored measured height.
+     *
+     * @return height in pixels
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns how many full measure passes were performed.
+     *
+     * @return measure pass count
+     */
+    public int getPassCount() {
+        return passCount;
+    }
+
+    /**
+     * Returns how many measure requests were answered from the cache.
+     *
+     * @return cache hit count
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+}
@@ -2,6 +2,7 @@ package ru.voboost.components.panel;
 
 import android.content.Context;
 import android.graphics.Canvas;
+import android.graphics.Color;
 import android.graphics.Outline;
 import android.graphics.Paint;
 import android.graphics.RectF;
@@ -19,6 +20,7 @@ import ru.voboost.components.i18n.ILocalizable;
 import ru.voboost.components.i18n.Language;
 import ru.voboost.components.theme.IThemable;
 import ru.voboost.components.theme.Theme;
+import ru.voboost.components.theme.ThemeTransaction;
 
 /**
  * Panel component - A customizable container with rounded corners and shadow.
@@ -31,9 +33,11 @@ import ru.voboost.components.theme.Theme;
  * <li>Border</li>
  * <li>Multi-theme support (Free/Dreamer, Light/Dark)</li>
  * <li>Internal vertical scrolling logic</li>
+ * <li>Optional virtualized content supplied by a {@link PanelAdapter}</li>
  * </ul>
  */
-public class Panel extends FrameLayout implements IThemable, ILocalizable {
+public class Panel extends FrameLayout
+        implements IThemable, ILocalizable, ThemeTransaction.Participant {
 
     // Theme & Language
     private Theme currentTheme;
@@ -47,10 +51,17 @@ public class Panel extends FrameLayout implements IThemable, ILocalizable {
     private RectF backgroundRect;
     private RectF borderRect;
 
+    // Render plan, resolved per theme: passes without visible effect are skipped
+    private boolean isBackgroundDrawn = false;
+    private boolean isBorderDrawn = false;
+
     // Internal views
     private ScrollView scrollView;
     private LinearLayout contentLayout;
 
+    // Virtualized content, created when an adapter is first set
+    private VirtualContentView virtualContent;
+
     // ============================================================
     // CONSTRUCTORS
     // ============================================================
@@ -80,8 +91,8 @@ public class Panel extends FrameLayout implements IThemable, ILocalizable {
     // ============================================================
 
     private void init(Context context) {
-        // Enable custom drawing
-        setWillNotDraw(false);
+        // Nothing is drawn until a theme resolves a visible background or border
+        setWillNotDraw(true);
 
         // Initialize paints
         backgroundPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
@@ -95,19 +106,24 @@ public class Panel extends FrameLayout implements IThemable, ILocalizable {
         backgroundRect = new RectF();
         borderRect = new RectF();
 
-        // Setup OutlineProvider for native shadow and clipping
-        setOutlineProvider(new ViewOutlineProvider() {
-            @Override
-            public void getOutline(View view, Outline outline) {
-                int left = view.getPaddingLeft();
-                int top = view.getPaddingTop();
-                int right = view.getWidth() - view.getPaddingRight();
-                int bottom = view.getHeight() - view.getPaddingBottom();
-                outline.setRoundRect(left, top, right, bottom, PanelTheme.CORNER_RADIUS);
-            }
-        });
-        setClipToOutline(true);
-        setElevation(PanelTheme.ELEVATION);
+        // Outline for native shadow and clipping, only when it has a visible
+        // effect: a square, flat panel needs neither
+        if (PanelTheme.CORNER_RADIUS > 0 || PanelTheme.ELEVATION > 0) {
+            setOutlineProvider(new ViewOutlineProvider() {
+                @Override
+                public void getOutline(View view, Outline outline) {
+                    int left = view.getPaddingLeft();
+                    int top = view.getPaddingTop();
+                    int right = view.getWidth() - view.getPaddingRight();
+                    int bottom = view.getHeight() - view.getPaddingBottom();
+                    outline.setRoundRect(left, top, right, bottom, PanelTheme.CORNER_RADIUS);
+                }
+            });
+            setClipToOutline(PanelTheme.CORNER_RADIUS > 0);
+            setElevation(PanelTheme.ELEVATION);
+        } else {
+            setOutlineProvider(null);
+        }
 
         // Setup internal ScrollView
         scrollView = new ScrollView(context);
@@ -145,7 +161,7 @@ public class Panel extends FrameLayout implements IThemable, ILocalizable {
 
     @Override
     public void removeView(View view) {
-        if (contentLayout != null && view != scrollView) {
+        if (contentLayout != null && view != scrollView && view != virtualContent) {
             contentLayout.removeView(view);
         } else {
             super.removeView(view);
@@ -165,14 +181,74 @@ public class Panel extends FrameLayout implements IThemable, ILocalizable {
     // PUBLIC API
     // ============================================================
 
+    /**
+     * Switches the panel to virtualized content supplied by an adapter, or
+     * back to the regular scrolling content with null.
+     *
+     * <p>
+     * In virtualized mode only the rows inside the viewport plus a small
+     * prefetch window are attached, and views of rows scrolled out of it are
+     * reused for rows scrolling in. Views added with {@code addView} are
+     * hidden while an adapter is set.
+     *
+     * @param adapter the adapter, or null to leave virtualized mode
+     */
+    public void setAdapter(@Nullable PanelAdapter adapter) {
+        if (adapter == null) {
+            if (virtualContent != null) {
+                virtualContent.setAdapter(null);
+                virtualContent.setVisibility(GONE);
+            }
+            scrollView.setVisibility(VISIBLE);
+            return;
+        }
+
+        if (virtualContent == null) {
+            virtualContent = new VirtualContentView(getContext());
+            super.addView(virtualContent, -1, new FrameLayout.LayoutParams(
+                    ViewGroup.LayoutParams.MATCH_PARENT,
+                    ViewGroup.LayoutParams.MATCH_PARENT));
+        }
+
+        // Rows bound from now on get the panel's theme and language
+        if (currentTheme != null) {
+            virtualContent.propagateTheme(currentTheme);
+        }
+        if (currentLanguage != null) {
+            virtualContent.propagateLanguage(currentLanguage);
+        }
+
+        scrollView.setVisibility(GONE);
+        virtualContent.setVisibility(VISIBLE);
+        virtualContent.setAdapter(adapter);
+    }
+
+    /**
+     * Returns the adapter of the virtualized content.
+     *
+     * @return the adapter, or null if the panel is not virtualized
+     */
+    @Nullable
+    public PanelAdapter getAdapter() {
+        return virtualContent != null ? virtualContent.getAdapter() : null;
+    }
+
+    /**
+     * Returns the virtualized content host.
+     *
+     * @return the host, or null if no adapter was ever set
+     */
+    @Nullable
+    VirtualContentView getVirtualContent() {
+        return virtualContent;
+    }
+
     @Override
     public void setTheme(Theme theme) {
         if (theme == null) {
             throw new IllegalArgumentException("Theme cannot be null");
         }
-        this.currentTheme = theme;
-        updateColors();
-        invalidate();
+        ThemeTransaction.requestUpdate(this, applyTheme(theme));
     }
 
     public Theme getCurrentTheme() {
@@ -184,20 +260,54 @@ public class Panel extends FrameLayout implements IThemable, ILocalizable {
         if (language == null) {
             throw new IllegalArgumentException("Language cannot be null");
         }
-        this.currentLanguage = language;
-        invalidate();
+        ThemeTransaction.requestUpdate(this, applyLanguage(language));
     }
 
     public Language getCurrentLanguage() {
         return currentLanguage;
     }
 
+    @Override
+    public int applyTransaction(@Nullable Theme theme, @Nullable Language language) {
+        int flags = 0;
+        if (theme != null) {
+            flags |= applyTheme(theme);
+        }
+        if (language != null) {
+            flags |= applyLanguage(language);
+        }
+        return flags;
+    }
+
+    private int applyTheme(Theme theme) {
+        if (theme == this.currentTheme) {
+            return 0;
+        }
+
+        this.currentTheme = theme;
+        updateColors();
+        return ThemeTransaction.CHANGED_DRAW;
+    }
+
+    private int applyLanguage(Language language) {
+        if (language == this.currentLanguage) {
+            return 0;
+        }
+
+        this.currentLanguage = language;
+        return ThemeTransaction.CHANGED_DRAW;
+    }
+
     @Override
     public void propagateTheme(Theme theme) {
         if (theme == null || contentLayout == null) {
             return;
         }
 
+        if (virtualContent != null) {
+            virtualContent.propagateTheme(theme);
+        }
+
         for (int i = 0; i < contentLayout.getChildCount(); i++) {
             View child = contentLayout.getChildAt(i);
             if (child instanceof IThemable) {
@@ -213,6 +323,10 @@ public class Panel extends FrameLayout implements IThemable, ILocalizable {
             return;
         }
 
+        if (virtualContent != null) {
+            virtualContent.propagateLanguage(language);
+        }
+
         for (int i = 0; i < contentLayout.getChildCount(); i++) {
             View child = contentLayout.getChildAt(i);
             if (child instanceof ILocalizable) {
@@ -228,7 +342,8 @@ public class Panel extends FrameLayout implements IThemable, ILocalizable {
 
     @Override
     protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
-        super.onLayout(changed, left, top, right, bottom);
+        // Children are laid out once, at the padded bounds, below: a FrameLayout
+        // pass first would lay out the virtualized rows twice per layout
 
         // Update drawing bounds to respect padding
         float padLeft = getPaddingLeft();
@@ -246,26 +361,31 @@ public class Panel extends FrameLayout implements IThemable, ILocalizable {
                 padRight - borderOffset,
                 padBottom - borderOffset);
 
-        // Adjust scroll view to be inside the padding layout
-        scrollView.layout((int) padLeft, (int) padTop, (int) padRight, (int) padBottom);
+        // Scroll view and virtualized content fill the padding layout; FrameLayout
+        // already measured them at this size
+        if (scrollView.getVisibility() != GONE) {
+            scrollView.layout((int) padLeft, (int) padTop, (int) padRight, (int) padBottom);
+        }
+        if (virtualContent != null && virtualContent.getVisibility() != GONE) {
+            virtualContent.layout((int) padLeft, (int) padTop, (int) padRight, (int) padBottom);
+        }
     }
 
     @Override
     protected void dispatchDraw(Canvas canvas) {
-        if (currentTheme != null) {
+        if (isBackgroundDrawn) {
             drawBackground(canvas);
         }
 
         // Draw ScrollView and children
         super.dispatchDraw(canvas);
 
-        if (currentTheme != null) {
+        if (isBorderDrawn) {
             drawBorder(canvas);
         }
     }
 
     private void drawBackground(Canvas canvas) {
-        backgroundPaint.setColor(PanelTheme.getBackground(currentTheme));
         canvas.drawRoundRect(
                 backgroundRect,
                 PanelTheme.CORNER_RADIUS,
@@ -274,7 +394,6 @@ public class Panel extends FrameLayout implements IThemable, ILocalizable {
     }
 
     private void drawBorder(Canvas canvas) {
-        borderPaint.setColor(PanelTheme.getBorder(currentTheme));
         canvas.drawRoundRect(
                 borderRect, PanelTheme.CORNER_RADIUS, PanelTheme.CORNER_RADIUS, borderPaint);
     }
@@ -289,5 +408,35 @@ public class Panel extends FrameLayout implements IThemable, ILocalizable {
         }
         backgroundPaint.setColor(PanelTheme.getBackground(currentTheme));
         borderPaint.setColor(PanelTheme.getBorder(currentTheme));
+        updateRenderPlan();
+    }
+
+    /**
+     * Resolves which drawing passes have a visible effect for the current
+     * theme. Transparent colors and a zero border width skip their pass, and
+     * a panel with nothing to draw skips its own draw entirely.
+     */
+    private void updateRenderPlan() {
+        isBackgroundDrawn = Color.alpha(backgroundPaint.getColor()) != 0;
+        isBorderDrawn = PanelTheme.BORDER_WIDTH > 0 && Color.alpha(borderPaint.getColor()) != 0;
+        setWillNotDraw(!isBackgroundDrawn && !isBorderDrawn);
+    }
+
+    /**
+     * Checks whether the background pass is drawn for the current theme.
+     *
+     * @return true if the background is visible
+     */
+    boolean isBackgroundDrawn() {
+        return isBackgroundDrawn;
+    }
+
+    /**
+     * Checks whether the border pass is drawn for the current theme.
+     *
+     * @return true if the border is visible
+     */
+    boolean isBorderDrawn() {
+        return isBorderDrawn;
     }
 }
@@ -2,12 +2,24 @@ package ru.voboost.components.panel;
 
 import static org.junit.Assert.*;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import android.content.Context;
+import android.view.View;
+import android.widget.OverScroller;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowSystemClock;
 
+import ru.voboost.components.i18n.Language;
+import ru.voboost.components.section.Section;
 import ru.voboost.components.theme.Theme;
+import ru.voboost.components.theme.ThemeTransaction;
 
 /**
  * Unit tests for the Panel component.
@@ -53,4 +65,270 @@ public class PanelTestUnit {
         // Theme should be updated
         assertEquals(Theme.FREE_DARK, panel.getCurrentTheme());
     }
+
+    @Test
+    public void testRenderPlanSkipsInvisiblePasses() {
+        // Every theme has a transparent, square, flat panel
+        for (Theme theme : Theme.values()) {
+            panel.setTheme(theme);
+            assertFalse(panel.isBackgroundDrawn());
+            assertFalse(panel.isBorderDrawn());
+            assertTrue("Nothing to draw for " + theme, panel.willNotDraw());
+        }
+
+        assertNull("Square flat panel needs no outline", panel.getOutlineProvider());
+        assertFalse(panel.getClipToOutline());
+        assertEquals(0f, panel.getElevation(), 0f);
+    }
+
+    @Test
+    public void testVirtualizedContentAttachesOnlyVisibleRows() {
+        panel.setTheme(Theme.FREE_DARK);
+        panel.propagateTheme(Theme.FREE_DARK);
+        panel.setLanguage(Language.EN);
+        panel.propagateLanguage(Language.EN);
+        panel.setAdapter(new SectionAdapter(1000));
+
+        panel.measure(
+                View.MeasureSpec.makeMeasureSpec(1400, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(600, View.MeasureSpec.EXACTLY));
+        panel.layout(0, 0, 1400, 600);
+
+        VirtualContentView content = panel.getVirtualContent();
+        assertNotNull(content);
+
+        // Sections are 213px high: 3 visible rows plus one prefetched below
+        int attached = content.getAttachedCount();
+        assertTrue("Only the window should be attached, was " + attached, attached <= 4);
+        assertEquals(Theme.FREE_DARK, ((Section) content.getChildAt(0)).getCurrentTheme());
+
+        // Scrolling through the page reuses detached views
+        for (int y = 0; y < 100 * 213; y += 150) {
+            content.scrollTo(0, y);
+        }
+        assertTrue("Attached rows should stay bounded", content.getAttachedCount() <= 6);
+        assertTrue(
+                "Views should be reused, created " + content.getCreatedCount(),
+                content.getCreatedCount() <= 6 + VirtualContentView.MAX_POOLED_PER_TYPE);
+
+        // Attached rows are bound to the rows at the scroll position
+        Section first = (Section) content.getChildAt(0);
+        assertTrue(first.getTitleText().startsWith("Section "));
+        assertTrue(first.getTop() <= content.getScrollY() + 600);
+    }
+
+    @Test
+    public void testVirtualizedRowsAreLaidOutOnceAtPaddedWidth() {
+        panel.setPadding(20, 20, 20, 20);
+        panel.setAdapter(new SectionAdapter(100));
+
+        panel.measure(
+                View.MeasureSpec.makeMeasureSpec(1400, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(600, View.MeasureSpec.EXACTLY));
+        panel.layout(0, 0, 1400, 600);
+
+        VirtualContentView content = panel.getVirtualContent();
+        assertEquals(1360, content.getWidth());
+        assertTrue(content.getChildCount() > 0);
+        for (int i = 0; i < content.getChildCount(); i++) {
+            Section row = (Section) content.getChildAt(i);
+            assertEquals(1360, row.getMeasuredWidth());
+            assertEquals("Rows should be measured once", 1, row.getMeasurePassCount());
+        }
+    }
+
+    @Test
+    public void testTransactionAppliesToRowsBoundLater() {
+        panel.setTheme(Theme.FREE_DARK);
+        panel.propagateTheme(Theme.FREE_DARK);
+        panel.setLanguage(Language.EN);
+        panel.propagateLanguage(Language.EN);
+        panel.setAdapter(new SectionAdapter(100));
+
+        panel.measure(
+                View.MeasureSpec.makeMeasureSpec(1400, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(600, View.MeasureSpec.EXACTLY));
+        panel.layout(0, 0, 1400, 600);
+
+        ThemeTransaction.begin()
+                .setTheme(Theme.FREE_LIGHT)
+                .setLanguage(Language.RU)
+                .commit(panel);
+
+        // Scroll far enough to detach every row and bind pooled and new ones
+        VirtualContentView content = panel.getVirtualContent();
+        content.scrollTo(0, 50 * 213);
+
+        assertTrue(content.getChildCount() > 0);
+        for (int i = 0; i < content.getChildCount(); i++) {
+            Section row = (Section) content.getChildAt(i);
+            assertEquals(Theme.FREE_LIGHT, row.getCurrentTheme());
+            assertEquals(Language.RU, row.getCurrentLanguage());
+        }
+    }
+
+    @Test
+    public void testUpwardFlingKeepsContentInPlaceWhenRowsAreMeasured() {
+        // Rows are taller than the estimate, so every row bound above the
+        // viewport shifts the scroll position
+        int rowHeight = VirtualContentView.ESTIMATED_ITEM_HEIGHT + 117;
+        panel.setAdapter(new FixedHeightAdapter(100, rowHeight));
+        panel.measure(
+                View.MeasureSpec.makeMeasureSpec(1400, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(600, View.MeasureSpec.EXACTLY));
+        panel.layout(0, 0, 1400, 600);
+
+        VirtualContentView content = panel.getVirtualContent();
+        content.scrollTo(0, 80 * VirtualContentView.ESTIMATED_ITEM_HEIGHT);
+
+        // A scroller started at the same instant tells how far the fling moves
+        int velocityY = -4000;
+        OverScroller reference = new OverScroller(panel.getContext());
+        reference.fling(0, 0, 0, velocityY, 0, 0, Integer.MIN_VALUE / 2, Integer.MAX_VALUE / 2);
+        content.fling(velocityY);
+
+        Map<Integer, Integer> previousTops = screenTops(content);
+        int previousY = 0;
+        int frames = 0;
+        while (!reference.isFinished() && frames++ < 200) {
+            ShadowSystemClock.advanceBy(Duration.ofMillis(16));
+            reference.computeScrollOffset();
+            content.computeScroll();
+
+            // Rows on screen in both frames move exactly by the fling step
+            int step = reference.getCurrY() - previousY;
+            Map<Integer, Integer> tops = screenTops(content);
+            for (Map.Entry<Integer, Integer> entry : tops.entrySet()) {
+                Integer previousTop = previousTops.get(entry.getKey());
+                if (previousTop != null) {
+                    assertEquals(
+                            "Row " + entry.getKey() + " jumped in frame " + frames,
+                            previousTop - step,
+                            (int) entry.getValue());
+                }
+            }
+            previousTops = tops;
+            previousY = reference.getCurrY();
+        }
+        assertTrue("The fling should have moved the content", previousY < 0);
+    }
+
+    @Test
+    public void testRowAboveViewportChangingHeightKeepsContentInPlace() {
+        int rowHeight = VirtualContentView.ESTIMATED_ITEM_HEIGHT;
+        panel.setAdapter(new FixedHeightAdapter(100, rowHeight));
+        panel.measure(
+                View.MeasureSpec.makeMeasureSpec(1400, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(600, View.MeasureSpec.EXACTLY));
+        panel.layout(0, 0, 1400, 600);
+
+        // Row 9 is the prefetched row right above the viewport
+        VirtualContentView content = panel.getVirtualContent();
+        content.scrollTo(0, 10 * rowHeight + 100);
+        View above = null;
+        for (int i = 0; i < content.getChildCount(); i++) {
+            if ((Integer) content.getChildAt(i).getTag() == 9) {
+                above = content.getChildAt(i);
+            }
+        }
+        assertNotNull(above);
+        Map<Integer, Integer> before = screenTops(content);
+        int scrollY = content.getScrollY();
+
+        above.setMinimumHeight(rowHeight + 50);
+        panel.measure(
+                View.MeasureSpec.makeMeasureSpec(1400, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(600, View.MeasureSpec.EXACTLY));
+        panel.layout(0, 0, 1400, 600);
+
+        assertEquals(rowHeight + 50, above.getHeight());
+        assertEquals(scrollY + 50, content.getScrollY());
+        Map<Integer, Integer> after = screenTops(content);
+        for (Map.Entry<Integer, Integer> entry : after.entrySet()) {
+            Integer previousTop = before.get(entry.getKey());
+            if (entry.getKey() > 9 && previousTop != null) {
+                assertEquals("Row " + entry.getKey() + " moved", previousTop, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns the top of each attached row relative to the viewport, by position.
+     */
+    private static Map<Integer, Integer> screenTops(VirtualContentView content) {
+        Map<Integer, Integer> tops = new HashMap<>();
+        for (int i = 0; i < content.getChildCount(); i++) {
+            View child = content.getChildAt(i);
+            tops.put((Integer) child.getTag(), child.getTop() - content.getScrollY());
+        }
+        return tops;
+    }
+
+    @Test
+    public void testSetAdapterNullRestoresRegularContent() {
+        panel.setAdapter(new SectionAdapter(10));
+        assertNotNull(panel.getAdapter());
+
+        panel.setAdapter(null);
+        assertNull(panel.getAdapter());
+        assertEquals(View.GONE, panel.getVirtualContent().getVisibility());
+    }
+
+    /**
+     * Adapter with plain rows of one height, tagged with their position.
+     */
+    private static class FixedHeightAdapter extends PanelAdapter {
+        private final int count;
+        private final int height;
+
+        FixedHeightAdapter(int count, int height) {
+            this.count = count;
+            this.height = height;
+        }
+
+        @Override
+        public int getItemCount() {
+            return count;
+        }
+
+        @Override
+        public View createView(Context context, int viewType) {
+            View view = new View(context);
+            view.setMinimumHeight(height);
+            return view;
+        }
+
+        @Override
+        public void bindView(View view, int position) {
+            view.setTag(position);
+        }
+    }
+
+    /**
+     * Adapter with one titled Section per row.
+     */
+    private static class SectionAdapter extends PanelAdapter {
+        private final int count;
+
+        SectionAdapter(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public int getItemCount() {
+            return count;
+        }
+
+        @Override
+        public View createView(Context context, int viewType) {
+            return new Section(context);
+        }
+
+        @Override
+        public void bindView(View view, int position) {
+            Map<String, String> title = new HashMap<>();
+            title.put("en", "Section " + position);
+            ((Section) view).setTitle(title);
+        }
+    }
 }
@@ -0,0 +1,91 @@
+package ru.voboost.components.panel;
+
+import android.content.Context;
+import android.view.View;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Supplies the rows of a virtualized {@link Panel}.
+ *
+ * <p>
+ * With an adapter set, the panel attaches only the rows inside the viewport
+ * plus a small prefetch window. Rows scrolled out of it are detached and kept
+ * for reuse: {@link #createView(Context, int)} is called only when no detached
+ * view of the requested type is available, and {@link #bindView(View, int)}
+ * must fully overwrite the content of a reused view (title, buttons,
+ * selection). Theme and language are applied by the panel after binding.
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * panel.setAdapter(new PanelAdapter() {
+ *     public int getItemCount() {
+ *         return specs.size();
+ *     }
+ *
+ *     public View createView(Context context, int viewType) {
+ *         return new Section(context);
+ *     }
+ *
+ *     public void bindView(View view, int position) {
+ *         ((Section) view).setTitle(specs.get(position).title);
+ *     }
+ * });
+ * </pre>
+ */
+public abstract class PanelAdapter {
+    @Nullable
+    private Runnable observer;
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return row count
+     */
+    public abstract int getItemCount();
+
+    /**
+     * Returns the view type of a row. Detached views are only reused for rows
+     * of the same type.
+     *
+     * @param position row position
+     * @return view type, 0 by default
+     */
+    public int getItemViewType(int position) {
+        return 0;
+    }
+
+    /**
+     * Creates a new view for rows of the given type.
+     *
+     * @param context  context of the panel
+     * @param viewType view type from {@link #getItemViewType(int)}
+     * @return the new view
+     */
+    public abstract View createView(Context context, int viewType);
+
+    /**
+     * Fills a new or reused view with the content of a row.
+     *
+     * @param view     a view created for the row's type
+     * @param position row position
+     */
+    public abstract void bindView(View view, int position);
+
+    /**
+     * Notifies the panel that rows were added, removed or changed. Attached
+     * rows are rebound and all row heights are measured again as they scroll
+     * into view.
+     */
+    public final void notifyDataSetChanged() {
+        if (observer != null) {
+            observer.run();
+        }
+    }
+
+    void setObserver(@Nullable Runnable observer) {
+        this.observer = observer;
+    }
+}
@@ -2,6 +2,7 @@ package ru.voboost.components.panel;
 
 import android.graphics.Color;
 
+import ru.voboost.components.theme.Palette;
 import ru.voboost.components.theme.Theme;
 
 /**
@@ -88,6 +89,30 @@ public final class PanelTheme {
     /** Shadow color for the panel - Dreamer Dark */
     public static final int DREAMER_DARK_SHADOW = Color.TRANSPARENT;
 
+    // ============================================================
+    // PALETTE (one row of tokens per theme, in Theme order)
+    // ============================================================
+
+    private static final int BACKGROUND = 0;
+    private static final int BORDER = 1;
+    private static final int SHADOW = 2;
+    private static final int TOKEN_COUNT = 3;
+
+    private static final int[] COLORS = Palette.table(TOKEN_COUNT,
+            FREE_LIGHT_BACKGROUND,
+            FREE_LIGHT_BORDER,
+            FREE_LIGHT_SHADOW,
+            FREE_DARK_BACKGROUND,
+            FREE_DARK_BORDER,
+            FREE_DARK_SHADOW,
+            DREAMER_LIGHT_BACKGROUND,
+            DREAMER_LIGHT_BORDER,
+            DREAMER_LIGHT_SHADOW,
+            DREAMER_DARK_BACKGROUND,
+            DREAMER_DARK_BORDER,
+            DREAMER_DARK_SHADOW
+    );
+
     // ============================================================
     // COLOR GETTERS
     // ============================================================
@@ -99,18 +124,7 @@ public final class PanelTheme {
      * @return the background color
      */
     public static int getBackground(Theme theme) {
-        switch (theme) {
-            case FREE_LIGHT:
-                return FREE_LIGHT_BACKGROUND;
-            case FREE_DARK:
-                return FREE_DARK_BACKGROUND;
-            case DREAMER_LIGHT:
-                return DREAMER_LIGHT_BACKGROUND;
-            case DREAMER_DARK:
-                return DREAMER_DARK_BACKGROUND;
-        }
-        // All enum cases are covered above - this should never be reached
-        throw new IllegalArgumentException("Unknown theme: " + theme);
+        return Palette.get(COLORS, TOKEN_COUNT, BACKGROUND, theme);
     }
 
     /**
@@ -120,18 +134,7 @@ public final class PanelTheme {
      * @return the border color
      */
     public static int getBorder(Theme theme) {
-        switch (theme) {
-            case FREE_LIGHT:
-                return FREE_LIGHT_BORDER;
-            case FREE_DARK:
-                return FREE_DARK_BORDER;
-            case DREAMER_LIGHT:
-                return DREAMER_LIGHT_BORDER;
-            case DREAMER_DARK:
-                return DREAMER_DARK_BORDER;
-        }
-        // All enum cases are covered above - this should never be reached
-        throw new IllegalArgumentException("Unknown theme: " + theme);
+        return Palette.get(COLORS, TOKEN_COUNT, BORDER, theme);
     }
 
     /**
@@ -141,17 +144,6 @@ public final class PanelTheme {
      * @return the shadow color
      */
     public static int getShadow(Theme theme) {
-        switch (theme) {
-            case FREE_LIGHT:
-                return FREE_LIGHT_SHADOW;
-            case FREE_DARK:
-                return FREE_DARK_SHADOW;
-            case DREAMER_LIGHT:
-                return DREAMER_LIGHT_SHADOW;
-            case DREAMER_DARK:
-                return DREAMER_DARK_SHADOW;
-        }
-        // All enum cases are covered above - this should never be reached
-        throw new IllegalArgumentException("Unknown theme: " + theme);
+        return Palette.get(COLORS, TOKEN_COUNT, SHADOW, theme);
     }
 }
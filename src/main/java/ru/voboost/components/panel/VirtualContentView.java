@@ -0,0 +1,479 @@
+package ru.voboost.components.panel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import android.content.Context;
+import android.util.SparseArray;
+import android.util.SparseIntArray;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.Nullable;
+
+import ru.voboost.components.i18n.ILocalizable;
+import ru.voboost.components.i18n.Language;
+import ru.voboost.components.scroll.VerticalScroller;
+import ru.voboost.components.theme.IThemable;
+import ru.voboost.components.theme.Theme;
+import ru.voboost.components.theme.ThemeTransaction;
+
+/**
+ * Scrolling content host of a virtualized {@link Panel}.
+ *
+ * <p>
+ * Rows come from a {@link PanelAdapter}. Only the rows intersecting the
+ * viewport plus {@link #PREFETCH_COUNT} rows above and below are attached;
+ * rows leaving that window are detached into a per-type pool and rebound for
+ * rows entering it. Row tops are kept in a prefix array: measured heights for
+ * rows that were attached at least once, {@link #ESTIMATED_ITEM_HEIGHT} for
+ * the others. Scrolling (drag, fling, clamping) is handled here, so the
+ * number of attached views, measure and layout work stay constant however
+ * long the page is.
+ *
+ * <p>
+ * The theme and language for bound rows are taken from propagation and from
+ * theme transactions alike: a transaction updates the attached rows itself,
+ * pooled and later rows get the new values when they are bound.
+ */
+final class VirtualContentView extends ViewGroup implements ThemeTransaction.Participant {
+    // Rows attached above and below the viewport
+    static final int PREFETCH_COUNT = 1;
+
+    // Height assumed for rows that were never measured (a Section with one Radio)
+    static final int ESTIMATED_ITEM_HEIGHT = 283;
+
+    // Detached views kept per view type
+    static final int MAX_POOLED_PER_TYPE = 4;
+
+    @Nullable
+    private PanelAdapter adapter;
+    private int itemCount = 0;
+
+    // Row geometry: heights (-1 = not measured yet) and prefix tops (count + 1)
+    private int[] heights = new int[0];
+    private int[] tops = new int[1];
+
+    // Attached rows by position, with their view types
+    private final SparseArray<View> attachedViews = new SparseArray<>();
+    private final SparseIntArray attachedTypes = new SparseIntArray();
+
+    // Detached views by view type
+    private final SparseArray<ArrayList<View>> pool = new SparseArray<>();
+    private int createdCount = 0;
+
+    // Theme and language applied to every bound row
+    private Theme currentTheme;
+    private Language currentLanguage;
+
+    // Scrolling
+    private final VerticalScroller scroller;
+    private boolean isFilling = false;
+
+    private final Runnable dataSetObserver = this::onDataSetChanged;
+
+    VirtualContentView(Context context) {
+        super(context);
+
+        scroller = new VerticalScroller(this, this::getMaxScrollY);
+        setVerticalScrollBarEnabled(false);
+        setOverScrollMode(OVER_SCROLL_NEVER);
+    }
+
+    // ============================================================
+    // CONTENT
+    // ============================================================
+
+    void setAdapter(@Nullable PanelAdapter adapter) {
+        if (this.adapter == adapter) {
+            return;
+        }
+
+        if (this.adapter != null) {
+            this.adapter.setObserver(null);
+        }
+
+        // Views of the previous adapter must not be reused for the new one
+        detachAll();
+        pool.clear();
+
+        this.adapter = adapter;
+        if (adapter != null) {
+            adapter.setObserver(dataSetObserver);
+        }
+
+        scroller.stopFling();
+        resetGeometry();
+        super.scrollTo(0, 0);
+        requestLayout();
+    }
+
+    @Nullable
+    PanelAdapter getAdapter() {
+        return adapter;
+    }
+
+    private void onDataSetChanged() {
+        // Rows are rebound and measured again on the next layout
+        detachAll();
+        resetGeometry();
+        scrollTo(0, getScrollY());
+        requestLayout();
+    }
+
+    private void resetGeometry() {
+        itemCount = adapter != null ? adapter.getItemCount() : 0;
+        heights = new int[itemCount];
+        Arrays.fill(heights, -1);
+
+        tops = new int[itemCount + 1];
+        for (int i = 0; i < itemCount; i++) {
+            tops[i + 1] = tops[i] + ESTIMATED_ITEM_HEIGHT;
+        }
+    }
+
+    /**
+     * Records the measured height of a row and shifts the rows below it.
+     *
+     * @return the height change in pixels
+     */
+    private int setItemHeight(int position, int height) {
+        int oldHeight = tops[position + 1] - tops[position];
+        heights[position] = height;
+
+        int delta = height - oldHeight;
+        if (delta != 0) {
+            for (int i = position + 1; i <= itemCount; i++) {
+                tops[i] += delta;
+            }
+        }
+        return delta;
+    }
+
+    int getContentHeight() {
+        return tops[itemCount];
+    }
+
+    int getAttachedCount() {
+        return attachedViews.size();
+    }
+
+    int getCreatedCount() {
+        return createdCount;
+    }
+
+    // ============================================================
+    // THEME AND LANGUAGE
+    // ============================================================
+
+    void propagateTheme(Theme theme) {
+        currentTheme = theme;
+        for (int i = 0; i < attachedViews.size(); i++) {
+            applyTheme(attachedViews.valueAt(i));
+        }
+    }
+
+    void propagateLanguage(Language language) {
+        currentLanguage = language;
+        for (int i = 0; i < attachedViews.size(); i++) {
+            applyLanguage(attachedViews.valueAt(i));
+        }
+    }
+
+    @Override
+    public int applyTransaction(@Nullable Theme theme, @Nullable Language language) {
+        // Attached rows are visited by the transaction; only record the values
+        if (theme != null) {
+            currentTheme = theme;
+        }
+        if (language != null) {
+            currentLanguage = language;
+        }
+        return 0;
+    }
+
+    private void applyTheme(View view) {
+        if (currentTheme != null && view instanceof IThemable) {
+            ((IThemable) view).setTheme(currentTheme);
+            ((IThemable) view).propagateTheme(currentTheme);
+        }
+    }
+
+    private void applyLanguage(View view) {
+        if (currentLanguage != null && view instanceof ILocalizable) {
+            ((ILocalizable) view).setLanguage(currentLanguage);
+            ((ILocalizable) view).propagateLanguage(currentLanguage);
+        }
+    }
+
+    // ============================================================
+    // MEASUREMENT AND LAYOUT
+    // ============================================================
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        // Rows are measured while filling the window in onLayout
+        setMeasuredDimension(
+                MeasureSpec.getSize(widthMeasureSpec),
+                resolveSize(getContentHeight(), heightMeasureSpec));
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
+        // Attached rows may have changed size (language, content or width)
+        int scrollY = getScrollY();
+        int anchorShift = 0;
+        for (int i = 0; i < attachedViews.size(); i++) {
+            View child = attachedViews.valueAt(i);
+            if (changed || child.isLayoutRequested()) {
+                int position = attachedViews.keyAt(i);
+                measureItem(child);
+                int delta = setItemHeight(position, child.getMeasuredHeight());
+
+                // Rows above the viewport keep the visible content in place
+                if (tops[position + 1] - delta <= scrollY) {
+                    anchorShift += delta;
+                }
+            }
+        }
+        if (anchorShift != 0) {
+            scroller.shift(anchorShift);
+        }
+
+        fill();
+    }
+
+    private void measureItem(View child) {
+        child.measure(
+                MeasureSpec.makeMeasureSpec(getWidth(), MeasureSpec.EXACTLY),
+                MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED));
+    }
+
+    /**
+     * Attaches the rows of the current window, detaches the rest and lays out
+     * the attached rows at their content tops.
+     */
+    private void fill() {
+        if (adapter == null || getWidth() == 0 || isFilling) {
+            return;
+        }
+
+        isFilling = true;
+        int scrollY = getScrollY();
+        int viewportBottom = scrollY + getHeight();
+        int first = Math.max(0, findPositionAt(scrollY) - PREFETCH_COUNT);
+
+        // Walk down from the first row, binding rows until the window is full
+        int anchorShift = 0;
+        int position = first;
+        int trailing = 0;
+        while (position < itemCount) {
+            if (tops[position] >= viewportBottom && trailing++ == PREFETCH_COUNT) {
+                break;
+            }
+
+            if (attachedViews.get(position) == null) {
+                View view = bindItem(position);
+                int delta = setItemHeight(position, view.getMeasuredHeight());
+
+                // Rows above the viewport keep the visible content in place
+                if (tops[position + 1] - delta <= scrollY) {
+                    anchorShift += delta;
+                }
+            }
+            position++;
+        }
+        int last = position - 1;
+
+        // Detach rows outside the window
+        for (int i = attachedViews.size() - 1; i >= 0; i--) {
+            int attachedPosition = attachedViews.keyAt(i);
+            if (attachedPosition < first || attachedPosition > last) {
+                recycle(attachedViews.valueAt(i), attachedTypes.get(attachedPosition));
+                attachedViews.removeAt(i);
+                attachedTypes.delete(attachedPosition);
+            }
+        }
+
+        // Lay out the window in content coordinates; the view scrolls over it
+        int width = getWidth();
+        for (int i = 0; i < attachedViews.size(); i++) {
+            int attachedPosition = attachedViews.keyAt(i);
+            View child = attachedViews.valueAt(i);
+            child.layout(0, tops[attachedPosition], width, tops[attachedPosition + 1]);
+        }
+
+        if (anchorShift != 0) {
+            scroller.shift(anchorShift);
+        }
+        isFilling = false;
+    }
+
+    private View bindItem(int position) {
+        int viewType = adapter.getItemViewType(position);
+
+        View view = null;
+        ArrayList<View> pooled = pool.get(viewType);
+        if (pooled != null && !pooled.isEmpty()) {
+            view = pooled.remove(pooled.size() - 1);
+        }
+        if (view == null) {
+            view = adapter.createView(getContext(), viewType);
+            createdCount++;
+        }
+
+        adapter.bindView(view, position);
+        applyTheme(view);
+        applyLanguage(view);
+
+        addViewInLayout(view, -1, generateDefaultLayoutParams(), true);
+        measureItem(view);
+
+        attachedViews.put(position, view);
+        attachedTypes.put(position, viewType);
+        return view;
+    }
+
+    private void recycle(View view, int viewType) {
+        removeViewInLayout(view);
+
+        ArrayList<View> pooled = pool.get(viewType);
+        if (pooled == null) {
+            pooled = new ArrayList<>(MAX_POOLED_PER_TYPE);
+            pool.put(viewType, pooled);
+        }
+        if (pooled.size() < MAX_POOLED_PER_TYPE) {
+            pooled.add(view);
+        }
+    }
+
+    private void detachAll() {
+        for (int i = 0; i < attachedViews.size(); i++) {
+            recycle(attachedViews.valueAt(i), attachedTypes.valueAt(i));
+        }
+        attachedViews.clear();
+        attachedTypes.clear();
+    }
+
+    /**
+     * Returns the row containing the content y coordinate.
+     */
+    private int findPositionAt(int y) {
+        if (itemCount == 0) {
+            return 0;
+        }
+
+        // Tops are sorted, so the row is found by binary search
+        int index = Arrays.binarySearch(tops, 0, itemCount, y);
+        int position = index >= 0 ? index : -index - 2;
+        return Math.max(0, Math.min(position, itemCount - 1));
+    }
+
+    @Override
+    protected LayoutParams generateDefaultLayoutParams() {
+        return new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.WRAP_CONTENT);
+    }
+
+    // ============================================================
+    // SCROLLING
+    // ============================================================
+
+    private int getMaxScrollY() {
+        return Math.max(0, getContentHeight() - getHeight());
+    }
+
+    @Override
+    public void scrollTo(int x, int y) {
+        super.scrollTo(0, scroller.clamp(y));
+    }
+
+    @Override
+    protected void onScrollChanged(int l, int t, int oldl, int oldt) {
+        super.onScrollChanged(l, t, oldl, oldt);
+        fill();
+    }
+
+    @Override
+    public void computeScroll() {
+        scroller.computeScroll();
+    }
+
+    /**
+     * Starts a fling. Its range is not limited up front, because row heights
+     * measured during the fling change the content height.
+     *
+     * @param velocityY scroll velocity in pixels per second, positive to
+     *                  scroll down
+     */
+    void fling(int velocityY) {
+        scroller.fling(velocityY);
+    }
+
+    @Override
+    protected int computeVerticalScrollRange() {
+        return getContentHeight();
+    }
+
+    // ============================================================
+    // TOUCH
+    // ============================================================
+
+    @Override
+    public boolean onInterceptTouchEvent(MotionEvent event) {
+        scroller.trackVelocity(event);
+
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                scroller.onDown(event.getY());
+                return false;
+
+            case MotionEvent.ACTION_MOVE:
+                // Take over from the row once the finger moves past the slop
+                return scroller.startDragIfNeeded(event.getY());
+
+            case MotionEvent.ACTION_UP:
+            case MotionEvent.ACTION_CANCEL:
+                scroller.endTouch();
+                return false;
+
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        if (event.getActionMasked() != MotionEvent.ACTION_DOWN) {
+            // The down event was already tracked by onInterceptTouchEvent
+            scroller.trackVelocity(event);
+        }
+
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                return true;
+
+            case MotionEvent.ACTION_MOVE:
+                scroller.onMove(event.getY());
+                return true;
+
+            case MotionEvent.ACTION_UP:
+                scroller.onUp();
+                return true;
+
+            case MotionEvent.ACTION_CANCEL:
+                scroller.endTouch();
+                return true;
+
+            default:
+                return super.onTouchEvent(event);
+        }
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        scroller.stopFling();
+        scroller.endTouch();
+    }
+}
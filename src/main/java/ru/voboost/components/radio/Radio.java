@@ -1,25 +1,25 @@
 package ru.voboost.components.radio;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import android.animation.ValueAnimator;
 import android.content.Context;
 import android.graphics.Canvas;
-import android.graphics.LinearGradient;
-import android.graphics.Paint;
-import android.graphics.RectF;
 import android.graphics.Shader;
 import android.util.AttributeSet;
 import android.view.MotionEvent;
 import android.view.View;
-import android.view.animation.OvershootInterpolator;
 
+import androidx.annotation.Nullable;
+
+import ru.voboost.components.animation.FrameClock;
+import ru.voboost.components.animation.Spring;
 import ru.voboost.components.font.Font;
 import ru.voboost.components.i18n.ILocalizable;
 import ru.voboost.components.i18n.Language;
+import ru.voboost.components.measure.MeasureCache;
 import ru.voboost.components.theme.IThemable;
 import ru.voboost.components.theme.Theme;
+import ru.voboost.components.theme.ThemeTransaction;
 
 /**
  * Radio component — horizontal segmented control with animated selection.
@@ -28,45 +28,53 @@ import ru.voboost.components.theme.Theme;
  * Canvas-based custom View with gradient selection indicator,
  * touch handling, and overshoot animation.
  */
-public class Radio extends View implements IThemable, ILocalizable {
+public class Radio extends View
+        implements IThemable, ILocalizable, ThemeTransaction.Participant {
     // Data and state
-    private List<RadioButton> buttons = new ArrayList<>();
+    private RadioOptions options = RadioOptions.EMPTY;
+    private List<RadioButton> buttons = options.getButtons();
     private Language currentLanguage = null;
     private Theme currentTheme = null;
     private String selectedValue = "";
     private OnValueChangeListener onValueChangeListener;
 
-    // Theme and dimensions
-    private RadioColors colors;
-
-    // Layout measurements
-    private List<Float> itemWidths = new ArrayList<>();
-    private List<Float> itemPositions = new ArrayList<>();
+    // Layout measurements (label table rebuilt only when buttons or language change)
+    private RadioLayout layout;
     private float totalWidth = 0f;
     private float totalHeight = 0f;
     private float contentWidth = 0f; // Content width only (for background)
     private float animationPadding = 0f; // Additional space for animation
     private float contentOffsetX = 0f; // Content offset inside View (centering)
+    private final MeasureCache measureCache = new MeasureCache();
 
-    // Animation state
-    private ValueAnimator positionAnimator;
-    private ValueAnimator widthAnimator;
+    // Animation state (springs on the shared FrameClock drive x and width)
+    private final Spring xSpring = Spring.fromOvershoot(
+            RadioDimensions.OVERSHOOT_TENSION, RadioDimensions.ANIMATION_DURATION);
+    private final Spring widthSpring = Spring.fromOvershoot(
+            RadioDimensions.OVERSHOOT_TENSION, RadioDimensions.ANIMATION_DURATION);
     private float animatedX = 0f;
     private float animatedWidth = 0f;
+    private final FrameClock.Animation selectionAnimation = new FrameClock.Animation() {
+        @Override
+        public boolean onFrame(long frameTimeNanos) {
+            return stepSelection(frameTimeNanos);
+        }
 
-    // Paint objects for drawing
-    private Paint backgroundPaint;
-    private Paint selectedBackgroundPaint;
-    private Paint selectedBorderPaint;
-    private Paint textPaint;
+        @Override
+        public View getTarget() {
+            return Radio.this;
+        }
+    };
+
+    // Paint objects for drawing (drawing bounds are reused, onDraw must not allocate)
+    private RadioRow.Paints paints;
+
+    // Drawing rules shared with RadioRow, with the cached selection gradient
+    private final RadioDrawer drawer = new RadioDrawer();
 
     // Dimensions in pixels
     private float heightPx;
-    private float cornerRadiusPx;
-    private float borderWidthPx;
     private float textSizePx;
-    private float itemPaddingHorizontalPx;
-    private float itemMinWidthPx;
 
     /**
      * Callback for value selection changes.
@@ -111,8 +119,7 @@ public class Radio extends View implements IThemable, ILocalizable {
         // Set pixel dimensions
         setDimensions();
 
-        // Enable hardware acceleration for better performance
-        setLayerType(LAYER_TYPE_HARDWARE, null);
+        // No hardware layer: the indicator animation redraws the content every frame
 
         // Load custom font AFTER paints are initialized (requires context)
         loadFont();
@@ -120,84 +127,109 @@ public class Radio extends View implements IThemable, ILocalizable {
 
     /**
      * Loads the project font and applies it to text paint.
-     * Must be called after initPaintsWithDefaults() creates textPaint.
+     * Must be called after initPaintsWithDefaults() creates the paints.
      */
     private void loadFont() {
-        if (textPaint != null) {
-            textPaint.setTypeface(Font.getRegular(getContext()));
-        }
-    }
-
-    private void updateTheme() {
-        if (currentTheme != null) {
-            colors = RadioTheme.getColors(currentTheme);
-        }
-    }
-
-    private void initPaints() {
-        backgroundPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        if (colors != null) {
-            backgroundPaint.setColor(colors.background);
-        }
-
-        selectedBackgroundPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-        selectedBorderPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        selectedBorderPaint.setStyle(Paint.Style.STROKE);
-
-        if (textPaint == null) {
-            textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-            textPaint.setTypeface(Font.getRegular(getContext()));
-            textPaint.setTextAlign(Paint.Align.CENTER);
+        if (paints != null) {
+            paints.textPaint.setTypeface(Font.getRegular(getContext()));
         }
     }
 
     private void initPaintsWithDefaults() {
-        backgroundPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-        selectedBackgroundPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-        selectedBorderPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        selectedBorderPaint.setStyle(Paint.Style.STROKE);
-
-        textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        // Typeface set in loadFont() which runs immediately after
-        textPaint.setTextAlign(Paint.Align.CENTER);
+        // Colors and the selection shader are set by the drawer on every frame
+        paints = new RadioRow.Paints(getContext());
     }
 
     private void setDimensions() {
-        cornerRadiusPx = RadioDimensions.CORNER_RADIUS_PX;
         heightPx = RadioDimensions.HEIGHT_PX;
-        borderWidthPx = RadioDimensions.BORDER_WIDTH_PX;
         textSizePx = RadioDimensions.TEXT_SIZE_PX;
-        itemPaddingHorizontalPx = RadioDimensions.ITEM_PADDING_HORIZONTAL_PX;
-        itemMinWidthPx = RadioDimensions.ITEM_MIN_WIDTH_PX;
 
-        if (textPaint != null) {
-            textPaint.setTextSize(textSizePx);
-        }
-
-        if (selectedBorderPaint != null) {
-            selectedBorderPaint.setStrokeWidth(borderWidthPx);
+        if (paints != null) {
+            paints.textPaint.setTextSize(textSizePx);
         }
     }
 
     /**
      * Sets the list of radio button options.
      *
+     * <p>
+     * A list with the same content as the current buttons (same values and
+     * labels) is ignored, so repeated updates keep the layout, the indicator
+     * and any running animation.
+     *
      * @param buttons list of RadioButton objects
      */
     public void setButtons(List<RadioButton> buttons) {
-        if (buttons != null) {
-            this.buttons = new ArrayList<>(buttons);
-        } else {
-            this.buttons = new ArrayList<>();
+        if (hasSameButtons(buttons)) {
+            return;
         }
+        setOptions(RadioOptions.of(buttons));
+    }
+
+    /**
+     * Sets a shared option set. Radios with the same option set share its
+     * value lookup and label measurement.
+     *
+     * <p>
+     * An option set with the same content as the current one is adopted
+     * without measuring labels, requesting layout or redrawing. For other
+     * content only new labels are measured, and layout is requested only if
+     * the width changes.
+     *
+     * @param options the option set
+     * @throws IllegalArgumentException if options is null
+     */
+    public void setOptions(RadioOptions options) {
+        if (options == null) {
+            throw new IllegalArgumentException("Options cannot be null");
+        }
+
+        if (options == this.options) {
+            return;
+        }
+
+        boolean isSameContent = hasSameButtons(options.getButtons());
+        this.options = options;
+        this.buttons = options.getButtons();
+
+        if (isSameContent) {
+            // Same slots: take the table over from the current one and keep
+            // the indicator and any running animation where they are
+            if (isInitialized()) {
+                measureItemsInternal(false);
+            }
+            return;
+        }
+
+        // Layout is only needed when the size can change
+        float oldWidth = totalWidth;
         measureItems();
-        requestLayout(); // Force layout recalculation for dynamic width
+        if (!isInitialized() || totalWidth != oldWidth) {
+            requestLayout();
+        }
         invalidate();
     }
 
+    /**
+     * Checks whether the list has the same content as the current buttons,
+     * compared by value and label.
+     */
+    private boolean hasSameButtons(List<RadioButton> buttons) {
+        if (buttons == null) {
+            return this.buttons.isEmpty();
+        }
+        return buttons.equals(this.buttons);
+    }
+
+    /**
+     * Returns the current option set.
+     *
+     * @return the option set, {@link RadioOptions#EMPTY} if no buttons are set
+     */
+    public RadioOptions getOptions() {
+        return options;
+    }
+
     /**
      * Sets the display language.
      *
@@ -209,32 +241,7 @@ public class Radio extends View implements IThemable, ILocalizable {
             throw new IllegalArgumentException("Language cannot be null");
         }
 
-        if (!language.equals(this.currentLanguage)) {
-            this.currentLanguage = language;
-
-            // Store current selected index
-            int selectedIndex = findSelectedIndex();
-
-            // Cancel any running animations to prevent conflicts
-            cancelAnimations();
-
-            measureItemsForLanguageChange();
-            requestLayout(); // Force layout recalculation for dynamic width
-
-            // Immediately snap to correct position for selected item - no animation
-            if (selectedIndex >= 0
-                    && itemPositions != null
-                    && itemWidths != null
-                    && buttons != null
-                    && selectedIndex < itemPositions.size()
-                    && selectedIndex < itemWidths.size()
-                    && selectedIndex < buttons.size()) {
-                animatedX = itemPositions.get(selectedIndex);
-                animatedWidth = itemWidths.get(selectedIndex);
-            }
-
-            invalidate();
-        }
+        ThemeTransaction.requestUpdate(this, applyLanguage(language));
     }
 
     /**
@@ -249,12 +256,7 @@ public class Radio extends View implements IThemable, ILocalizable {
             throw new IllegalArgumentException("Theme cannot be null");
         }
 
-        if (!theme.equals(this.currentTheme)) {
-            this.currentTheme = theme;
-            updateTheme();
-            initPaints();
-            invalidate();
-        }
+        ThemeTransaction.requestUpdate(this, applyTheme(theme));
     }
 
     @Override
@@ -267,6 +269,52 @@ public class Radio extends View implements IThemable, ILocalizable {
         // Leaf component, no children to propagate to
     }
 
+    @Override
+    public int applyTransaction(@Nullable Theme theme, @Nullable Language language) {
+        int flags = 0;
+        if (theme != null) {
+            flags |= applyTheme(theme);
+        }
+        if (language != null) {
+            flags |= applyLanguage(language);
+        }
+        return flags;
+    }
+
+    private int applyTheme(Theme theme) {
+        if (theme.equals(this.currentTheme)) {
+            return 0;
+        }
+
+        this.currentTheme = theme;
+        return ThemeTransaction.CHANGED_DRAW;
+    }
+
+    private int applyLanguage(Language language) {
+        if (language.equals(this.currentLanguage)) {
+            return 0;
+        }
+
+        this.currentLanguage = language;
+
+        // Store current selected index
+        int selectedIndex = findSelectedIndex();
+
+        // Cancel any running animations to prevent conflicts
+        cancelAnimations();
+
+        // Labels change width, so layout has to be recalculated
+        measureItemsForLanguageChange();
+
+        // Immediately snap to correct position for selected item - no animation
+        if (isLaidOutIndex(selectedIndex)) {
+            animatedX = layout.positions[selectedIndex];
+            animatedWidth = layout.widths[selectedIndex];
+        }
+
+        return ThemeTransaction.CHANGED_LAYOUT | ThemeTransaction.CHANGED_DRAW;
+    }
+
     /**
      * Sets the selected value without animation.
      *
@@ -278,19 +326,10 @@ public class Radio extends View implements IThemable, ILocalizable {
             this.selectedValue = value;
 
             int selectedIndex = findSelectedIndex();
-            if (selectedIndex >= 0
-                    && itemPositions != null
-                    && itemWidths != null
-                    && buttons != null
-                    && selectedIndex < itemPositions.size()
-                    && selectedIndex < itemWidths.size()
-                    && selectedIndex < buttons.size()) {
-                float targetX = itemPositions.get(selectedIndex);
-                float targetWidth = itemWidths.get(selectedIndex);
-
+            if (isLaidOutIndex(selectedIndex)) {
                 // Always snap to position immediately - no animation on initial setup
-                animatedX = targetX;
-                animatedWidth = targetWidth;
+                animatedX = layout.positions[selectedIndex];
+                animatedWidth = layout.widths[selectedIndex];
             }
 
             // Trigger callback if requested (useful for testing)
@@ -350,20 +389,8 @@ public class Radio extends View implements IThemable, ILocalizable {
     }
 
     private int findSelectedIndex() {
-        if (buttons == null || selectedValue == null) {
-            return -1;
-        }
-
-        for (int i = 0; i < buttons.size(); i++) {
-            RadioButton button = buttons.get(i);
-            if (button != null
-                    && selectedValue != null
-                    && selectedValue.equals(button.getValue())) {
-                return i;
-            }
-        }
-
-        return -1; // Return -1 if not found to avoid jitter
+        // Return -1 if not found to avoid jitter
+        return options.indexOf(selectedValue);
     }
 
     private void measureItems() {
@@ -384,8 +411,12 @@ public class Radio extends View implements IThemable, ILocalizable {
     }
 
     /**
-     * Internal method to measure items and calculate positions
-     * 
+     * Internal method to measure items and calculate positions.
+     *
+     * <p>
+     * Labels are measured only when the layout table is missing or was built for
+     * different buttons or language; otherwise the existing table is reused.
+     *
      * @param updateAnimationPosition Whether to update animation position after
      *                                measurement
      */
@@ -394,114 +425,147 @@ public class Radio extends View implements IThemable, ILocalizable {
             return;
         }
 
-        itemWidths.clear();
-        itemPositions.clear();
+        if (layout == null || !layout.isFor(buttons, currentLanguage)) {
+            // Animation padding in pixels (as required by .roorules)
+            animationPadding = RadioDimensions.ANIMATION_PADDING_PX;
+            contentOffsetX = animationPadding;
 
-        // Calculate equal width for all items (like layout_weight="1")
-        int itemCount = buttons.size();
-        float currentX = 0f;
+            // Labels are measured once per option set and language; labels the
+            // previous table already measured are reused
+            layout = options.getLayout(getContext(), currentLanguage, layout)
+                    .offsetBy(contentOffsetX);
 
-        // First, measure all texts to find the maximum width needed
-        float maxTextWidth = 0f;
-        for (RadioButton button : buttons) {
-            if (button == null)
-                continue;
+            contentWidth = layout.contentWidth;
 
-            String text = button.getText(currentLanguage != null ? currentLanguage.getCode() : "en");
+            // View dimensions with animation padding
+            totalWidth = contentWidth + 2 * animationPadding;
+            totalHeight = heightPx;
 
-            // Measure with bold typeface to ensure enough space for selected state
-            textPaint.setTypeface(Font.getBold(getContext(), text));
-            float boldTextWidth = textPaint != null ? textPaint.measureText(text) : 0;
-            maxTextWidth = Math.max(maxTextWidth, boldTextWidth);
+            setTranslationX(-animationPadding);
         }
 
-        // Calculate equal width for all items based on the widest text
-        float equalItemWidth = Math.max(maxTextWidth + 2 * itemPaddingHorizontalPx, itemMinWidthPx);
-
-        // Assign equal width to all items
-        for (int i = 0; i < itemCount; i++) {
-            itemWidths.add(equalItemWidth);
-            itemPositions.add(currentX);
-            currentX += equalItemWidth;
-        }
-
-        contentWidth = currentX;
-
-        // Animation padding in pixels (as required by .roorules)
-        animationPadding = RadioDimensions.ANIMATION_PADDING_PX;
-
-        // View dimensions with animation padding
-        totalWidth = contentWidth + 2 * animationPadding;
-        totalHeight = heightPx;
-        contentOffsetX = animationPadding;
-
-        // Adjust item positions accounting for padding
-        for (int i = 0; i < itemPositions.size(); i++) {
-            itemPositions.set(i, itemPositions.get(i) + contentOffsetX);
-        }
-
-        setTranslationX(-animationPadding);
-
         if (updateAnimationPosition) {
             updateAnimationPosition();
         }
     }
 
+    /**
+     * Checks that the index refers to an item of the current layout table.
+     *
+     * @param index item index
+     * @return true if the index can be used with the layout arrays
+     */
+    private boolean isLaidOutIndex(int index) {
+        return index >= 0
+                && layout != null
+                && buttons != null
+                && layout.buttons == buttons
+                && index < layout.count;
+    }
+
     private void updateAnimationPosition() {
         int selectedIndex = findSelectedIndex();
 
-        if (selectedIndex >= 0
-                && itemPositions != null
-                && itemWidths != null
-                && buttons != null
-                && selectedIndex < itemPositions.size()
-                && selectedIndex < itemWidths.size()
-                && selectedIndex < buttons.size()) {
-            animatedX = itemPositions.get(selectedIndex);
-            animatedWidth = itemWidths.get(selectedIndex);
+        if (isLaidOutIndex(selectedIndex)) {
+            animatedX = layout.positions[selectedIndex];
+            animatedWidth = layout.widths[selectedIndex];
         }
     }
 
-    private void animateToPosition(float targetX, float targetWidth) {
-        cancelAnimations();
+    /**
+     * Returns the current label layout table.
+     *
+     * @return the layout table, or null if not measured yet
+     */
+    RadioLayout getLabelLayout() {
+        return layout;
+    }
 
-        final OvershootInterpolator interpolator = new OvershootInterpolator(RadioDimensions.OVERSHOOT_TENSION);
-
-        // Position animation
-        positionAnimator = ValueAnimator.ofFloat(animatedX, targetX);
-        positionAnimator.setDuration(RadioDimensions.ANIMATION_DURATION);
-        positionAnimator.setInterpolator(interpolator);
-        positionAnimator.addUpdateListener(
-                animation -> {
-                    animatedX = (Float) animation.getAnimatedValue();
-                    invalidate();
-                });
-        positionAnimator.start();
-
-        // Width animation
-        widthAnimator = ValueAnimator.ofFloat(animatedWidth, targetWidth);
-        widthAnimator.setDuration(RadioDimensions.ANIMATION_DURATION);
-        widthAnimator.setInterpolator(interpolator);
-        widthAnimator.addUpdateListener(
-                animation -> {
-                    animatedWidth = (Float) animation.getAnimatedValue();
-                    invalidate();
-                });
-        widthAnimator.start();
+    /**
+     * Returns the left position of the item at the given index.
+     *
+     * @param index item index
+     * @return x position in pixels, including the content offset
+     */
+    float getItemPosition(int index) {
+        return layout.positions[index];
     }
 
-    private void cancelAnimations() {
-        if (positionAnimator != null) {
-            positionAnimator.cancel();
+    /**
+     * Returns the width of the item at the given index.
+     *
+     * @param index item index
+     * @return item width in pixels
+     */
+    float getItemWidth(int index) {
+        return layout.widths[index];
+    }
+
+    private void animateToPosition(float targetX, float targetWidth) {
+        // A resting spring starts from the drawn position (which may have been
+        // snapped); a moving one keeps its velocity and only changes target
+        if (!xSpring.isRunning()) {
+            xSpring.snapTo(animatedX);
         }
+        if (!widthSpring.isRunning()) {
+            widthSpring.snapTo(animatedWidth);
+        }
+        xSpring.animateTo(targetX);
+        widthSpring.animateTo(targetWidth);
+
+        // The shared clock invalidates this view once per frame
+        FrameClock.getInstance().start(selectionAnimation);
+    }
 
-        if (widthAnimator != null) {
-            widthAnimator.cancel();
+    /**
+     * Advances the selection springs to the frame time and applies them.
+     *
+     * @param frameTimeNanos vsync time of the frame in nanoseconds
+     * @return true while the selection is still moving
+     */
+    boolean stepSelection(long frameTimeNanos) {
+        if (!xSpring.isRunning() && !widthSpring.isRunning()) {
+            return false;
         }
+
+        boolean isXRunning = xSpring.step(frameTimeNanos);
+        boolean isWidthRunning = widthSpring.step(frameTimeNanos);
+        animatedX = xSpring.getValue();
+        animatedWidth = widthSpring.getValue();
+        return isXRunning || isWidthRunning;
+    }
+
+    /**
+     * Returns the current x position of the selection indicator.
+     *
+     * @return indicator x position in pixels
+     */
+    float getSelectionX() {
+        return animatedX;
+    }
+
+    /**
+     * Returns the current width of the selection indicator.
+     *
+     * @return indicator width in pixels
+     */
+    float getSelectionWidth() {
+        return animatedWidth;
+    }
+
+    private void cancelAnimations() {
+        xSpring.cancel();
+        widthSpring.cancel();
+        FrameClock.getInstance().stop(selectionAnimation);
     }
 
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        if (measureCache.isValidFor(widthMeasureSpec, heightMeasureSpec)) {
+            setMeasuredDimension(measureCache.getWidth(), measureCache.getHeight());
+            return;
+        }
+
         measureItems();
 
         // totalWidth now includes animation padding
@@ -509,6 +573,46 @@ public class Radio extends View implements IThemable, ILocalizable {
         int height = (int) Math.ceil(totalHeight);
 
         setMeasuredDimension(width, height);
+        measureCache.store(widthMeasureSpec, heightMeasureSpec, width, height);
+    }
+
+    @Override
+    public void requestLayout() {
+        // Radio has no children, so only its own label width changes land here
+        if (measureCache != null) {
+            measureCache.invalidate();
+        }
+        super.requestLayout();
+    }
+
+    @Override
+    public void forceLayout() {
+        // ListView re-lays out recycled rows, and the window root every view on a
+        // configuration change, without calling requestLayout()
+        if (measureCache != null) {
+            measureCache.invalidate();
+        }
+        super.forceLayout();
+    }
+
+    /**
+     * Returns how many full measure passes this Radio performed. Repeated
+     * measure requests with unchanged specs and content are answered from a
+     * cache and not counted.
+     *
+     * @return measure pass count
+     */
+    public int getMeasurePassCount() {
+        return measureCache.getPassCount();
+    }
+
+    /**
+     * Returns how many measure requests were answered from the cache.
+     *
+     * @return measure cache hit count
+     */
+    public int getMeasureCacheHitCount() {
+        return measureCache.getHitCount();
     }
 
     @Override
@@ -520,21 +624,22 @@ public class Radio extends View implements IThemable, ILocalizable {
             return;
         }
 
-        if (buttons == null || buttons.isEmpty()) {
+        if (buttons == null || buttons.isEmpty() || !isLaidOutIndex(0)) {
             return;
         }
 
-        // LAYER 1: Bottom background - size exactly by content (e.g., 500px)
-        drawBackgroundLayer(canvas);
-
-        // LAYER 2: Selection layer - wider by animation size on left and right
-        // (e.g., 20px + 500px + 20px = 540px, offset 20px to the left)
-        if (animatedWidth > 0) {
-            drawSelectionLayer(canvas);
-        }
-
-        // LAYER 3: Text layer - width same as bottom layer
-        drawTextLayer(canvas);
+        // Background at the content offset; the selection layer may extend into
+        // the animation padding on the left and right while it overshoots.
+        // Only the target element changes text color, when the indicator covers it
+        drawer.draw(
+                canvas,
+                layout,
+                currentTheme,
+                contentOffsetX,
+                findSelectedIndex(),
+                animatedX,
+                animatedWidth,
+                paints);
     }
 
     @Override
@@ -547,29 +652,25 @@ public class Radio extends View implements IThemable, ILocalizable {
         if (event.getAction() == MotionEvent.ACTION_DOWN) {
             float touchX = event.getX();
 
-            // Find which item was touched - accounting for content offset
-            if (itemPositions != null && itemWidths != null && buttons != null) {
-                for (int i = 0; i < itemPositions.size(); i++) {
-                    float itemStart = itemPositions.get(i); // already includes contentOffsetX
-                    float itemEnd = itemStart + itemWidths.get(i);
-
-                    if (touchX >= itemStart && touchX <= itemEnd) {
-                        RadioButton button = buttons.get(i);
-                        if (button != null) {
-                            String newValue = button.getValue();
+            // Find which item was touched - positions include the content offset
+            if (layout != null && buttons != null && layout.buttons == buttons) {
+                int i = layout.geometry.getItemIndexAt(touchX);
+                if (i >= 0) {
+                    RadioButton button = buttons.get(i);
+                    if (button != null) {
+                        String newValue = button.getValue();
 
-                            if (selectedValue != null && !selectedValue.equals(newValue)) {
-                                // This is a user click - animate the transition
-                                setSelectedValueWithAnimation(newValue);
+                        if (selectedValue != null && !selectedValue.equals(newValue)) {
+                            // This is a user click - animate the transition
+                            setSelectedValueWithAnimation(newValue);
 
-                                if (onValueChangeListener != null) {
-                                    onValueChangeListener.onValueChange(newValue);
-                                }
+                            if (onValueChangeListener != null) {
+                                onValueChangeListener.onValueChange(newValue);
                             }
                         }
-
-                        return true;
                     }
+
+                    return true;
                 }
             }
         }
@@ -583,17 +684,8 @@ public class Radio extends View implements IThemable, ILocalizable {
 
             int selectedIndex = findSelectedIndex();
 
-            if (selectedIndex >= 0
-                    && itemPositions != null
-                    && itemWidths != null
-                    && buttons != null
-                    && selectedIndex < itemPositions.size()
-                    && selectedIndex < itemWidths.size()
-                    && selectedIndex < buttons.size()) {
-                float targetX = itemPositions.get(selectedIndex);
-                float targetWidth = itemWidths.get(selectedIndex);
-
-                animateToPosition(targetX, targetWidth);
+            if (isLaidOutIndex(selectedIndex)) {
+                animateToPosition(layout.positions[selectedIndex], layout.widths[selectedIndex]);
             }
 
             invalidate();
@@ -604,183 +696,14 @@ public class Radio extends View implements IThemable, ILocalizable {
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
         cancelAnimations();
-        positionAnimator = null;
-        widthAnimator = null;
-    }
-
-    private void drawBackgroundLayer(Canvas canvas) {
-        // LAYER 1: Control background - size exactly by content
-        if (backgroundPaint == null)
-            return;
-
-        RectF backgroundRect = new RectF(contentOffsetX, 0, contentOffsetX + contentWidth, totalHeight);
-        canvas.drawRoundRect(backgroundRect, cornerRadiusPx, cornerRadiusPx, backgroundPaint);
-    }
-
-    private void drawSelectionLayer(Canvas canvas) {
-        if (selectedBackgroundPaint == null)
-            return;
-
-        // Selection rectangle with 1px inset from top and bottom
-        RectF selectedRect = new RectF(
-                animatedX + 1f, // 1px inset from left
-                1f, // 1px inset from top
-                animatedX + animatedWidth,
-                totalHeight - 1f); // 1px inset from bottom (symmetric with top)
-
-        // Create gradient depending on theme
-        LinearGradient gradient = createSelectionGradient(selectedRect);
-        selectedBackgroundPaint.setShader(gradient);
-        canvas.drawRoundRect(selectedRect, cornerRadiusPx, cornerRadiusPx, selectedBackgroundPaint);
-
-        // Note: Original implementation has a transparent stroke, but testing showed
-        // it doesn't improve pixel-perfect matching. The corner radius fix is
-        // sufficient.
-    }
-
-    private LinearGradient createSelectionGradient(RectF rect) {
-        if (colors == null) {
-            return null; // Don't create gradient if colors are missing
-        }
-
-        if (currentTheme != null && currentTheme.isDreamer()) {
-            // Horizontal gradient for dreamer theme
-            return new LinearGradient(
-                    rect.left,
-                    0,
-                    rect.right,
-                    0,
-                    colors.selectedGradientStart,
-                    colors.selectedGradientEnd,
-                    Shader.TileMode.CLAMP);
-        } else {
-            // Vertical gradient for free theme
-            return new LinearGradient(
-                    0,
-                    rect.top,
-                    0,
-                    rect.bottom,
-                    colors.selectedGradientStart,
-                    colors.selectedGradientEnd,
-                    Shader.TileMode.CLAMP);
-        }
-    }
-
-    private void drawSelectionBorder(Canvas canvas, RectF selectedRect) {
-        if (selectedBorderPaint == null)
-            return;
-
-        // Border is drawn 1px inside the selected rect (half of 2px stroke width)
-        float borderInset = 1f;
-        RectF borderRect = new RectF(
-                selectedRect.left + borderInset,
-                selectedRect.top + borderInset,
-                selectedRect.right - borderInset,
-                selectedRect.bottom - borderInset);
-
-        LinearGradient borderGradient = null;
-        if (colors != null) {
-            borderGradient = new LinearGradient(
-                    0,
-                    borderRect.top,
-                    0,
-                    borderRect.bottom,
-                    new int[] {
-                            colors.selectedBorderTop,
-                            colors.selectedBorderSide,
-                            colors.selectedBorderBottom
-                    },
-                    new float[] { 0f, 0.5f, 1f },
-                    Shader.TileMode.CLAMP);
-        }
-
-        if (borderGradient != null) {
-            selectedBorderPaint.setShader(borderGradient);
-            float adjustedCornerRadius = Math.max(0, cornerRadiusPx - borderInset);
-            canvas.drawRoundRect(
-                    borderRect, adjustedCornerRadius, adjustedCornerRadius, selectedBorderPaint);
-        }
-    }
-
-    private void drawTextLayer(Canvas canvas) {
-        // LAYER 3: Text - width same as background layer
-        if (textPaint == null)
-            return;
-
-        // Base text Y position (for unselected items)
-        float textY = totalHeight / 2f - (textPaint.descent() + textPaint.ascent()) / 2f;
-
-        // Find the target index (where animation is heading to)
-        int targetIndex = findSelectedIndex();
-
-        if (buttons != null && itemPositions != null && itemWidths != null) {
-            for (int i = 0; i < buttons.size(); i++) {
-                RadioButton button = buttons.get(i);
-                if (button == null)
-                    continue;
-
-                // Get text FIRST — needed for font selection
-                String text = button.getText(currentLanguage != null ? currentLanguage.getCode() : "en");
-
-                // Calculate text position - positions already include centering
-                float itemWidth = itemWidths.get(i);
-                float itemX = itemPositions.get(i); // already includes contentOffsetX
-                float textX = itemX + itemWidth / 2f;
-
-                // FINAL LOGIC: Only the target element can change color, and only when
-                // animation
-                // touches it
-                boolean isTargetElement = (i == targetIndex);
-                boolean isAnimationTouchingThisText = isTextCoveredByAnimation(textX, itemWidth);
-
-                // Color changes ONLY for target element AND ONLY when animation touches it
-                boolean shouldUseSelectedColor = isTargetElement && isAnimationTouchingThisText;
-
-                // Set text color - only target element changes color when animation touches it
-                if (colors != null) {
-                    textPaint.setColor(
-                            shouldUseSelectedColor ? colors.selectedText : colors.unselectedText);
-                }
-
-                // Set font: bold for selected, regular for unselected
-                if (shouldUseSelectedColor) {
-                    textPaint.setTypeface(Font.getBold(getContext(), text));
-                } else {
-                    textPaint.setTypeface(Font.getRegular(getContext()));
-                }
-
-                // Set text size
-                textPaint.setTextSize(textSizePx);
-
-                // Unselected text needs +1px offset for visual centering compensation
-                float itemTextY = shouldUseSelectedColor ? textY : textY + 1f;
-
-                // Draw text (text variable already available)
-                canvas.drawText(text, textX, itemTextY, textPaint);
-            }
-        }
     }
 
     /**
-     * Determines if text is covered by animated background
-     * 
-     * @param textCenterX text center X coordinate
-     * @param itemWidth   item width
-     * @return true if text is covered by animation
+     * Returns the shader currently used for the selection indicator.
+     *
+     * @return the cached selection gradient, or null if not created yet
      */
-    private boolean isTextCoveredByAnimation(float textCenterX, float itemWidth) {
-        if (animatedWidth <= 0)
-            return false;
-
-        // Animated background bounds
-        float animationLeft = animatedX;
-        float animationRight = animatedX + animatedWidth;
-
-        // Text bounds (with small margin for smoothness)
-        float textLeftBound = textCenterX - itemWidth * 0.4f;
-        float textRightBound = textCenterX + itemWidth * 0.4f;
-
-        // Text is considered covered when animation overlaps with text bounds
-        return animationRight >= textLeftBound && animationLeft <= textRightBound;
+    Shader getSelectionShader() {
+        return drawer.getSelectionShader();
     }
 }
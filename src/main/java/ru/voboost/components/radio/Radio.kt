@@ -1,6 +1,9 @@
 package ru.voboost.components.radio
 
 import androidx.compose.runtime.Composable
+import androidx.compose.runtime.getValue
+import androidx.compose.runtime.remember
+import androidx.compose.runtime.rememberUpdatedState
 import androidx.compose.ui.viewinterop.AndroidView
 import ru.voboost.components.i18n.Language
 import ru.voboost.components.theme.Theme
@@ -9,6 +12,9 @@ import ru.voboost.components.theme.Theme
  * Radio component with internal theming and external localization.
  * Minimal Kotlin Compose wrapper around Java Custom View implementation.
  *
+ * Only parameters that changed since the last recomposition are forwarded to the view,
+ * so a parent recomposition does not re-measure or redraw the Radio.
+ *
  * @param buttons List of radio button options with localized labels
  * @param lang Language enum value
  * @param theme Theme enum value
@@ -25,18 +31,23 @@ fun Radio(
     onValueChange: (String) -> Unit,
     onViewCreated: ((ru.voboost.components.radio.Radio) -> Unit)? = null,
 ) {
+    // The view keeps one listener; it always calls the latest callback
+    val currentOnValueChange by rememberUpdatedState(onValueChange)
+    val applied = remember { AppliedButtons() }
+
     AndroidView(
         factory = { context ->
             ru.voboost.components.radio.Radio(context).apply {
                 // Set initial values
                 setButtons(buttons)
+                applied.buttons = buttons
                 setLanguage(lang)
                 setTheme(theme)
                 setSelectedValue(value)
 
                 // Set up value change listener
                 setOnValueChangeListener { newValue ->
-                    onValueChange(newValue)
+                    currentOnValueChange(newValue)
                 }
 
                 // Notify caller about view creation (useful for testing)
@@ -44,11 +55,27 @@ fun Radio(
             }
         },
         update = { radioView ->
-            // Update parameters when they change
-            radioView.setButtons(buttons)
-            radioView.setLanguage(lang)
-            radioView.setTheme(theme)
-            radioView.setSelectedValue(value)
+            // Forward only real changes: setButtons copies and re-measures the list
+            if (buttons != applied.buttons) {
+                radioView.setButtons(buttons)
+                applied.buttons = buttons
+            }
+            if (lang != radioView.getCurrentLanguage()) {
+                radioView.setLanguage(lang)
+            }
+            if (theme != radioView.getCurrentTheme()) {
+                radioView.setTheme(theme)
+            }
+            if (value != radioView.getSelectedValue()) {
+                radioView.setSelectedValue(value)
+            }
         },
     )
 }
+
+/**
+ * Button list last forwarded to the view (the view keeps its own copy).
+ */
+private class AppliedButtons {
+    var buttons: List<RadioButton>? = null
+}
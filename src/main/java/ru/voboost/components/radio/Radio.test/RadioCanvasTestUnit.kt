@@ -0,0 +1,180 @@
+package ru.voboost.components.radio
+
+import android.content.Context
+import android.graphics.Bitmap
+import android.view.MotionEvent
+import android.view.View
+import androidx.compose.foundation.background
+import androidx.compose.foundation.layout.Box
+import androidx.compose.ui.Modifier
+import androidx.compose.ui.geometry.Size
+import androidx.compose.ui.graphics.Canvas
+import androidx.compose.ui.graphics.Color
+import androidx.compose.ui.graphics.asAndroidBitmap
+import androidx.compose.ui.graphics.drawscope.CanvasDrawScope
+import androidx.compose.ui.platform.testTag
+import androidx.compose.ui.test.captureToImage
+import androidx.compose.ui.test.junit4.createComposeRule
+import androidx.compose.ui.test.onNodeWithTag
+import androidx.compose.ui.unit.Density
+import androidx.compose.ui.unit.LayoutDirection
+import org.junit.Assert.assertArrayEquals
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotNull
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.RuntimeEnvironment
+import org.robolectric.annotation.Config
+import org.robolectric.annotation.GraphicsMode
+import ru.voboost.components.i18n.Language
+import ru.voboost.components.testing.DrawingTests.countDifferentPixels
+import ru.voboost.components.theme.Theme
+
+/**
+ * Unit tests for the Compose-native Radio (RadioCanvas).
+ * Checks that it shares geometry with the View and draws the same pixels, at rest,
+ * mid-animation and at the View's translated position.
+ * No frame-time comparison: timing the interop and RenderNode cost needs a device benchmark.
+ */
+@RunWith(RobolectricTestRunner::class)
+@Config(sdk = [33])
+@GraphicsMode(GraphicsMode.Mode.NATIVE)
+class RadioCanvasTestUnit {
+    @get:Rule
+    val composeTestRule = createComposeRule()
+
+    private lateinit var context: Context
+    private lateinit var buttons: List<RadioButton>
+    private lateinit var radio: Radio
+
+    @Before
+    fun setUp() {
+        context = RuntimeEnvironment.getApplication()
+        buttons =
+            listOf(
+                RadioButton("option1", mapOf("en" to "Option 1", "ru" to "Опция 1")),
+                RadioButton("option2", mapOf("en" to "Option 2", "ru" to "Опция 2")),
+                RadioButton("option3", mapOf("en" to "Option 3", "ru" to "Опция 3")),
+            )
+
+        radio = Radio(context)
+        radio.setTheme(Theme.FREE_DARK)
+        radio.setLanguage(Language.EN)
+        radio.setButtons(buttons)
+        radio.setSelectedValue("option2")
+        radio.measure(
+            View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+            View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+        )
+        radio.layout(0, 0, radio.measuredWidth, radio.measuredHeight)
+    }
+
+    @Test
+    fun testLayoutMatchesView() {
+        val viewLayout = radio.getLabelLayout()
+        assertNotNull("View should have a layout after measure", viewLayout)
+
+        val canvasLayout = RadioRenderer(context).createLayout(context, buttons, Language.EN)
+
+        assertArrayEquals(viewLayout!!.positions, canvasLayout.positions, 0f)
+        assertArrayEquals(viewLayout.widths, canvasLayout.widths, 0f)
+        assertEquals(viewLayout.contentWidth, canvasLayout.contentWidth, 0f)
+    }
+
+    @Test
+    fun testHitTestMatchesGeometry() {
+        val layout = RadioRenderer(context).createLayout(context, buttons, Language.EN)
+
+        for (i in 0 until layout.count) {
+            assertEquals(i, layout.geometry.getItemIndexAt(layout.geometry.getTextCenterX(i)))
+        }
+        assertEquals(-1, layout.geometry.getItemIndexAt(layout.positions[0] - 1f))
+    }
+
+    @Test
+    fun testPixelsMatchView() {
+        val renderer = RadioRenderer(context)
+        val layout = renderer.createLayout(context, buttons, Language.EN)
+
+        val composeBitmap = drawRenderer(renderer, layout, 1, 0f, 0f, false)
+
+        assertEquals("Pixels differing from the View", 0, countDifferentPixels(drawView(), composeBitmap))
+    }
+
+    @Test
+    fun testAnimatingPixelsMatchView() {
+        val renderer = RadioRenderer(context)
+        val layout = renderer.createLayout(context, buttons, Language.EN)
+
+        // Tap the last option and stop the View a few frames into the animation
+        val touchX = layout.geometry.getTextCenterX(2)
+        val downEvent = MotionEvent.obtain(0, 0, MotionEvent.ACTION_DOWN, touchX, 0f, 0)
+        radio.onTouchEvent(downEvent)
+        downEvent.recycle()
+        for (i in 0..4) {
+            radio.stepSelection(i * FRAME_NANOS)
+        }
+        val x = radio.getSelectionX()
+        val width = radio.getSelectionWidth()
+        assertTrue("Indicator should be between the slots", x > layout.positions[1] && x < layout.positions[2])
+
+        val composeBitmap = drawRenderer(renderer, layout, 2, x, width, true)
+
+        assertEquals("Pixels differing from the View", 0, countDifferentPixels(drawView(), composeBitmap))
+    }
+
+    @Test
+    fun testPlacementMatchesViewTranslation() {
+        composeTestRule.setContent {
+            Box(Modifier.background(Color.Black).testTag(HOST_TAG)) {
+                RadioCanvas(buttons, Language.EN, Theme.FREE_DARK, "option2", {})
+            }
+        }
+        val placed = composeTestRule.onNodeWithTag(HOST_TAG).captureToImage().asAndroidBitmap()
+
+        // The parent applies the View's translation when it draws the View
+        assertEquals(-RadioDimensions.ANIMATION_PADDING_PX, radio.translationX, 0f)
+        val viewBitmap = Bitmap.createBitmap(placed.width, placed.height, Bitmap.Config.ARGB_8888)
+        viewBitmap.eraseColor(android.graphics.Color.BLACK)
+        val viewCanvas = android.graphics.Canvas(viewBitmap)
+        viewCanvas.translate(radio.translationX, 0f)
+        radio.draw(viewCanvas)
+
+        assertEquals("Pixels differing from the placed View", 0, countDifferentPixels(viewBitmap, placed))
+    }
+
+    private fun drawView(): Bitmap {
+        val bitmap = Bitmap.createBitmap(radio.measuredWidth, radio.measuredHeight, Bitmap.Config.ARGB_8888)
+        radio.draw(android.graphics.Canvas(bitmap))
+        return bitmap
+    }
+
+    private fun drawRenderer(
+        renderer: RadioRenderer,
+        layout: RadioLayout,
+        selectedIndex: Int,
+        x: Float,
+        width: Float,
+        isAnimating: Boolean,
+    ): Bitmap {
+        val bitmap = Bitmap.createBitmap(radio.measuredWidth, radio.measuredHeight, Bitmap.Config.ARGB_8888)
+        CanvasDrawScope().draw(
+            Density(1f),
+            LayoutDirection.Ltr,
+            Canvas(android.graphics.Canvas(bitmap)),
+            Size(bitmap.width.toFloat(), bitmap.height.toFloat()),
+        ) {
+            renderer.draw(this, layout, Theme.FREE_DARK, selectedIndex, x, width, isAnimating)
+        }
+        return bitmap
+    }
+
+    private companion object {
+        const val FRAME_NANOS = 16_666_667L
+        const val HOST_TAG = "host"
+    }
+}
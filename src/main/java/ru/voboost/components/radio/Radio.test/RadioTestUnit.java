@@ -2,15 +2,21 @@ package ru.voboost.components.radio;
 
 import static org.junit.Assert.*;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RectF;
 import android.view.MotionEvent;
 import android.view.View;
 
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -85,6 +91,46 @@ public class RadioTestUnit {
         assertTrue("Width should increase after setting buttons", widthAfter > 0);
     }
 
+    @Test
+    public void testMeasureIsMemoized() {
+        radio.setButtons(testButtons);
+        int widthSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+        int heightSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+
+        radio.measure(widthSpec, heightSpec);
+        int passes = radio.getMeasurePassCount();
+        int widthEn = radio.getMeasuredWidth();
+
+        // Repeated measure with the same specs does not re-measure labels
+        radio.measure(widthSpec, heightSpec);
+        radio.measure(widthSpec, heightSpec);
+        assertEquals(passes, radio.getMeasurePassCount());
+        assertEquals(2, radio.getMeasureCacheHitCount());
+        assertEquals(widthEn, radio.getMeasuredWidth());
+
+        // A language change requests layout and measures again
+        radio.setLanguage(Language.RU);
+        radio.measure(widthSpec, heightSpec);
+        assertEquals(passes + 1, radio.getMeasurePassCount());
+    }
+
+    @Test
+    public void testForceLayoutMeasuresAgain() {
+        radio.setButtons(testButtons);
+        int widthSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+        int heightSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+
+        radio.measure(widthSpec, heightSpec);
+        radio.layout(0, 0, radio.getMeasuredWidth(), radio.getMeasuredHeight());
+        int passes = radio.getMeasurePassCount();
+
+        // forceLayout() does not go through requestLayout(), but must not be
+        // answered from the cache
+        radio.forceLayout();
+        radio.measure(widthSpec, heightSpec);
+        assertEquals(passes + 1, radio.getMeasurePassCount());
+    }
+
     @Test
     public void testSetValue() {
         radio.setButtons(testButtons);
@@ -321,10 +367,10 @@ public class RadioTestUnit {
 
     @Test
     public void testPerformanceOptimization() {
-        // Test that hardware acceleration is enabled for better performance
+        // Radio never holds a layer: its animation redraws the content each frame
         assertEquals(
-                "Hardware acceleration should be enabled",
-                View.LAYER_TYPE_HARDWARE,
+                "Resting Radio should not hold a hardware layer",
+                View.LAYER_TYPE_NONE,
                 radio.getLayerType());
 
         // Test that the component handles rapid value changes efficiently
@@ -341,6 +387,23 @@ public class RadioTestUnit {
         assertTrue(
                 "Rapid value changes should complete quickly",
                 (endTime - startTime) < 1000); // Should complete in less than 1 second
+
+        // A tap animates the indicator without adding a layer
+        radio.measure(
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
+        radio.layout(0, 0, radio.getMeasuredWidth(), radio.getMeasuredHeight());
+        radio.setSelectedValue("option1");
+        float x = radio.getItemPosition(2) + radio.getItemWidth(2) / 2f;
+        MotionEvent down = MotionEvent.obtain(0, 0, MotionEvent.ACTION_DOWN, x, 35f, 0);
+        radio.onTouchEvent(down);
+        down.recycle();
+
+        assertEquals("option3", radio.getSelectedValue());
+        assertEquals(
+                "Animating Radio should not hold a hardware layer",
+                View.LAYER_TYPE_NONE,
+                radio.getLayerType());
     }
 
     @Test
@@ -442,4 +505,221 @@ public class RadioTestUnit {
         assertNotNull("Radio should maintain state after accessibility interactions", radio);
         assertEquals("Selected value should be preserved", "option1", radio.getSelectedValue());
     }
+
+    @Test
+    public void testSharedOptionsMeasureOnce() {
+        RadioOptions options = RadioOptions.of(testButtons);
+        assertEquals(1, options.indexOf("option2"));
+        assertEquals(-1, options.indexOf("missing"));
+        assertEquals(-1, options.indexOf(null));
+
+        radio.setOptions(options);
+        Radio other = new Radio(context);
+        other.setTheme(Theme.FREE_DARK);
+        other.setLanguage(Language.EN);
+        other.setOptions(options);
+
+        // Both radios use the label table measured once by the option set
+        assertSame(options.getLayout(context, Language.EN).texts, radio.getLabelLayout().texts);
+        assertSame(radio.getLabelLayout().texts, other.getLabelLayout().texts);
+        assertSame(options, other.getOptions());
+
+        other.setSelectedValue("option3");
+        assertEquals("option3", other.getSelectedValue());
+    }
+
+    @Test
+    public void testEquivalentButtonsAreIgnored() {
+        radio.setButtons(testButtons);
+        radio.setSelectedValue("option1");
+        radio.measure(
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
+        radio.layout(0, 0, radio.getMeasuredWidth(), radio.getMeasuredHeight());
+        RadioOptions options = radio.getOptions();
+        RadioLayout layout = radio.getLabelLayout();
+
+        // A copy with the same values and labels changes nothing
+        radio.setButtons(new ArrayList<>(testButtons));
+        assertSame(options, radio.getOptions());
+        assertSame(layout, radio.getLabelLayout());
+        assertFalse("Equal buttons should not request layout", radio.isLayoutRequested());
+        assertEquals("option1", radio.getSelectedValue());
+    }
+
+    @Test
+    public void testEquivalentSharedOptionsAreAdopted() {
+        radio.setButtons(testButtons);
+        radio.setSelectedValue("option2");
+        radio.measure(
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
+        radio.layout(0, 0, radio.getMeasuredWidth(), radio.getMeasuredHeight());
+        RadioLayout previous = radio.getLabelLayout();
+
+        // A shared set with equal content replaces the private one
+        RadioOptions shared = RadioOptions.of(new ArrayList<>(testButtons));
+        radio.setOptions(shared);
+        assertSame(shared, radio.getOptions());
+        assertSame(shared.getLayout(context, Language.EN).texts, radio.getLabelLayout().texts);
+        assertArrayEquals(previous.textWidths, radio.getLabelLayout().textWidths, 0f);
+        assertArrayEquals(previous.positions, radio.getLabelLayout().positions, 0f);
+        assertFalse("Equal content should not request layout", radio.isLayoutRequested());
+        assertEquals("option2", radio.getSelectedValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetOptionsNull() {
+        radio.setOptions(null);
+    }
+
+    @Test
+    public void testLabelLayoutRebuiltOnlyWhenContentChanges() {
+        radio.setButtons(testButtons);
+        RadioLayout first = radio.getLabelLayout();
+        assertNotNull("Layout table should be built after setButtons", first);
+        assertEquals("Layout table should hold all items", 3, first.count);
+        assertEquals("Option 2", first.texts[1]);
+
+        // Repeated measure passes reuse the same table
+        for (int i = 0; i < 3; i++) {
+            radio.measure(
+                    View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+                    View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
+        }
+        assertSame("Measure should not rebuild the table", first, radio.getLabelLayout());
+
+        // Language change rebuilds the table
+        radio.setLanguage(Language.RU);
+        RadioLayout russian = radio.getLabelLayout();
+        assertNotSame("Language change should rebuild the table", first, russian);
+        assertEquals(Language.RU, russian.language);
+
+        // Theme change keeps the table
+        radio.setTheme(Theme.DREAMER_DARK);
+        assertSame("Theme change should not rebuild the table", russian, radio.getLabelLayout());
+
+        // Item positions are laid out left to right with equal widths
+        assertEquals(russian.positions[0] + russian.widths[0], russian.positions[1], 0.001f);
+    }
+
+    @Test
+    public void testSteadyStateFramesAllocateNothing() {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(
+                "Thread allocation counters are not available on this JVM",
+                threadBean instanceof com.sun.management.ThreadMXBean
+                        && ((com.sun.management.ThreadMXBean) threadBean)
+                                .isThreadAllocatedMemorySupported());
+        com.sun.management.ThreadMXBean allocationBean =
+                (com.sun.management.ThreadMXBean) threadBean;
+        long threadId = Thread.currentThread().getId();
+
+        radio.setTheme(Theme.DREAMER_DARK);
+        radio.setButtons(testButtons);
+        radio.setSelectedValue("option1");
+        radio.measure(
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
+        radio.layout(0, 0, radio.getMeasuredWidth(), radio.getMeasuredHeight());
+
+        CountingCanvas canvas = new CountingCanvas();
+        long frameNanos = 16_666_667L;
+
+        // Warm up: the first frame builds the cached gradient
+        tapItem(2);
+        for (int i = 0; i <= 10; i++) {
+            radio.stepSelection(i * frameNanos);
+            radio.onDraw(canvas);
+        }
+        Object shader = radio.getSelectionShader();
+        assertNotNull("Selection shader should be created on first frame", shader);
+
+        // Baseline cost of reading the counter itself
+        long baselineStart = allocationBean.getThreadAllocatedBytes(threadId);
+        long baseline = allocationBean.getThreadAllocatedBytes(threadId) - baselineStart;
+
+        long start = allocationBean.getThreadAllocatedBytes(threadId);
+        for (int i = 11; i <= 100; i++) {
+            radio.stepSelection(i * frameNanos);
+            radio.onDraw(canvas);
+        }
+        long allocated = allocationBean.getThreadAllocatedBytes(threadId) - start - baseline;
+
+        assertTrue("Frames should issue draw calls", canvas.drawCount > 0);
+        assertSame(
+                "Selection shader should be reused across frames",
+                shader,
+                radio.getSelectionShader());
+        assertEquals("Steady-state frames should not allocate", 0L, Math.max(0L, allocated));
+    }
+
+    @Test
+    public void testRetargetKeepsMotion() {
+        radio.setButtons(testButtons);
+        radio.setSelectedValue("option1");
+        radio.measure(
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
+        radio.layout(0, 0, radio.getMeasuredWidth(), radio.getMeasuredHeight());
+
+        long frameNanos = 16_666_667L;
+        float startX = radio.getItemPosition(0);
+
+        // Head for the last item and let the indicator move a few frames
+        tapItem(2);
+        for (int i = 0; i <= 5; i++) {
+            radio.stepSelection(i * frameNanos);
+        }
+        float movedX = radio.getSelectionX();
+        assertTrue("Indicator should move towards the target", movedX > startX);
+
+        // Retarget mid-flight: the indicator must not jump back to a start point
+        tapItem(1);
+        radio.stepSelection(6 * frameNanos);
+        assertTrue(
+                "Retargeting should continue from the current position",
+                Math.abs(radio.getSelectionX() - movedX) < radio.getItemWidth(0) / 2f);
+
+        // The spring settles exactly on the new target
+        for (int i = 7; radio.stepSelection(i * frameNanos); i++) {
+            assertTrue("Spring should settle", i < 600);
+        }
+        assertEquals(radio.getItemPosition(1), radio.getSelectionX(), 0.001f);
+    }
+
+    private void tapItem(int index) {
+        float touchX = radio.getItemPosition(index) + radio.getItemWidth(index) / 2f;
+        MotionEvent downEvent = MotionEvent.obtain(0, 0, MotionEvent.ACTION_DOWN, touchX, 0f, 0);
+        radio.onTouchEvent(downEvent);
+        downEvent.recycle();
+    }
+
+    /**
+     * Canvas that only counts draw calls, so the measurement covers Radio code only.
+     */
+    private static class CountingCanvas extends Canvas {
+        int drawCount = 0;
+
+        @Override
+        public int save() {
+            return 1;
+        }
+
+        @Override
+        public void restore() {}
+
+        @Override
+        public void translate(float dx, float dy) {}
+
+        @Override
+        public void drawRoundRect(RectF rect, float rx, float ry, Paint paint) {
+            drawCount++;
+        }
+
+        @Override
+        public void drawText(String text, float x, float y, Paint paint) {
+            drawCount++;
+        }
+    }
 }
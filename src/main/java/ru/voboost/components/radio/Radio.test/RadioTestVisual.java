@@ -706,20 +706,9 @@ public class RadioTestVisual {
             java.lang.reflect.Field animatedXField = Radio.class.getDeclaredField("animatedX");
             java.lang.reflect.Field animatedWidthField =
                     Radio.class.getDeclaredField("animatedWidth");
-            java.lang.reflect.Field itemPositionsField =
-                    Radio.class.getDeclaredField("itemPositions");
-            java.lang.reflect.Field itemWidthsField = Radio.class.getDeclaredField("itemWidths");
 
             animatedXField.setAccessible(true);
             animatedWidthField.setAccessible(true);
-            itemPositionsField.setAccessible(true);
-            itemWidthsField.setAccessible(true);
-
-            @SuppressWarnings("unchecked")
-            java.util.List<Float> itemPositions =
-                    (java.util.List<Float>) itemPositionsField.get(radio);
-            @SuppressWarnings("unchecked")
-            java.util.List<Float> itemWidths = (java.util.List<Float>) itemWidthsField.get(radio);
 
             // Find indices
             int fromIndex = -1;
@@ -736,10 +725,10 @@ public class RadioTestVisual {
             }
 
             if (fromIndex >= 0 && toIndex >= 0) {
-                float startX = itemPositions.get(fromIndex);
-                float endX = itemPositions.get(toIndex);
-                float startWidth = itemWidths.get(fromIndex);
-                float endWidth = itemWidths.get(toIndex);
+                float startX = radio.getItemPosition(fromIndex);
+                float endX = radio.getItemPosition(toIndex);
+                float startWidth = radio.getItemWidth(fromIndex);
+                float endWidth = radio.getItemWidth(toIndex);
 
                 // Apply overshoot interpolation manually
                 float overshootProgress = calculateOvershoot(progress, 1.0f);
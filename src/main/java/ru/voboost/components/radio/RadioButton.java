@@ -1,36 +1,57 @@
 package ru.voboost.components.radio;
 
-import java.util.HashMap;
 import java.util.Map;
 
+import androidx.compose.runtime.Immutable;
+
+import ru.voboost.components.font.Font;
+import ru.voboost.components.i18n.Language;
+import ru.voboost.components.i18n.LocalizedString;
+
 /**
  * Data model for a single radio button option.
  *
  * @param value unique option identifier
  * @param label localized text: language code → display text
  */
+@Immutable
 public class RadioButton {
     private final String value;
-    private final Map<String, String> label;
+    private final LocalizedString label;
 
     /**
      * Creates a new RadioButton.
      *
+     * <p>
+     * Null texts in the map are skipped; if every text is null, the label
+     * resolves to the value in every language.
+     *
      * @param value unique option value
      * @param label translation map: language code → localized text
      * @throws IllegalArgumentException if value is blank or label is empty
      */
     public RadioButton(String value, Map<String, String> label) {
+        this(value, toLocalizedString(value, label));
+    }
+
+    /**
+     * Creates a new RadioButton.
+     *
+     * @param value unique option value
+     * @param label localized text
+     * @throws IllegalArgumentException if value is blank or label is null
+     */
+    public RadioButton(String value, LocalizedString label) {
         if (value == null || value.trim().isEmpty()) {
             throw new IllegalArgumentException("RadioButton value cannot be blank");
         }
 
-        if (label == null || label.isEmpty()) {
+        if (label == null) {
             throw new IllegalArgumentException("RadioButton must have at least one label");
         }
 
         this.value = value;
-        this.label = new HashMap<>(label); // Defensive copy
+        this.label = label; // Immutable, no copy needed
     }
 
     /**
@@ -40,15 +61,45 @@ public class RadioButton {
      * @return localized text, or first available label as fallback
      */
     public String getText(String lang) {
-        String text = label.get(lang);
+        return label.get(lang);
+    }
 
-        if (text != null) {
-            return text;
-        }
+    /**
+     * Returns localized text for the specified language.
+     *
+     * @param language the language
+     * @return localized text, or first available label as fallback
+     */
+    public String getText(Language language) {
+        return label.get(language);
+    }
 
-        // Fallback to first available label
-        String firstLabel = label.values().iterator().next();
-        return firstLabel != null ? firstLabel : value;
+    /**
+     * Checks whether the localized text contains only ASCII characters.
+     *
+     * <p>
+     * Codes are classified through the memoized {@link Font#isAsciiOnly(String)};
+     * renderers use the precomputed {@link #isAsciiOnly(Language)}.
+     *
+     * @param lang language code (e.g. "en", "ru")
+     * @return true if {@link #getText(String)} for this language is ASCII-only
+     */
+    public boolean isAsciiOnly(String lang) {
+        return Font.isAsciiOnly(getText(lang));
+    }
+
+    /**
+     * Checks whether the localized text contains only ASCII characters.
+     *
+     * <p>
+     * Precomputed for all labels, so renderers can pick the bold font variant
+     * without scanning the text.
+     *
+     * @param language the language
+     * @return true if {@link #getText(Language)} is ASCII-only
+     */
+    public boolean isAsciiOnly(Language language) {
+        return label.isAsciiOnly(language);
     }
 
     /**
@@ -66,7 +117,16 @@ public class RadioButton {
      * @return copy of the label map
      */
     public Map<String, String> getLabel() {
-        return new HashMap<>(label);
+        return label.toMap();
+    }
+
+    /**
+     * Returns the localized label.
+     *
+     * @return the label
+     */
+    public LocalizedString getLocalizedLabel() {
+        return label;
     }
 
     @Override
@@ -93,8 +153,10 @@ public class RadioButton {
      * @return new RadioButton instance
      */
     public RadioButton copy(String value, Map<String, String> label) {
+        String newValue = value != null ? value : this.value;
         return new RadioButton(
-                value != null ? value : this.value, label != null ? label : this.label);
+                newValue,
+                label != null ? toLocalizedString(newValue, label) : this.label);
     }
 
     /**
@@ -117,6 +179,15 @@ public class RadioButton {
         return copy(null, label);
     }
 
+    private static LocalizedString toLocalizedString(String value, Map<String, String> label) {
+        if (label == null || label.isEmpty()) {
+            throw new IllegalArgumentException("RadioButton must have at least one label");
+        }
+
+        // A map with only null texts falls back to the value, as before LocalizedString
+        return LocalizedString.ofOrDefault(label, value);
+    }
+
     @Override
     public String toString() {
         return "RadioButton{" + "value='" + value + '\'' + ", label=" + label + '}';
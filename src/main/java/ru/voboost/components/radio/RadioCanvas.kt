@@ -0,0 +1,259 @@
+package ru.voboost.components.radio
+
+import android.content.Context
+import androidx.compose.foundation.Canvas
+import androidx.compose.foundation.gestures.detectTapGestures
+import androidx.compose.foundation.layout.offset
+import androidx.compose.foundation.layout.requiredSize
+import androidx.compose.runtime.Composable
+import androidx.compose.runtime.SideEffect
+import androidx.compose.runtime.getValue
+import androidx.compose.runtime.mutableFloatStateOf
+import androidx.compose.runtime.mutableIntStateOf
+import androidx.compose.runtime.mutableStateOf
+import androidx.compose.runtime.remember
+import androidx.compose.runtime.rememberCoroutineScope
+import androidx.compose.runtime.rememberUpdatedState
+import androidx.compose.runtime.setValue
+import androidx.compose.runtime.withFrameNanos
+import androidx.compose.ui.Modifier
+import androidx.compose.ui.graphics.drawscope.DrawScope
+import androidx.compose.ui.graphics.drawscope.drawIntoCanvas
+import androidx.compose.ui.graphics.nativeCanvas
+import androidx.compose.ui.input.pointer.pointerInput
+import androidx.compose.ui.platform.LocalContext
+import androidx.compose.ui.platform.LocalDensity
+import androidx.compose.ui.unit.IntOffset
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.launch
+import ru.voboost.components.animation.Spring
+import ru.voboost.components.i18n.Language
+import ru.voboost.components.theme.Theme
+import kotlin.math.ceil
+import kotlin.math.roundToInt
+
+/**
+ * Compose-native Radio: draws with [Canvas] and animates with Compose state instead of
+ * wrapping the View in `AndroidView`.
+ *
+ * Labels are laid out by the same [RadioLayout] / [RadioGeometry] as the View, the
+ * indicator is driven by the same [Spring]s, and all layers are drawn by the same
+ * [RadioDrawer] on the native canvas, so pixels match the View version. The indicator moves in the draw phase
+ * only: an animation frame neither recomposes nor re-measures.
+ *
+ * Parameters and behavior are the same as the [Radio] wrapper: a tap animates to the
+ * tapped option and reports it, an external [value] change snaps.
+ *
+ * @param buttons List of radio button options with localized labels
+ * @param lang Language enum value
+ * @param theme Theme enum value
+ * @param value Currently selected value
+ * @param onValueChange Callback when selection changes
+ * @param modifier Modifier for the control
+ */
+@Composable
+fun RadioCanvas(
+    buttons: List<RadioButton>,
+    lang: Language,
+    theme: Theme,
+    value: String,
+    onValueChange: (String) -> Unit,
+    modifier: Modifier = Modifier,
+) {
+    val context = LocalContext.current
+    val currentOnValueChange by rememberUpdatedState(onValueChange)
+    val scope = rememberCoroutineScope()
+    val renderer = remember { RadioRenderer(context) }
+    val layout = remember(buttons, lang) { renderer.createLayout(context, buttons, lang) }
+    val selectedIndex = indexOfValue(buttons, value)
+    val state = remember { RadioCanvasState(selectedIndex) }
+
+    // Applied before this frame is drawn, so an external change never shows a stale frame
+    SideEffect {
+        state.sync(layout, selectedIndex)
+    }
+
+    val padding = RadioDimensions.ANIMATION_PADDING_PX
+    val totalWidth = ceil(layout.contentWidth + 2 * padding)
+    val totalHeight = ceil(RadioDimensions.HEIGHT_PX)
+    val density = LocalDensity.current
+
+    Canvas(
+        modifier =
+            modifier
+                // Same placement as the View, which is shifted left by its animation padding
+                .offset { IntOffset(-padding.roundToInt(), 0) }
+                .requiredSize(
+                    with(density) { totalWidth.toDp() },
+                    with(density) { totalHeight.toDp() },
+                )
+                .pointerInput(layout) {
+                    detectTapGestures(
+                        onPress = { offset ->
+                            val index = layout.geometry.getItemIndexAt(offset.x)
+                            val button = if (index >= 0) buttons[index] else null
+                            if (button != null && index != state.drawnIndex) {
+                                // This is a user click - animate the transition
+                                state.animateTo(scope, layout, index)
+                                currentOnValueChange(button.value)
+                            }
+                        },
+                    )
+                },
+    ) {
+        renderer.draw(this, layout, theme, state.drawnIndex, state.x, state.width, state.isAnimating)
+    }
+}
+
+/**
+ * Selection indicator state of a [RadioCanvas].
+ */
+internal class RadioCanvasState(
+    initialIndex: Int,
+) {
+    private val xSpring =
+        Spring.fromOvershoot(
+            RadioDimensions.OVERSHOOT_TENSION,
+            RadioDimensions.ANIMATION_DURATION.toLong(),
+        )
+    private val widthSpring =
+        Spring.fromOvershoot(
+            RadioDimensions.OVERSHOOT_TENSION,
+            RadioDimensions.ANIMATION_DURATION.toLong(),
+        )
+
+    // Read in the draw phase only, so frames invalidate the canvas without recomposing
+    var x by mutableFloatStateOf(0f)
+        private set
+    var width by mutableFloatStateOf(0f)
+        private set
+    var isAnimating by mutableStateOf(false)
+        private set
+    var drawnIndex by mutableIntStateOf(initialIndex)
+        private set
+
+    private var layout: RadioLayout? = null
+    private var animationJob: Job? = null
+
+    /**
+     * Snaps to the selected index when it or the layout changed outside a tap.
+     */
+    fun sync(
+        layout: RadioLayout,
+        index: Int,
+    ) {
+        if (layout === this.layout && index == drawnIndex) {
+            return
+        }
+
+        // External changes and relayouts snap, like Radio.setSelectedValue
+        animationJob?.cancel()
+        animationJob = null
+        xSpring.cancel()
+        widthSpring.cancel()
+        isAnimating = false
+        this.layout = layout
+        drawnIndex = index
+    }
+
+    /**
+     * Animates the indicator to the tapped index, retargeting a running animation.
+     */
+    fun animateTo(
+        scope: CoroutineScope,
+        layout: RadioLayout,
+        index: Int,
+    ) {
+        // A resting spring starts from the drawn slot; a moving one keeps its velocity
+        val fromIndex = drawnIndex
+        if (!isAnimating && fromIndex in 0 until layout.count) {
+            xSpring.snapTo(layout.positions[fromIndex])
+            widthSpring.snapTo(layout.widths[fromIndex])
+        }
+        xSpring.animateTo(layout.positions[index])
+        widthSpring.animateTo(layout.widths[index])
+        x = xSpring.value
+        width = widthSpring.value
+        drawnIndex = index
+        isAnimating = true
+
+        animationJob?.cancel()
+        animationJob =
+            scope.launch {
+                var isRunning = true
+                while (isRunning) {
+                    isRunning =
+                        withFrameNanos { frameTimeNanos ->
+                            val isXRunning = xSpring.step(frameTimeNanos)
+                            val isWidthRunning = widthSpring.step(frameTimeNanos)
+                            x = xSpring.value
+                            width = widthSpring.value
+                            isXRunning || isWidthRunning
+                        }
+                }
+                isAnimating = false
+            }
+    }
+}
+
+/**
+ * Draws a Radio into a [DrawScope] through the [RadioDrawer] shared with the View.
+ *
+ * Holds the paints and the drawer, which caches the selection gradient.
+ */
+internal class RadioRenderer(
+    context: Context,
+) {
+    private val paints = RadioRow.Paints(context)
+    private val drawer = RadioDrawer()
+
+    fun createLayout(
+        context: Context,
+        buttons: List<RadioButton>,
+        lang: Language,
+    ): RadioLayout =
+        RadioLayout.create(
+            context,
+            buttons,
+            lang,
+            paints.textPaint,
+            RadioDimensions.ANIMATION_PADDING_PX,
+            RadioDimensions.HEIGHT_PX,
+        )
+
+    /**
+     * Draws the three Radio layers.
+     *
+     * @param selectedIndex index the indicator rests on or moves to, -1 for none
+     * @param x indicator x while animating
+     * @param width indicator width while animating
+     * @param isAnimating whether [x] and [width] are used instead of the selected slot
+     */
+    fun draw(
+        scope: DrawScope,
+        layout: RadioLayout,
+        theme: Theme,
+        selectedIndex: Int,
+        x: Float,
+        width: Float,
+        isAnimating: Boolean,
+    ) {
+        val hasSlot = selectedIndex in 0 until layout.count
+        val selectionX = if (isAnimating) x else if (hasSlot) layout.positions[selectedIndex] else 0f
+        val selectionWidth = if (isAnimating) width else if (hasSlot) layout.widths[selectedIndex] else 0f
+
+        scope.drawIntoCanvas { canvas ->
+            drawer.draw(
+                canvas.nativeCanvas,
+                layout,
+                theme,
+                RadioDimensions.ANIMATION_PADDING_PX,
+                selectedIndex,
+                selectionX,
+                selectionWidth,
+                paints,
+            )
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package ru.voboost.components.radio;
+
+/**
+ * Color scheme for Radio component
+ */
+public final class RadioColors {
+    public final int background;
+    public final int selectedText;
+    public final int unselectedText;
+    public final int selectedGradientStart;
+    public final int selectedGradientEnd;
+    public final int selectedBorderTop;
+    public final int selectedBorderSide;
+    public final int selectedBorderBottom;
+
+    public RadioColors(
+            int background,
+            int selectedText,
+            int unselectedText,
+            int selectedGradientStart,
+            int selectedGradientEnd,
+            int selectedBorderTop,
+            int selectedBorderSide,
+            int selectedBorderBottom) {
+        this.background = background;
+        this.selectedText = selectedText;
+        this.unselectedText = unselectedText;
+        this.selectedGradientStart = selectedGradientStart;
+        this.selectedGradientEnd = selectedGradientEnd;
+        this.selectedBorderTop = selectedBorderTop;
+        this.selectedBorderSide = selectedBorderSide;
+        this.selectedBorderBottom = selectedBorderBottom;
+    }
+}
@@ -0,0 +1,137 @@
+package ru.voboost.components.radio;
+
+import android.graphics.Canvas;
+import android.graphics.LinearGradient;
+import android.graphics.Paint;
+import android.graphics.Shader;
+
+import ru.voboost.components.theme.Theme;
+
+/**
+ * Draws the three Radio layers: background, selection indicator and labels.
+ *
+ * <p>
+ * The only copy of the Radio drawing rules. {@link Radio}, {@link RadioRow}
+ * and the Compose renderer all draw through it, so the View, rows drawn by a
+ * host view and the Compose control cannot drift apart. Each control keeps
+ * one drawer, which caches its selection gradient; paints come from the
+ * caller and may be shared between controls.
+ *
+ * <p>
+ * Drawing does not allocate once the gradient is cached. Must only be used
+ * from the UI thread.
+ */
+final class RadioDrawer {
+    // Selection gradient cached per theme (and indicator width for horizontal gradients)
+    private LinearGradient selectionGradient;
+    private Theme selectionGradientTheme;
+    private float selectionGradientWidth = -1f;
+
+    /**
+     * Draws the control.
+     *
+     * @param canvas         the canvas
+     * @param layout         label table, positions in canvas coordinates
+     * @param theme          the theme
+     * @param contentLeft    left edge of the background in canvas coordinates
+     * @param targetIndex    index the indicator rests on or moves to, -1 for none
+     * @param selectionX     indicator left edge
+     * @param selectionWidth indicator width, 0 to draw no indicator
+     * @param paints         paints to draw with
+     */
+    void draw(
+            Canvas canvas,
+            RadioLayout layout,
+            Theme theme,
+            float contentLeft,
+            int targetIndex,
+            float selectionX,
+            float selectionWidth,
+            RadioRow.Paints paints) {
+        RadioColors colors = RadioTheme.getColors(theme);
+        float height = RadioDimensions.HEIGHT_PX;
+        float radius = RadioDimensions.CORNER_RADIUS_PX;
+
+        // LAYER 1: Control background - size exactly by content
+        paints.backgroundPaint.setColor(colors.background);
+        paints.rect.set(contentLeft, 0f, contentLeft + layout.contentWidth, height);
+        canvas.drawRoundRect(paints.rect, radius, radius, paints.backgroundPaint);
+
+        // LAYER 2: Selection, 1px inset, in coordinates local to the indicator
+        // so the cached gradient follows it via translate
+        if (selectionWidth > 0) {
+            updateSelectionGradient(colors, theme, selectionWidth);
+            paints.selectedBackgroundPaint.setShader(selectionGradient);
+            paints.rect.set(1f, 1f, selectionWidth, height - 1f);
+
+            canvas.save();
+            canvas.translate(selectionX, 0f);
+            canvas.drawRoundRect(paints.rect, radius, radius, paints.selectedBackgroundPaint);
+            canvas.restore();
+        }
+
+        // LAYER 3: Labels. Only the target item changes color, and only while
+        // the indicator covers its text
+        Paint textPaint = paints.textPaint;
+        for (int i = 0; i < layout.count; i++) {
+            String text = layout.texts[i];
+            if (text == null)
+                continue;
+
+            float itemWidth = layout.widths[i];
+            float textX = layout.geometry.getTextCenterX(i);
+            boolean isSelected = i == targetIndex
+                    && RadioGeometry.isTextCovered(selectionX, selectionWidth, textX, itemWidth);
+
+            // Bold for selected, regular for unselected (resolved in the table)
+            textPaint.setColor(isSelected ? colors.selectedText : colors.unselectedText);
+            textPaint.setTypeface(isSelected ? layout.boldTypefaces[i] : layout.regularTypeface);
+
+            // Unselected text needs +1px offset for visual centering compensation
+            float baseline = isSelected ? layout.selectedBaseline : layout.unselectedBaseline;
+            canvas.drawText(text, textX, baseline, textPaint);
+        }
+    }
+
+    /**
+     * Returns the shader currently used for the selection indicator.
+     *
+     * @return the cached selection gradient, or null if not created yet
+     */
+    Shader getSelectionShader() {
+        return selectionGradient;
+    }
+
+    private void updateSelectionGradient(RadioColors colors, Theme theme, float width) {
+        if (selectionGradient != null
+                && selectionGradientTheme == theme
+                && (!theme.isDreamer() || selectionGradientWidth == width)) {
+            return;
+        }
+
+        float height = RadioDimensions.HEIGHT_PX;
+        if (theme.isDreamer()) {
+            // Horizontal gradient for dreamer theme
+            selectionGradient = new LinearGradient(
+                    1f,
+                    0,
+                    width,
+                    0,
+                    colors.selectedGradientStart,
+                    colors.selectedGradientEnd,
+                    Shader.TileMode.CLAMP);
+        } else {
+            // Vertical gradient for free theme
+            selectionGradient = new LinearGradient(
+                    0,
+                    1f,
+                    0,
+                    height - 1f,
+                    colors.selectedGradientStart,
+                    colors.selectedGradientEnd,
+                    Shader.TileMode.CLAMP);
+        }
+        selectionGradientTheme = theme;
+        selectionGradientWidth = width;
+    }
+}
@@ -0,0 +1,130 @@
+package ru.voboost.components.radio;
+
+/**
+ * Platform-independent geometry of a Radio: item slots, hit testing and the
+ * rule that decides when a label is drawn as selected.
+ *
+ * <p>
+ * Contains no Android types, so the View ({@link Radio}) and the Compose
+ * implementation ({@code RadioCanvas}) compute identical positions from the
+ * same measured label widths.
+ */
+final class RadioGeometry {
+    /** Item widths in pixels (all equal). */
+    final float[] widths;
+
+    /** Item left positions in pixels, including the content offset. */
+    final float[] positions;
+
+    /** Width of the background content (all items). */
+    final float contentWidth;
+
+    private RadioGeometry(float[] widths, float[] positions, float contentWidth) {
+        this.widths = widths;
+        this.positions = positions;
+        this.contentWidth = contentWidth;
+    }
+
+    /**
+     * Lays out the item slots.
+     *
+     * <p>
+     * All items get the same width (like layout_weight="1"), based on the widest
+     * label, so there is enough space for the selected (bold) state.
+     *
+     * @param count        number of items
+     * @param maxTextWidth width of the widest label, measured in bold
+     * @param offsetX      content offset inside the drawing area
+     * @return the geometry
+     */
+    static RadioGeometry create(int count, float maxTextWidth, float offsetX) {
+        float equalItemWidth = Math.max(
+                maxTextWidth + 2 * RadioDimensions.ITEM_PADDING_HORIZONTAL_PX,
+                RadioDimensions.ITEM_MIN_WIDTH_PX);
+
+        float[] widths = new float[count];
+        float[] positions = new float[count];
+        float currentX = 0f;
+        for (int i = 0; i < count; i++) {
+            widths[i] = equalItemWidth;
+            positions[i] = currentX + offsetX;
+            currentX += equalItemWidth;
+        }
+
+        return new RadioGeometry(widths, positions, currentX);
+    }
+
+    /**
+     * Returns the same slots moved right by the given distance. Widths are
+     * shared with this geometry.
+     *
+     * @param dx distance in pixels
+     * @return the moved geometry
+     */
+    RadioGeometry offsetBy(float dx) {
+        float[] moved = new float[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            moved[i] = positions[i] + dx;
+        }
+        return new RadioGeometry(widths, moved, contentWidth);
+    }
+
+    /**
+     * Returns the item under the given x coordinate.
+     *
+     * @param x x coordinate in the drawing area
+     * @return item index, or -1 if no item is hit
+     */
+    int getItemIndexAt(float x) {
+        for (int i = 0; i < positions.length; i++) {
+            if (x >= positions[i] && x <= positions[i] + widths[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the x of the label center of an item.
+     *
+     * @param index item index
+     * @return label center x in pixels
+     */
+    float getTextCenterX(int index) {
+        return positions[index] + widths[index] / 2f;
+    }
+
+    /**
+     * Determines if a label is covered by the moving selection indicator.
+     *
+     * @param selectionX     indicator left position
+     * @param selectionWidth indicator width
+     * @param textCenterX    label center x
+     * @param itemWidth      item width
+     * @return true if the label is covered and drawn as selected
+     */
+    static boolean isTextCovered(
+            float selectionX, float selectionWidth, float textCenterX, float itemWidth) {
+        if (selectionWidth <= 0)
+            return false;
+
+        // Text bounds (with small margin for smoothness)
+        float textLeftBound = textCenterX - itemWidth * 0.4f;
+        float textRightBound = textCenterX + itemWidth * 0.4f;
+
+        // Text is considered covered when animation overlaps with text bounds
+        return selectionX + selectionWidth >= textLeftBound && selectionX <= textRightBound;
+    }
+
+    /**
+     * Returns the baseline that centers text vertically.
+     *
+     * @param height  control height in pixels
+     * @param ascent  font ascent (negative)
+     * @param descent font descent
+     * @return baseline y in pixels
+     */
+    static float getCenteredBaseline(float height, float ascent, float descent) {
+        return height / 2f - (descent + ascent) / 2f;
+    }
+}
@@ -0,0 +1,233 @@
+package ru.voboost.components.radio;
+
+import java.util.HashMap;
+import java.util.List;
+
+import android.content.Context;
+import android.graphics.Paint;
+import android.graphics.Typeface;
+
+import androidx.annotation.Nullable;
+
+import ru.voboost.components.font.Font;
+import ru.voboost.components.i18n.Language;
+
+/**
+ * Precomputed label layout of a Radio for one (buttons, language) pair.
+ *
+ * <p>
+ * Holds the resolved label strings, their typefaces, item widths, x positions
+ * and text baselines in primitive arrays, so that measuring and drawing only
+ * read this table. A new table is built only when the buttons or the language
+ * change, and labels already measured in the previous table are not measured
+ * again.
+ */
+final class RadioLayout {
+    /** Buttons this table was built for (compared by identity). */
+    final List<RadioButton> buttons;
+
+    /** Language this table was built for. */
+    final Language language;
+
+    /** Number of items, including null buttons (which occupy a slot). */
+    final int count;
+
+    /** Resolved label text per item, null for null buttons. */
+    final String[] texts;
+
+    /** Bold text width per item, 0 for null buttons. */
+    final float[] textWidths;
+
+    /** Bold typeface per item (ASCII or Unicode variant of the label). */
+    final Typeface[] boldTypefaces;
+
+    /** Regular typeface shared by all unselected items. */
+    final Typeface regularTypeface;
+
+    /** Item slots and hit testing, shared with the Compose implementation. */
+    final RadioGeometry geometry;
+
+    /** Item widths in pixels. */
+    final float[] widths;
+
+    /** Item left positions in pixels, including the content offset. */
+    final float[] positions;
+
+    /** Width of the background content (all items). */
+    final float contentWidth;
+
+    /** Text baseline for the selected item. */
+    final float selectedBaseline;
+
+    /** Text baseline for unselected items (+1px visual centering compensation). */
+    final float unselectedBaseline;
+
+    private RadioLayout(
+            List<RadioButton> buttons,
+            Language language,
+            String[] texts,
+            float[] textWidths,
+            Typeface[] boldTypefaces,
+            Typeface regularTypeface,
+            RadioGeometry geometry,
+            float selectedBaseline) {
+        this.buttons = buttons;
+        this.language = language;
+        this.count = texts.length;
+        this.texts = texts;
+        this.textWidths = textWidths;
+        this.boldTypefaces = boldTypefaces;
+        this.regularTypeface = regularTypeface;
+        this.geometry = geometry;
+        this.widths = geometry.widths;
+        this.positions = geometry.positions;
+        this.contentWidth = geometry.contentWidth;
+        this.selectedBaseline = selectedBaseline;
+        this.unselectedBaseline = selectedBaseline + 1f;
+    }
+
+    /**
+     * Checks whether this table is still valid for the given content.
+     *
+     * @param buttons  current button list
+     * @param language current language
+     * @return true if the table was built for exactly this list and language
+     */
+    boolean isFor(List<RadioButton> buttons, Language language) {
+        return this.buttons == buttons && this.language == language;
+    }
+
+    /**
+     * Returns this table with the content moved right by the given offset.
+     * Labels, typefaces and baselines are shared; nothing is measured again.
+     *
+     * @param offsetX content offset inside the View
+     * @return this table if the offset is 0, otherwise a moved copy
+     */
+    RadioLayout offsetBy(float offsetX) {
+        if (offsetX == 0f) {
+            return this;
+        }
+
+        return new RadioLayout(
+                buttons,
+                language,
+                texts,
+                textWidths,
+                boldTypefaces,
+                regularTypeface,
+                geometry.offsetBy(offsetX),
+                selectedBaseline);
+    }
+
+    /**
+     * Measures all labels and builds the layout table.
+     *
+     * <p>
+     * Labels are measured in bold so there is enough space for the selected
+     * state; the slots are laid out by {@link RadioGeometry}.
+     *
+     * @param context      context used to resolve typefaces
+     * @param buttons      button list
+     * @param language     language to resolve labels for
+     * @param measurePaint paint configured with the label text size (its
+     *                     typeface is changed while measuring)
+     * @param offsetX      content offset inside the View
+     * @param height       control height in pixels
+     * @return the new layout table
+     */
+    static RadioLayout create(
+            Context context,
+            List<RadioButton> buttons,
+            Language language,
+            Paint measurePaint,
+            float offsetX,
+            float height) {
+        return create(context, buttons, language, measurePaint, offsetX, height, null);
+    }
+
+    /**
+     * Builds the layout table, reusing the text widths of labels that the
+     * previous table already measured in the same language.
+     *
+     * @param context      context used to resolve typefaces
+     * @param buttons      button list
+     * @param language     language to resolve labels for
+     * @param measurePaint paint configured with the label text size (its
+     *                     typeface is changed while measuring)
+     * @param offsetX      content offset inside the View
+     * @param height       control height in pixels
+     * @param previous     table built with the same text size, or null
+     * @return the new layout table
+     */
+    static RadioLayout create(
+            Context context,
+            List<RadioButton> buttons,
+            Language language,
+            Paint measurePaint,
+            float offsetX,
+            float height,
+            @Nullable RadioLayout previous) {
+        int count = buttons.size();
+
+        String[] texts = new String[count];
+        float[] textWidths = new float[count];
+        Typeface[] boldTypefaces = new Typeface[count];
+
+        // The bold face depends only on the text, so equal texts have equal widths
+        HashMap<String, Integer> previousIndexByText = null;
+        if (previous != null && previous.language == language) {
+            previousIndexByText = new HashMap<>(previous.count * 2);
+            for (int i = 0; i < previous.count; i++) {
+                if (previous.texts[i] != null) {
+                    previousIndexByText.put(previous.texts[i], i);
+                }
+            }
+        }
+
+        // First, measure all texts to find the maximum width needed
+        float maxTextWidth = 0f;
+        Typeface lastBold = Font.getBold(context, "");
+        for (int i = 0; i < count; i++) {
+            RadioButton button = buttons.get(i);
+            if (button == null)
+                continue;
+
+            String text = button.getText(language);
+            Typeface bold = Font.getBold(context, button.isAsciiOnly(language));
+            texts[i] = text;
+            boldTypefaces[i] = bold;
+            lastBold = bold;
+
+            Integer previousIndex = previousIndexByText != null
+                    ? previousIndexByText.get(text)
+                    : null;
+            if (previousIndex != null) {
+                textWidths[i] = previous.textWidths[previousIndex];
+            } else {
+                // Measure with bold typeface to ensure enough space for selected state
+                measurePaint.setTypeface(bold);
+                textWidths[i] = measurePaint.measureText(text);
+            }
+            maxTextWidth = Math.max(maxTextWidth, textWidths[i]);
+        }
+
+        // Equal width for all items based on the widest text
+        RadioGeometry geometry = RadioGeometry.create(count, maxTextWidth, offsetX);
+
+        // Baseline uses the metrics of the bold face, as left by the measuring pass
+        measurePaint.setTypeface(lastBold);
+        float baseline = RadioGeometry.getCenteredBaseline(
+                height, measurePaint.ascent(), measurePaint.descent());
+
+        return new RadioLayout(
+                buttons,
+                language,
+                texts,
+                textWidths,
+                boldTypefaces,
+                Font.getRegular(context),
+                geometry,
+                baseline);
+    }
+}
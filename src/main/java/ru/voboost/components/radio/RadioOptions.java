@@ -0,0 +1,151 @@
+package ru.voboost.components.radio;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import android.content.Context;
+import android.graphics.Paint;
+
+import androidx.annotation.Nullable;
+
+import ru.voboost.components.i18n.Language;
+
+/**
+ * Immutable option set shared by any number of Radio controls.
+ *
+ * <p>
+ * Holds the buttons, a value-to-index map and the measured label table per
+ * {@link Language}. Pages that stack many Radios with the same options
+ * (climate levels, on/off switches) create one RadioOptions and pass it to
+ * every Radio: selection lookups are O(1) and the bold label measurement runs
+ * once per option set and language instead of once per Radio.
+ *
+ * <p>
+ * Label tables are built lazily on first use. Must only be used from the UI
+ * thread.
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * RadioOptions levels = RadioOptions.of(levelButtons);
+ * driverRadio.setOptions(levels);
+ * passengerRadio.setOptions(levels);
+ * </pre>
+ */
+public final class RadioOptions {
+    /** Option set without buttons. */
+    public static final RadioOptions EMPTY = new RadioOptions(new ArrayList<>());
+
+    // Paint used for measuring labels, shared by all option sets
+    private static Paint measurePaint;
+
+    private final List<RadioButton> buttons;
+    private final HashMap<String, Integer> indexByValue;
+
+    // Label tables by Language ordinal, measured at content offset 0
+    private final RadioLayout[] layouts = new RadioLayout[Language.values().length];
+
+    private RadioOptions(List<RadioButton> buttons) {
+        this.buttons = Collections.unmodifiableList(buttons);
+        this.indexByValue = new HashMap<>(buttons.size() * 2);
+
+        // The first button with a value wins, as in a linear search
+        for (int i = 0; i < buttons.size(); i++) {
+            RadioButton button = buttons.get(i);
+            if (button != null && !indexByValue.containsKey(button.getValue())) {
+                indexByValue.put(button.getValue(), i);
+            }
+        }
+    }
+
+    /**
+     * Creates an option set from a copy of the given buttons.
+     *
+     * @param buttons the options, null for an empty set
+     * @return the option set
+     */
+    public static RadioOptions of(List<RadioButton> buttons) {
+        if (buttons == null || buttons.isEmpty()) {
+            return EMPTY;
+        }
+        return new RadioOptions(new ArrayList<>(buttons));
+    }
+
+    /**
+     * Returns the buttons.
+     *
+     * @return unmodifiable list of buttons
+     */
+    public List<RadioButton> getButtons() {
+        return buttons;
+    }
+
+    /**
+     * Returns the number of buttons.
+     *
+     * @return button count
+     */
+    public int size() {
+        return buttons.size();
+    }
+
+    /**
+     * Returns the index of the button with the given value.
+     *
+     * @param value button value
+     * @return button index, or -1 if no button has the value
+     */
+    public int indexOf(String value) {
+        if (value == null) {
+            return -1;
+        }
+
+        Integer index = indexByValue.get(value);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Returns the label table for the language, measuring it on first use.
+     *
+     * @param context  context used to resolve typefaces
+     * @param language language to resolve labels for
+     * @return label table with the content starting at x = 0
+     */
+    RadioLayout getLayout(Context context, Language language) {
+        return getLayout(context, language, null);
+    }
+
+    /**
+     * Returns the label table for the language. On first use, labels already
+     * measured in the previous table (for example the table of the option set
+     * a Radio showed before) are not measured again.
+     *
+     * @param context  context used to resolve typefaces
+     * @param language language to resolve labels for
+     * @param previous table of another option set, or null
+     * @return label table with the content starting at x = 0
+     */
+    RadioLayout getLayout(Context context, Language language, @Nullable RadioLayout previous) {
+        RadioLayout layout = layouts[language.ordinal()];
+        if (layout == null) {
+            if (measurePaint == null) {
+                measurePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+                measurePaint.setTextSize(RadioDimensions.TEXT_SIZE_PX);
+            }
+
+            layout = RadioLayout.create(
+                    context,
+                    buttons,
+                    language,
+                    measurePaint,
+                    0f,
+                    RadioDimensions.HEIGHT_PX,
+                    previous);
+            layouts[language.ordinal()] = layout;
+        }
+        return layout;
+    }
+}
@@ -0,0 +1,283 @@
+package ru.voboost.components.radio;
+
+import java.util.List;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RectF;
+
+import ru.voboost.components.animation.Spring;
+import ru.voboost.components.font.Font;
+import ru.voboost.components.i18n.Language;
+import ru.voboost.components.theme.Theme;
+
+/**
+ * One segmented control drawn by a host view instead of being a {@link Radio}
+ * view of its own.
+ *
+ * <p>
+ * Holds the options, the selection, the label table and the indicator springs
+ * of a single row, and draws it through the same {@link RadioDrawer} as
+ * {@link Radio}. Hosts that draw many controls in one view (for example a
+ * flattened settings list) keep one row per control and share one
+ * {@link Paints} instance between all rows.
+ *
+ * <p>
+ * The row is drawn at the canvas origin: the content starts at x = 0 and the
+ * indicator may overshoot to the left and right while it animates. Must only
+ * be used from the UI thread.
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * RadioRow row = new RadioRow(buttons);
+ * row.measure(context, Language.EN);
+ * row.draw(canvas, Theme.FREE_DARK, paints);
+ * </pre>
+ */
+public final class RadioRow {
+    private final RadioOptions options;
+    private final List<RadioButton> buttons;
+    private String selectedValue = "";
+
+    // Label table, rebuilt only when the language changes
+    private RadioLayout layout;
+
+    // Indicator state
+    private final Spring xSpring = Spring.fromOvershoot(
+            RadioDimensions.OVERSHOOT_TENSION, RadioDimensions.ANIMATION_DURATION);
+    private final Spring widthSpring = Spring.fromOvershoot(
+            RadioDimensions.OVERSHOOT_TENSION, RadioDimensions.ANIMATION_DURATION);
+    private float animatedX = 0f;
+    private float animatedWidth = 0f;
+    private boolean isAnimating = false;
+
+    // Drawing rules shared with Radio, with this row's selection gradient
+    private final RadioDrawer drawer = new RadioDrawer();
+
+    /**
+     * Paints for drawing Radio controls. Hosts share one instance between all
+     * of their rows; each {@link Radio} holds its own.
+     */
+    public static final class Paints {
+        final Paint backgroundPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        final Paint selectedBackgroundPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        final Paint textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+        // Reusable drawing bounds (drawing must not allocate)
+        final RectF rect = new RectF();
+
+        /**
+         * Creates the paints with the Radio text style.
+         *
+         * @param context context used to resolve the regular typeface
+         */
+        public Paints(Context context) {
+            textPaint.setTypeface(Font.getRegular(context));
+            textPaint.setTextAlign(Paint.Align.CENTER);
+            textPaint.setTextSize(RadioDimensions.TEXT_SIZE_PX);
+        }
+    }
+
+    /**
+     * Creates a row for the given options.
+     *
+     * @param buttons the options
+     * @throws IllegalArgumentException if buttons is null
+     */
+    public RadioRow(List<RadioButton> buttons) {
+        this(buttons != null ? RadioOptions.of(buttons) : null);
+    }
+
+    /**
+     * Creates a row for a shared option set. Rows with the same option set
+     * share its label measurement.
+     *
+     * @param options the option set
+     * @throws IllegalArgumentException if options is null
+     */
+    public RadioRow(RadioOptions options) {
+        if (options == null) {
+            throw new IllegalArgumentException("Buttons cannot be null");
+        }
+
+        this.options = options;
+        this.buttons = options.getButtons();
+    }
+
+    /**
+     * Returns the options of this row.
+     *
+     * @return unmodifiable list of options
+     */
+    public List<RadioButton> getButtons() {
+        return buttons;
+    }
+
+    /**
+     * Returns the height of every row.
+     *
+     * @return row height in pixels
+     */
+    public static float getHeight() {
+        return RadioDimensions.HEIGHT_PX;
+    }
+
+    /**
+     * Returns the content width for the measured language.
+     *
+     * @return width in pixels, or 0 if the row was not measured yet
+     */
+    public float getWidth() {
+        return layout != null ? layout.contentWidth : 0f;
+    }
+
+    /**
+     * Picks the label table for the language from the option set, which
+     * measures it once for all rows sharing it. Does nothing when the row is
+     * already measured for it.
+     *
+     * @param context  context used to resolve typefaces
+     * @param language language to resolve labels for
+     */
+    public void measure(Context context, Language language) {
+        if (layout != null && layout.isFor(buttons, language)) {
+            return;
+        }
+
+        layout = options.getLayout(context, language);
+
+        // Labels change width, so the indicator snaps to the new slot
+        cancelAnimation();
+        snapToSelection();
+    }
+
+    /**
+     * Returns the selected value.
+     *
+     * @return the selected value, or empty string if nothing is selected
+     */
+    public String getSelectedValue() {
+        return selectedValue;
+    }
+
+    /**
+     * Selects the value without animation.
+     *
+     * @param value the value to select
+     */
+    public void setSelectedValue(String value) {
+        selectedValue = value != null ? value : "";
+        cancelAnimation();
+        snapToSelection();
+    }
+
+    /**
+     * Selects the option at the index and starts the indicator animation.
+     * Call {@link #step(long)} on every frame while {@link #isAnimating()}.
+     *
+     * @param index option index
+     * @return true if the selection changed
+     */
+    public boolean animateToIndex(int index) {
+        if (index < 0 || index >= buttons.size() || layout == null) {
+            return false;
+        }
+
+        RadioButton button = buttons.get(index);
+        if (button == null || button.getValue().equals(selectedValue)) {
+            return false;
+        }
+        String value = button.getValue();
+
+        selectedValue = value;
+
+        // A resting spring starts from the drawn slot; a moving one keeps its velocity
+        if (!isAnimating) {
+            xSpring.snapTo(animatedX);
+            widthSpring.snapTo(animatedWidth);
+        }
+        xSpring.animateTo(layout.positions[index]);
+        widthSpring.animateTo(layout.widths[index]);
+        isAnimating = true;
+        return true;
+    }
+
+    /**
+     * Advances the indicator animation.
+     *
+     * @param frameTimeNanos vsync time of the frame in nanoseconds
+     * @return true while the animation is still running
+     */
+    public boolean step(long frameTimeNanos) {
+        if (!isAnimating) {
+            return false;
+        }
+
+        boolean isXRunning = xSpring.step(frameTimeNanos);
+        boolean isWidthRunning = widthSpring.step(frameTimeNanos);
+        animatedX = xSpring.getValue();
+        animatedWidth = widthSpring.getValue();
+
+        isAnimating = isXRunning || isWidthRunning;
+        return isAnimating;
+    }
+
+    /**
+     * Checks whether the indicator is moving.
+     *
+     * @return true while the indicator animates
+     */
+    public boolean isAnimating() {
+        return isAnimating;
+    }
+
+    /**
+     * Returns the option under the given x coordinate.
+     *
+     * @param x x coordinate relative to the row content
+     * @return option index, or -1 if no option is hit or the row is not measured
+     */
+    public int getItemIndexAt(float x) {
+        return layout != null ? layout.geometry.getItemIndexAt(x) : -1;
+    }
+
+    /**
+     * Draws the row at the canvas origin: background, selection and labels.
+     *
+     * @param canvas the canvas
+     * @param theme  the theme
+     * @param paints shared paints of the host
+     */
+    public void draw(Canvas canvas, Theme theme, Paints paints) {
+        if (layout == null || layout.count == 0) {
+            return;
+        }
+
+        drawer.draw(
+                canvas, layout, theme, 0f, findSelectedIndex(), animatedX, animatedWidth, paints);
+    }
+
+    private int findSelectedIndex() {
+        return options.indexOf(selectedValue);
+    }
+
+    private void snapToSelection() {
+        int index = findSelectedIndex();
+        if (layout != null && index >= 0 && index < layout.count) {
+            animatedX = layout.positions[index];
+            animatedWidth = layout.widths[index];
+        } else {
+            animatedX = 0f;
+            animatedWidth = 0f;
+        }
+    }
+
+    private void cancelAnimation() {
+        xSpring.cancel();
+        widthSpring.cancel();
+        isAnimating = false;
+    }
+}
@@ -1,42 +1,8 @@
 package ru.voboost.components.radio;
 
-import android.graphics.Color;
-
+import ru.voboost.components.theme.Palette;
 import ru.voboost.components.theme.Theme;
 
-/**
- * Color scheme for Radio component
- */
-class RadioColors {
-    public final int background;
-    public final int selectedText;
-    public final int unselectedText;
-    public final int selectedGradientStart;
-    public final int selectedGradientEnd;
-    public final int selectedBorderTop;
-    public final int selectedBorderSide;
-    public final int selectedBorderBottom;
-
-    public RadioColors(
-            int background,
-            int selectedText,
-            int unselectedText,
-            int selectedGradientStart,
-            int selectedGradientEnd,
-            int selectedBorderTop,
-            int selectedBorderSide,
-            int selectedBorderBottom) {
-        this.background = background;
-        this.selectedText = selectedText;
-        this.unselectedText = unselectedText;
-        this.selectedGradientStart = selectedGradientStart;
-        this.selectedGradientEnd = selectedGradientEnd;
-        this.selectedBorderTop = selectedBorderTop;
-        this.selectedBorderSide = selectedBorderSide;
-        this.selectedBorderBottom = selectedBorderBottom;
-    }
-}
-
 /**
  * Dimension constants for the Radio component.
  * All values are in pixels (automotive requirement).
@@ -67,61 +33,57 @@ class RadioDimensions {
  * Predefined color schemes for all supported themes.
  */
 class RadioColorSchemes {
-    private static final java.util.Map<Theme, RadioColors> SCHEMES = new java.util.EnumMap<>(Theme.class);
-
-    static {
-        SCHEMES.put(
-                Theme.FREE_LIGHT,
-                new RadioColors(
-                        Color.parseColor("#ffffff"), // background
-                        Color.parseColor("#ffffff"), // selectedText
-                        Color.parseColor("#2d3442"), // unselectedText
-                        Color.parseColor("#79bbfd"), // selectedGradientStart
-                        Color.parseColor("#2781dd"), // selectedGradientEnd
-                        Color.parseColor("#8dc6ff"), // selectedBorderTop
-                        Color.parseColor("#519ae5"), // selectedBorderSide
-                        Color.parseColor("#1875d2") // selectedBorderBottom
-                ));
-        SCHEMES.put(
-                Theme.FREE_DARK,
-                new RadioColors(
-                        Color.parseColor("#373f4a"), // background
-                        Color.parseColor("#ffffff"), // selectedText
-                        Color.parseColor("#CACACA"), // unselectedText
-                        Color.parseColor("#79bbfd"), // selectedGradientStart
-                        Color.parseColor("#2781dd"), // selectedGradientEnd
-                        Color.parseColor("#8dc6ff"), // selectedBorderTop
-                        Color.parseColor("#519ae5"), // selectedBorderSide
-                        Color.parseColor("#1875d2") // selectedBorderBottom
-                ));
-        SCHEMES.put(
-                Theme.DREAMER_LIGHT,
-                new RadioColors(
-                        Color.parseColor("#ffffff"), // background
-                        Color.parseColor("#2f2e36"), // selectedText
-                        Color.parseColor("#2d3442"), // unselectedText
-                        Color.parseColor("#eadac8"), // selectedGradientStart
-                        Color.parseColor("#9c8069"), // selectedGradientEnd
-                        Color.parseColor("#eadac8"), // selectedBorderTop
-                        Color.parseColor("#9c8069"), // selectedBorderSide
-                        Color.parseColor("#9c8069") // selectedBorderBottom
-                ));
-        SCHEMES.put(
-                Theme.DREAMER_DARK,
-                new RadioColors(
-                        Color.parseColor("#40444a"), // background
-                        Color.parseColor("#2f2e36"), // selectedText
-                        Color.parseColor("#80ffffff"), // unselectedText - 50% white opacity
-                        Color.parseColor("#eadac8"), // selectedGradientStart
-                        Color.parseColor("#9c8069"), // selectedGradientEnd
-                        Color.parseColor("#eadac8"), // selectedBorderTop
-                        Color.parseColor("#9c8069"), // selectedBorderSide
-                        Color.parseColor("#9c8069") // selectedBorderBottom
-                ));
-    }
+    // One scheme per theme, in Theme order
+    private static final RadioColors[] SCHEMES = Palette.table(new RadioColors[] {
+            // FREE_LIGHT
+            new RadioColors(
+                    0xffffffff, // background
+                    0xffffffff, // selectedText
+                    0xff2d3442, // unselectedText
+                    0xff79bbfd, // selectedGradientStart
+                    0xff2781dd, // selectedGradientEnd
+                    0xff8dc6ff, // selectedBorderTop
+                    0xff519ae5, // selectedBorderSide
+                    0xff1875d2 // selectedBorderBottom
+            ),
+            // FREE_DARK
+            new RadioColors(
+                    0xff373f4a, // background
+                    0xffffffff, // selectedText
+                    0xffcacaca, // unselectedText
+                    0xff79bbfd, // selectedGradientStart
+                    0xff2781dd, // selectedGradientEnd
+                    0xff8dc6ff, // selectedBorderTop
+                    0xff519ae5, // selectedBorderSide
+                    0xff1875d2 // selectedBorderBottom
+            ),
+            // DREAMER_LIGHT
+            new RadioColors(
+                    0xffffffff, // background
+                    0xff2f2e36, // selectedText
+                    0xff2d3442, // unselectedText
+                    0xffeadac8, // selectedGradientStart
+                    0xff9c8069, // selectedGradientEnd
+                    0xffeadac8, // selectedBorderTop
+                    0xff9c8069, // selectedBorderSide
+                    0xff9c8069 // selectedBorderBottom
+            ),
+            // DREAMER_DARK
+            new RadioColors(
+                    0xff40444a, // background
+                    0xff2f2e36, // selectedText
+                    0x80ffffff, // unselectedText - 50% white opacity
+                    0xffeadac8, // selectedGradientStart
+                    0xff9c8069, // selectedGradientEnd
+                    0xffeadac8, // selectedBorderTop
+                    0xff9c8069, // selectedBorderSide
+                    0xff9c8069 // selectedBorderBottom
+            )
+    });
 
     public static RadioColors get(Theme theme) {
-        return SCHEMES.getOrDefault(theme, SCHEMES.get(Theme.FREE_LIGHT));
+        // Radio falls back to the Free Light scheme for a null theme
+        return SCHEMES[Palette.index(theme != null ? theme : Theme.FREE_LIGHT)];
     }
 
 }
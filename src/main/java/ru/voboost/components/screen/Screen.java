@@ -1,19 +1,23 @@
 package ru.voboost.components.screen;
 
+import java.util.ArrayList;
+
 import android.content.Context;
+import android.os.Looper;
+import android.os.MessageQueue;
 import android.util.AttributeSet;
-import android.view.View;
 import android.view.ViewGroup;
-import android.widget.ScrollView;
 
 import androidx.annotation.Nullable;
 
 import ru.voboost.components.i18n.ILocalizable;
 import ru.voboost.components.i18n.Language;
+import ru.voboost.components.measure.MeasureCache;
 import ru.voboost.components.panel.Panel;
 import ru.voboost.components.tabs.Tabs;
 import ru.voboost.components.theme.IThemable;
 import ru.voboost.components.theme.Theme;
+import ru.voboost.components.theme.ThemeTransaction;
 
 /**
  * Screen component - A full-screen container for automotive applications.
@@ -34,7 +38,8 @@ import ru.voboost.components.theme.Theme;
  * screen.setTheme(Theme.FREE_LIGHT);
  * </pre>
  */
-public class Screen extends ViewGroup implements IThemable, ILocalizable {
+public class Screen extends ViewGroup
+        implements IThemable, ILocalizable, ThemeTransaction.Participant {
     // Constants
     private static final int DEFAULT_OFFSET_X = 145;
     private static final int DEFAULT_OFFSET_Y = 50;
@@ -59,7 +64,26 @@ public class Screen extends ViewGroup implements IThemable, ILocalizable {
     private Tabs tabs;
     private Panel[] panels;
     private int activePanelIndex = -1;
-    private android.widget.ScrollView tabsScrollView;
+    private final MeasureCache measureCache = new MeasureCache();
+
+    // Lazy panels: created by the provider on first activation
+    private PanelProvider panelProvider;
+    private boolean isPanelPrefetchEnabled = false;
+    private boolean isPrefetchScheduled = false;
+    private final MessageQueue.IdleHandler prefetchIdleHandler = this::prefetchNextPanel;
+
+    // Warm switching: recently used panels stay attached but hidden (LRU, oldest first)
+    private int panelRetentionLimit = 0;
+    private final ArrayList<Panel> retainedPanels = new ArrayList<>();
+
+    // Versioned propagation: each propagate call bumps a generation, and a
+    // panel receives the latest values only when it is activated
+    private Theme propagatedTheme;
+    private Language propagatedLanguage;
+    private int themeGeneration = 0;
+    private int languageGeneration = 0;
+    private int[] panelThemeGenerations;
+    private int[] panelLanguageGenerations;
 
     // ============================================================
     // INTERFACES
@@ -77,6 +101,19 @@ public class Screen extends ViewGroup implements IThemable, ILocalizable {
         void onScreenLift(int state);
     }
 
+    /**
+     * Factory for panels that are created on first use.
+     */
+    public interface PanelProvider {
+        /**
+         * Creates the panel for a tab.
+         *
+         * @param index the tab index
+         * @return the new panel, or null if the tab has no panel
+         */
+        Panel createPanel(int index);
+    }
+
     // ============================================================
     // CONSTRUCTORS
     // ============================================================
@@ -244,31 +281,16 @@ public class Screen extends ViewGroup implements IThemable, ILocalizable {
      * @param tabs the Tabs component to add
      */
     public void setTabs(Tabs tabs) {
-        // Remove old tabs and scroll view if they exist
+        // Remove old tabs if they exist
         if (this.tabs != null) {
-            if (tabsScrollView != null) {
-                tabsScrollView.removeView(this.tabs);
-                removeView(tabsScrollView);
-                tabsScrollView = null;
-            } else {
-                removeView(this.tabs);
-            }
+            removeView(this.tabs);
         }
 
         this.tabs = tabs;
 
-        // Add new tabs to the ViewGroup with ScrollView
+        // Tabs scrolls itself, so it is hosted directly with a viewport-sized height
         if (tabs != null) {
-            // Create ScrollView for tabs
-            tabsScrollView = new ScrollView(getContext());
-            tabsScrollView.setVerticalScrollBarEnabled(false);
-            tabsScrollView.setOverScrollMode(View.OVER_SCROLL_NEVER);
-
-            // Add tabs to ScrollView
-            tabsScrollView.addView(tabs);
-
-            // Add ScrollView to Screen
-            addView(tabsScrollView);
+            addView(tabs);
 
             // Set listener for tab changes
             tabs.setOnTabChangeListener(
@@ -290,21 +312,64 @@ public class Screen extends ViewGroup implements IThemable, ILocalizable {
     }
 
     /**
-     * Returns the ScrollView containing the Tabs component.
+     * Sets the array of panels for the screen.
      *
-     * @return the ScrollView containing tabs, or null if not set
+     * @param panels the array of Panel objects
      */
-    public android.widget.ScrollView getTabsScrollView() {
-        return tabsScrollView;
+    public void setPanels(Panel[] panels) {
+        releaseRetainedPanels();
+        this.panelProvider = null;
+        this.panels = panels;
+        resetPanelGenerations();
     }
 
     /**
-     * Sets the array of panels for the screen.
+     * Sets a provider that creates panels lazily.
      *
-     * @param panels the array of Panel objects
+     * <p>
+     * A panel is created on its first activation in
+     * {@link #setActivePanel(int)} and then kept. Panels that were never
+     * activated are null in {@link #getPanels()}.
+     *
+     * @param panelCount number of panels (one per tab)
+     * @param provider   factory creating the panel for a tab index
+     * @throws IllegalArgumentException if panelCount is negative or provider is
+     *                                  null
      */
-    public void setPanels(Panel[] panels) {
-        this.panels = panels;
+    public void setPanelProvider(int panelCount, PanelProvider provider) {
+        if (panelCount < 0) {
+            throw new IllegalArgumentException("Panel count cannot be negative");
+        }
+        if (provider == null) {
+            throw new IllegalArgumentException("PanelProvider cannot be null");
+        }
+
+        releaseRetainedPanels();
+        this.panelProvider = provider;
+        this.panels = new Panel[panelCount];
+        resetPanelGenerations();
+    }
+
+    /**
+     * Enables creating the neighbours of the active panel while the main thread
+     * is idle, so switching to an adjacent tab does not build its panel.
+     *
+     * @param isEnabled true to prefetch neighbouring panels
+     */
+    public void setPanelPrefetchEnabled(boolean isEnabled) {
+        this.isPanelPrefetchEnabled = isEnabled;
+        if (isEnabled) {
+            schedulePrefetch();
+        }
+    }
+
+    /**
+     * Checks whether neighbouring panels are prefetched during idle time.
+     *
+     * @return true if prefetching is enabled
+     */
+    public boolean isPanelPrefetchEnabled() {
+        return isPanelPrefetchEnabled;
     }
 
     /**
@@ -319,27 +384,72 @@ public class Screen extends ViewGroup implements IThemable, ILocalizable {
         }
 
         if (activePanelIndex != index) {
-            // Remove old active panel from this ViewGroup
-            if (activePanelIndex >= 0 && activePanelIndex < panels.length) {
-                Panel oldPanel = panels[activePanelIndex];
-                if (oldPanel.getParent() == this) {
+            // Hide or remove old active panel
+            Panel oldPanel = getActivePanel();
+            if (oldPanel != null && oldPanel.getParent() == this) {
+                if (panelRetentionLimit > 0) {
+                    retainPanel(oldPanel);
+                } else {
                     removeView(oldPanel);
                 }
             }
 
             activePanelIndex = index;
 
-            // Add new active panel to this ViewGroup
-            Panel newPanel = panels[activePanelIndex];
-            if (newPanel.getParent() != null && newPanel.getParent() != this) {
-                ((ViewGroup) newPanel.getParent()).removeView(newPanel);
+            // Show or add new active panel, bringing it up to date first
+            Panel newPanel = obtainPanel(activePanelIndex);
+            syncPanel(activePanelIndex);
+            boolean isWarm = false;
+            if (newPanel != null) {
+                retainedPanels.remove(newPanel);
+                if (newPanel.getParent() != null && newPanel.getParent() != this) {
+                    ((ViewGroup) newPanel.getParent()).removeView(newPanel);
+                }
+                if (newPanel.getParent() == this) {
+                    isWarm = hasSameLayout(newPanel, oldPanel);
+                    newPanel.setVisibility(VISIBLE);
+                } else {
+                    addView(newPanel);
+                }
             }
-            if (newPanel.getParent() != this) {
-                addView(newPanel);
+
+            schedulePrefetch();
+
+            // A retained panel laid out at the current size needs no new pass
+            if (!isWarm) {
+                requestLayout();
             }
+        }
+    }
 
-            requestLayout();
+    /**
+     * Keeps up to the given number of recently used panels attached but hidden.
+     *
+     * <p>
+     * Switching back to a retained panel is a visibility change: it is not
+     * re-added, and it is not re-measured or re-laid out when the panel area
+     * has not changed. The least recently used panel beyond the limit is
+     * removed. The default 0 removes every inactive panel.
+     *
+     * @param limit maximum number of hidden panels to retain
+     * @throws IllegalArgumentException if limit is negative
+     */
+    public void setPanelRetentionLimit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Panel retention limit cannot be negative");
         }
+
+        this.panelRetentionLimit = limit;
+        trimRetainedPanels();
+    }
+
+    /**
+     * Returns the maximum number of hidden panels kept attached.
+     *
+     * @return the retention limit (0 when retention is disabled)
+     */
+    public int getPanelRetentionLimit() {
+        return panelRetentionLimit;
     }
 
     /**
@@ -357,6 +467,9 @@ public class Screen extends ViewGroup implements IThemable, ILocalizable {
     /**
      * Returns the array of panels.
      *
+     * <p>
+     * With a {@link PanelProvider}, panels that were not created yet are null.
+     *
      * @return the array of Panel objects
      */
     public Panel[] getPanels() {
@@ -407,7 +520,9 @@ public class Screen extends ViewGroup implements IThemable, ILocalizable {
 
     /**
      * Propagates the theme to all child components recursively.
-     * This method updates the theme for tabs, panels, and all nested components.
+     * Tabs and the active panel are updated immediately; other panels receive the
+     * theme when they are activated, so the cost is proportional to what is on
+     * screen.
      *
      * @param theme the theme to propagate
      */
@@ -423,20 +538,16 @@ public class Screen extends ViewGroup implements IThemable, ILocalizable {
             tabs.propagateTheme(theme);
         }
 
-        // Update all panels theme
-        if (panels != null) {
-            for (Panel panel : panels) {
-                if (panel != null) {
-                    panel.setTheme(theme);
-                    panel.propagateTheme(theme);
-                }
-            }
-        }
+        // Record a new generation; only the active panel is updated now
+        propagatedTheme = theme;
+        themeGeneration++;
+        syncPanel(activePanelIndex);
     }
 
     /**
      * Propagates the language to all child components recursively.
-     * This method updates the language for tabs, panels, and all nested components.
+     * Tabs and the active panel are updated immediately; other panels receive the
+     * language when they are activated.
      *
      * @param language the language to propagate
      */
@@ -452,15 +563,243 @@ public class Screen extends ViewGroup implements IThemable, ILocalizable {
             tabs.propagateLanguage(language);
         }
 
-        // Update all panels language
+        // Record a new generation; only the active panel is updated now
+        propagatedLanguage = language;
+        languageGeneration++;
+        syncPanel(activePanelIndex);
+    }
+
+    /**
+     * Applies a transaction to the Screen itself.
+     *
+     * <p>
+     * Panels attached to the Screen are reached by the transaction walk and are
+     * marked up to date; detached panels receive the values on activation, as
+     * with {@link #propagateTheme(Theme)}.
+     */
+    @Override
+    public int applyTransaction(@Nullable Theme theme, @Nullable Language language) {
+        int flags = 0;
+
+        if (theme != null) {
+            if (theme != currentTheme) {
+                currentTheme = theme;
+                flags |= ThemeTransaction.CHANGED_DRAW;
+            }
+            if (theme != propagatedTheme) {
+                propagatedTheme = theme;
+                themeGeneration++;
+            }
+        }
+
+        if (language != null) {
+            if (language != currentLanguage) {
+                currentLanguage = language;
+                flags |= ThemeTransaction.CHANGED_DRAW;
+            }
+            if (language != propagatedLanguage) {
+                propagatedLanguage = language;
+                languageGeneration++;
+            }
+        }
+
         if (panels != null) {
-            for (Panel panel : panels) {
-                if (panel != null) {
-                    panel.setLanguage(language);
-                    panel.propagateLanguage(language);
+            for (int i = 0; i < panels.length; i++) {
+                if (panels[i] != null && panels[i].getParent() == this) {
+                    panelThemeGenerations[i] = themeGeneration;
+                    panelLanguageGenerations[i] = languageGeneration;
                 }
             }
         }
+
+        return flags;
+    }
+
+    /**
+     * Applies the latest propagated theme and language to every created panel,
+     * including inactive ones. Only needed when inactive panels are inspected or
+     * shown outside of this Screen.
+     */
+    public void syncAllPanels() {
+        if (panels == null) {
+            return;
+        }
+
+        for (int i = 0; i < panels.length; i++) {
+            syncPanel(i);
+        }
+    }
+
+    // ============================================================
+    // VERSIONED PROPAGATION
+    // ============================================================
+
+    private void resetPanelGenerations() {
+        // Generation 0: the panel has not received any propagated value yet
+        int count = panels != null ? panels.length : 0;
+        panelThemeGenerations = new int[count];
+        panelLanguageGenerations = new int[count];
+    }
+
+    /**
+     * Applies the propagated theme and language to a panel if it has not seen
+     * the current generation yet.
+     */
+    private void syncPanel(int index) {
+        if (panels == null || index < 0 || index >= panels.length || panels[index] == null) {
+            return;
+        }
+
+        Panel panel = panels[index];
+        if (propagatedTheme != null && panelThemeGenerations[index] != themeGeneration) {
+            panel.setTheme(propagatedTheme);
+            panel.propagateTheme(propagatedTheme);
+            panelThemeGenerations[index] = themeGeneration;
+        }
+        if (propagatedLanguage != null && panelLanguageGenerations[index] != languageGeneration) {
+            panel.setLanguage(propagatedLanguage);
+            panel.propagateLanguage(propagatedLanguage);
+            panelLanguageGenerations[index] = languageGeneration;
+        }
+    }
+
+    // ============================================================
+    // PANEL RETENTION
+    // ============================================================
+
+    private void retainPanel(Panel panel) {
+        panel.setVisibility(INVISIBLE);
+        retainedPanels.remove(panel);
+        retainedPanels.add(panel);
+        trimRetainedPanels();
+    }
+
+    private void trimRetainedPanels() {
+        while (retainedPanels.size() > panelRetentionLimit) {
+            detachRetainedPanel(retainedPanels.remove(0));
+        }
+    }
+
+    private void releaseRetainedPanels() {
+        for (int i = 0; i < retainedPanels.size(); i++) {
+            detachRetainedPanel(retainedPanels.get(i));
+        }
+        retainedPanels.clear();
+    }
+
+    private void detachRetainedPanel(Panel panel) {
+        // Restore visibility so the panel shows when it is added again
+        panel.setVisibility(VISIBLE);
+        if (panel.getParent() == this) {
+            removeView(panel);
+        }
+    }
+
+    /**
+     * Checks whether a retained panel is still laid out exactly where the
+     * previously active panel was, so showing it needs no measure or layout.
+     */
+    private boolean hasSameLayout(Panel panel, @Nullable Panel previous) {
+        return previous != null
+                && previous.getParent() == this
+                && !isLayoutRequested()
+                && !panel.isLayoutRequested()
+                && !previous.isLayoutRequested()
+                && panel.getLeft() == previous.getLeft()
+                && panel.getTop() == previous.getTop()
+                && panel.getRight() == previous.getRight()
+                && panel.getBottom() == previous.getBottom();
+    }
+
+    // ============================================================
+    // LAZY PANELS
+    // ============================================================
+
+    /**
+     * Returns the panel at the index, creating it through the provider if needed.
+     */
+    private Panel obtainPanel(int index) {
+        Panel panel = panels[index];
+        if (panel == null && panelProvider != null) {
+            panel = panelProvider.createPanel(index);
+            if (panel != null) {
+                panels[index] = panel;
+                // Bring the new panel up to date with what was propagated so far
+                syncPanel(index);
+            }
+        }
+        return panel;
+    }
+
+    private void schedulePrefetch() {
+        if (!isPanelPrefetchEnabled
+                || isPrefetchScheduled
+                || panelProvider == null
+                || findPrefetchIndex() < 0) {
+            return;
+        }
+
+        Looper looper = Looper.myLooper();
+        if (looper != null) {
+            isPrefetchScheduled = true;
+            looper.getQueue().addIdleHandler(prefetchIdleHandler);
+        }
+    }
+
+    /**
+     * Creates one missing neighbour of the active panel per idle pass.
+     *
+     * @return true to stay registered while more neighbours are missing
+     */
+    private boolean prefetchNextPanel() {
+        int index = findPrefetchIndex();
+        if (index < 0 || obtainPanel(index) == null) {
+            // Nothing left, or the provider has no panel for this tab
+            isPrefetchScheduled = false;
+            return false;
+        }
+
+        isPrefetchScheduled = findPrefetchIndex() >= 0;
+        return isPrefetchScheduled;
+    }
+
+    private int findPrefetchIndex() {
+        if (!isPanelPrefetchEnabled || panelProvider == null || activePanelIndex < 0) {
+            return -1;
+        }
+
+        int next = activePanelIndex + 1;
+        if (next < panels.length && panels[next] == null) {
+            return next;
+        }
+
+        int previous = activePanelIndex - 1;
+        if (previous >= 0 && panels[previous] == null) {
+            return previous;
+        }
+
+        return -1;
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        schedulePrefetch();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+
+        // A registered idle handler would keep the detached screen alive and
+        // build panels nobody shows; attaching again schedules it anew
+        if (isPrefetchScheduled) {
+            Looper looper = Looper.myLooper();
+            if (looper != null) {
+                looper.getQueue().removeIdleHandler(prefetchIdleHandler);
+            }
+            isPrefetchScheduled = false;
+        }
     }
 
     // ============================================================
@@ -469,23 +808,21 @@ public class Screen extends ViewGroup implements IThemable, ILocalizable {
 
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        if (measureCache.isValidFor(widthMeasureSpec, heightMeasureSpec)) {
+            setMeasuredDimension(measureCache.getWidth(), measureCache.getHeight());
+            return;
+        }
+
         int width = MeasureSpec.getSize(widthMeasureSpec);
         int height = MeasureSpec.getSize(heightMeasureSpec);
 
-        // Measure Tabs with AT_MOST to allow natural height
+        // Measure Tabs once, with the viewport height it scrolls within
         if (tabs != null) {
             int tabsWidthSpec = MeasureSpec.makeMeasureSpec(width, MeasureSpec.AT_MOST);
-            int tabsHeightSpec = MeasureSpec.makeMeasureSpec(height - offsetY, MeasureSpec.AT_MOST);
+            int tabsHeightSpec = MeasureSpec.makeMeasureSpec(height - offsetY, MeasureSpec.EXACTLY);
             tabs.measure(tabsWidthSpec, tabsHeightSpec);
         }
 
-        // Measure ScrollView for tabs
-        if (tabsScrollView != null) {
-            int scrollViewWidthSpec = MeasureSpec.makeMeasureSpec(width, MeasureSpec.AT_MOST);
-            int scrollViewHeightSpec = MeasureSpec.makeMeasureSpec(height - offsetY, MeasureSpec.EXACTLY);
-            tabsScrollView.measure(scrollViewWidthSpec, scrollViewHeightSpec);
-        }
-
         int tabsWidth = (tabs != null) ? tabs.getMeasuredWidth() : 0;
 
         // Get active panel
@@ -503,6 +840,45 @@ public class Screen extends ViewGroup implements IThemable, ILocalizable {
         }
 
         setMeasuredDimension(width, height);
+        measureCache.store(widthMeasureSpec, heightMeasureSpec, width, height);
+    }
+
+    @Override
+    public void requestLayout() {
+        // Own offset, gap, panel and lift changes, plus requests from Tabs and panels
+        if (measureCache != null) {
+            measureCache.invalidate();
+        }
+        super.requestLayout();
+    }
+
+    @Override
+    public void forceLayout() {
+        // The window root forces layout on configuration changes without a request
+        if (measureCache != null) {
+            measureCache.invalidate();
+        }
+        super.forceLayout();
+    }
+
+    /**
+     * Returns how many full measure passes this screen performed. Repeated
+     * measure requests with unchanged specs and content are answered from a
+     * cache and not counted.
+     *
+     * @return measure pass count
+     */
+    public int getMeasurePassCount() {
+        return measureCache.getPassCount();
+    }
+
+    /**
+     * Returns how many measure requests were answered from the cache.
+     *
+     * @return measure cache hit count
+     */
+    public int getMeasureCacheHitCount() {
+        return measureCache.getHitCount();
     }
 
     // ============================================================
@@ -515,15 +891,15 @@ public class Screen extends ViewGroup implements IThemable, ILocalizable {
         int height = bottom - top;
         int tabsWidth = 0;
 
-        // Layout ScrollView for tabs at offsetX with full height
-        if (tabsScrollView != null) {
-            int scrollViewLeft = offsetX;
-            int scrollViewTop = offsetY;
-            int scrollViewRight = scrollViewLeft + tabsScrollView.getMeasuredWidth();
-            int scrollViewBottom = height;
-            tabsScrollView.layout(scrollViewLeft, scrollViewTop, scrollViewRight, scrollViewBottom);
+        // Layout tabs at offsetX with full height
+        if (tabs != null) {
+            int tabsLeft = offsetX;
+            int tabsTop = offsetY;
+            int tabsRight = tabsLeft + tabs.getMeasuredWidth();
+            int tabsBottom = height;
+            tabs.layout(tabsLeft, tabsTop, tabsRight, tabsBottom);
 
-            tabsWidth = tabsScrollView.getMeasuredWidth();
+            tabsWidth = tabs.getMeasuredWidth();
         }
 
         // Layout active Panel after Tabs with offsetY from top
@@ -1,10 +1,14 @@
 package ru.voboost.components.screen
 
 import androidx.compose.runtime.Composable
+import androidx.compose.runtime.getValue
+import androidx.compose.runtime.remember
+import androidx.compose.runtime.rememberUpdatedState
 import androidx.compose.ui.viewinterop.AndroidView
 import ru.voboost.components.panel.Panel
 import ru.voboost.components.tabs.TabItem
 import ru.voboost.components.tabs.Tabs
+import ru.voboost.components.tabs.isSameItems
 import ru.voboost.components.theme.Theme
 
 /**
@@ -12,6 +16,9 @@ import ru.voboost.components.theme.Theme
  *
  * A full-screen container that can contain tabs and a panel.
  *
+ * Only parameters that changed since the last recomposition are forwarded to the view,
+ * and the screen lift listener is installed once.
+ *
  * @param tabs List of TabItem objects for the sidebar navigation (optional)
  * @param panels Array of Panel components to display in the main content area (optional)
  * @param offsetX Horizontal offset for content positioning in pixels (default: 175)
@@ -32,6 +39,10 @@ fun Screen(
     theme: Theme,
     onScreenLift: ((Int) -> Unit)? = null,
 ) {
+    // The view keeps one listener; it always calls the latest callback
+    val currentOnScreenLift by rememberUpdatedState(onScreenLift)
+    val applied = remember { AppliedContent() }
+
     AndroidView(
         factory = { context ->
             ru.voboost.components.screen.Screen(context).apply {
@@ -49,50 +60,71 @@ fun Screen(
                         }
                     setTabs(tabsView)
                 }
+                applied.tabs = tabs
 
                 // Set panels if provided
                 if (panels != null) {
                     setPanels(panels)
                 }
+                applied.panels = panels
 
                 // Set screen lift state
                 onScreenLift(screenLiftState)
 
-                // Set screen lift listener if provided
+                // Set screen lift listener
                 setOnScreenLiftListener { state ->
-                    onScreenLift?.invoke(state)
+                    currentOnScreenLift?.invoke(state)
                 }
             }
         },
         update = { screenView ->
-            screenView.setTheme(theme)
-            screenView.setOffsetX(offsetX)
-            screenView.setOffsetY(offsetY)
-            screenView.setGapX(gapX)
+            if (theme != screenView.getCurrentTheme()) {
+                screenView.setTheme(theme)
+            }
+            if (offsetX != screenView.getOffsetX()) {
+                screenView.setOffsetX(offsetX)
+            }
+            if (offsetY != screenView.getOffsetY()) {
+                screenView.setOffsetY(offsetY)
+            }
+            if (gapX != screenView.getGapX()) {
+                screenView.setGapX(gapX)
+            }
 
             // Update tabs if provided
             if (tabs != null) {
                 screenView.getTabs()?.apply {
-                    setTheme(theme)
-                    setItems(tabs)
+                    if (theme != getCurrentTheme()) {
+                        setTheme(theme)
+                    }
+                    if (!isSameItems(tabs, applied.tabs)) {
+                        setItems(tabs)
+                    }
                 }
-            } else {
+            } else if (applied.tabs != null) {
                 // Remove tabs if no longer provided
                 screenView.setTabs(null)
             }
+            applied.tabs = tabs
 
-            // Update panels if provided
-            if (panels != null) {
+            // Update panels if a different array is provided
+            if (panels != null && panels !== applied.panels) {
                 screenView.setPanels(panels)
             }
+            applied.panels = panels
 
             // Update screen lift state
-            screenView.onScreenLift(screenLiftState)
-
-            // Update screen lift listener
-            screenView.setOnScreenLiftListener { state ->
-                onScreenLift?.invoke(state)
+            if (screenLiftState != screenView.getScreenLiftState()) {
+                screenView.onScreenLift(screenLiftState)
             }
         },
     )
 }
+
+/**
+ * Tabs and panels last forwarded to the view.
+ */
+private class AppliedContent {
+    var tabs: List<TabItem>? = null
+    var panels: Array<Panel>? = null
+}
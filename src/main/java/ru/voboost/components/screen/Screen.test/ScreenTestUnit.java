@@ -7,16 +7,25 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import android.app.Activity;
+import android.view.View;
+import android.widget.FrameLayout;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
 import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowLooper;
 
 import ru.voboost.components.i18n.Language;
 import ru.voboost.components.panel.Panel;
+import ru.voboost.components.radio.Radio;
+import ru.voboost.components.section.Section;
 import ru.voboost.components.tabs.TabItem;
 import ru.voboost.components.tabs.Tabs;
 import ru.voboost.components.theme.Theme;
+import ru.voboost.components.theme.ThemeTransaction;
 
 /**
  * Unit tests for the Screen component.
@@ -157,6 +166,247 @@ public class ScreenTestUnit {
         assertNull("Panel1 should be removed from screen", panel1.getParent());
     }
 
+    @Test
+    public void testPanelProviderCreatesPanelOnFirstActivation() {
+        final int[] created = {0};
+        screen.setTheme(Theme.FREE_LIGHT);
+        screen.propagateTheme(Theme.FREE_DARK);
+        screen.setPanelProvider(
+                3,
+                index -> {
+                    created[0]++;
+                    return new Panel(screen.getContext());
+                });
+
+        assertEquals("No panel should be created up front", 0, created[0]);
+        assertNull(screen.getPanels()[1]);
+
+        screen.setActivePanel(1);
+        Panel panel = screen.getActivePanel();
+        assertNotNull("Active panel should be created on activation", panel);
+        assertEquals(1, created[0]);
+        assertEquals("New panel should get the propagated theme",
+                Theme.FREE_DARK, panel.getCurrentTheme());
+
+        // Reactivation reuses the created panel
+        screen.setActivePanel(0);
+        screen.setActivePanel(1);
+        assertSame(panel, screen.getActivePanel());
+        assertEquals(2, created[0]);
+    }
+
+    @Test
+    public void testPanelPrefetchCreatesNeighboursWhenIdle() {
+        screen.setPanelProvider(3, index -> new Panel(screen.getContext()));
+        screen.setPanelPrefetchEnabled(true);
+        screen.setActivePanel(1);
+
+        assertNull("Neighbours should not be built synchronously", screen.getPanels()[0]);
+        assertNull(screen.getPanels()[2]);
+
+        // One neighbour is created per idle pass
+        ShadowLooper.idleMainLooper();
+        ShadowLooper.idleMainLooper();
+
+        assertNotNull("Next panel should be prefetched", screen.getPanels()[2]);
+        assertNotNull("Previous panel should be prefetched", screen.getPanels()[0]);
+    }
+
+    @Test
+    public void testPanelPrefetchStopsWhileDetached() {
+        Activity activity = Robolectric.buildActivity(Activity.class).setup().get();
+        FrameLayout root = new FrameLayout(activity);
+        activity.setContentView(root);
+        root.addView(screen);
+
+        screen.setPanelProvider(3, index -> new Panel(screen.getContext()));
+        screen.setPanelPrefetchEnabled(true);
+        screen.setActivePanel(1);
+
+        // Detaching drops the pending idle handler
+        root.removeView(screen);
+        ShadowLooper.idleMainLooper();
+        ShadowLooper.idleMainLooper();
+        assertNull("Detached screen should not prefetch", screen.getPanels()[0]);
+        assertNull(screen.getPanels()[2]);
+
+        // Attaching again schedules the prefetch anew
+        root.addView(screen);
+        ShadowLooper.idleMainLooper();
+        ShadowLooper.idleMainLooper();
+        assertNotNull("Next panel should be prefetched", screen.getPanels()[2]);
+        assertNotNull("Previous panel should be prefetched", screen.getPanels()[0]);
+    }
+
+    @Test
+    public void testRetainedPanelsStayAttachedAndHidden() {
+        Panel panel1 = new Panel(screen.getContext());
+        Panel panel2 = new Panel(screen.getContext());
+        Panel panel3 = new Panel(screen.getContext());
+        screen.setPanels(new Panel[] {panel1, panel2, panel3});
+        screen.setPanelRetentionLimit(1);
+
+        screen.setActivePanel(0);
+        screen.setActivePanel(1);
+        assertEquals("Retained panel should stay attached", screen, panel1.getParent());
+        assertEquals(View.INVISIBLE, panel1.getVisibility());
+        assertEquals(View.VISIBLE, panel2.getVisibility());
+
+        // Limit 1: panel1 is evicted when panel2 becomes retained
+        screen.setActivePanel(2);
+        assertNull("Panel beyond the limit should be removed", panel1.getParent());
+        assertEquals(View.VISIBLE, panel1.getVisibility());
+        assertEquals(screen, panel2.getParent());
+
+        // Switching back to a retained panel shows it again
+        screen.setActivePanel(1);
+        assertEquals(View.VISIBLE, panel2.getVisibility());
+        assertEquals(View.INVISIBLE, panel3.getVisibility());
+        assertSame(panel2, screen.getActivePanel());
+    }
+
+    @Test
+    public void testWarmSwitchSkipsLayoutPass() {
+        Panel panel1 = new Panel(screen.getContext());
+        Panel panel2 = new Panel(screen.getContext());
+        screen.setPanels(new Panel[] {panel1, panel2});
+        screen.setPanelRetentionLimit(2);
+
+        screen.setActivePanel(0);
+        layoutScreen();
+        screen.setActivePanel(1);
+        layoutScreen();
+
+        // Both panels are now laid out at the same bounds
+        screen.setActivePanel(0);
+        assertFalse("Warm switch should not request layout", screen.isLayoutRequested());
+        assertEquals(View.VISIBLE, panel1.getVisibility());
+    }
+
+    private void layoutScreen() {
+        screen.measure(
+                View.MeasureSpec.makeMeasureSpec(1920, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(720, View.MeasureSpec.EXACTLY));
+        screen.layout(0, 0, 1920, 720);
+    }
+
+    @Test
+    public void testPropagationDeferredToActivation() {
+        CountingPanel panel1 = new CountingPanel(screen);
+        CountingPanel panel2 = new CountingPanel(screen);
+        screen.setPanels(new Panel[] {panel1, panel2});
+        screen.setActivePanel(0);
+
+        screen.propagateTheme(Theme.DREAMER_DARK);
+        screen.propagateLanguage(Language.RU);
+        assertEquals("Active panel should update immediately",
+                Theme.DREAMER_DARK, panel1.getCurrentTheme());
+        assertEquals(Language.RU, panel1.getCurrentLanguage());
+        assertNull("Inactive panel should not be touched yet", panel2.getCurrentTheme());
+
+        // Two more theme switches while panel2 is inactive cost nothing
+        screen.propagateTheme(Theme.FREE_DARK);
+        screen.propagateTheme(Theme.FREE_LIGHT);
+        assertEquals(0, panel2.themeCalls);
+
+        // Activation applies only the latest generation, once
+        screen.setActivePanel(1);
+        assertEquals(Theme.FREE_LIGHT, panel2.getCurrentTheme());
+        assertEquals(Language.RU, panel2.getCurrentLanguage());
+        assertEquals(1, panel2.themeCalls);
+
+        screen.setActivePanel(0);
+        screen.setActivePanel(1);
+        assertEquals("Up-to-date panel should not be re-themed", 1, panel2.themeCalls);
+    }
+
+    @Test
+    public void testTransactionAppliesTreeInOnePass() {
+        Panel panel1 = new Panel(screen.getContext());
+        Panel panel2 = new Panel(screen.getContext());
+        Section section = new Section(screen.getContext());
+        CountingRadio radio = new CountingRadio(screen);
+        section.addView(radio);
+        panel1.addView(section);
+        screen.setPanels(new Panel[] {panel1, panel2});
+        screen.setActivePanel(0);
+
+        radio.layoutRequests = 0;
+        radio.invalidations = 0;
+        int changed = ThemeTransaction.begin()
+                .setTheme(Theme.DREAMER_DARK)
+                .setLanguage(Language.RU)
+                .commit(screen);
+
+        assertTrue("Transaction should report changed views", changed > 0);
+        assertEquals(Theme.DREAMER_DARK, screen.getCurrentTheme());
+        assertEquals(Theme.DREAMER_DARK, section.getCurrentTheme());
+        assertEquals(Language.RU, section.getCurrentLanguage());
+        assertEquals(Theme.DREAMER_DARK, radio.getCurrentTheme());
+        assertEquals(Language.RU, radio.getCurrentLanguage());
+        assertEquals("Theme and language together request one layout",
+                1, radio.layoutRequests);
+        assertEquals("Theme and language together invalidate once", 1, radio.invalidations);
+
+        // Detached panel still picks up the transaction on activation
+        screen.setActivePanel(1);
+        assertEquals(Theme.DREAMER_DARK, panel2.getCurrentTheme());
+        assertEquals(Language.RU, panel2.getCurrentLanguage());
+
+        screen.setActivePanel(0);
+        assertEquals("Repeated transaction should be a no-op", 0,
+                ThemeTransaction.begin()
+                        .setTheme(Theme.DREAMER_DARK)
+                        .setLanguage(Language.RU)
+                        .commit(screen));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTransactionThemeNull() {
+        ThemeTransaction.begin().setTheme(null);
+    }
+
+    /**
+     * Radio that counts layout requests and invalidations.
+     */
+    private static class CountingRadio extends Radio {
+        int layoutRequests = 0;
+        int invalidations = 0;
+
+        CountingRadio(Screen screen) {
+            super(screen.getContext());
+        }
+
+        @Override
+        public void requestLayout() {
+            layoutRequests++;
+            super.requestLayout();
+        }
+
+        @Override
+        public void invalidate() {
+            invalidations++;
+            super.invalidate();
+        }
+    }
+
+    /**
+     * Panel that counts theme updates.
+     */
+    private static class CountingPanel extends Panel {
+        int themeCalls = 0;
+
+        CountingPanel(Screen screen) {
+            super(screen.getContext());
+        }
+
+        @Override
+        public void setTheme(Theme theme) {
+            themeCalls++;
+            super.setTheme(theme);
+        }
+    }
+
     @Test
     public void testSetActivePanelWithNoPanels() {
         screen.setTheme(Theme.FREE_LIGHT);
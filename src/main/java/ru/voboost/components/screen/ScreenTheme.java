@@ -1,7 +1,6 @@
 package ru.voboost.components.screen;
 
-import android.graphics.Color;
-
+import ru.voboost.components.theme.Palette;
 import ru.voboost.components.theme.Theme;
 
 /**
@@ -36,28 +35,39 @@ public final class ScreenTheme {
     // ============================================================
 
     /** Background color for the screen - Free Light */
-    public static final int FREE_LIGHT_BACKGROUND = Color.parseColor("#ffffff");
+    public static final int FREE_LIGHT_BACKGROUND = 0xffffffff;
 
     // ============================================================
     // COLORS - FREE DARK THEME
     // ============================================================
 
     /** Background color for the screen - Free Dark */
-    public static final int FREE_DARK_BACKGROUND = Color.parseColor("#121212");
+    public static final int FREE_DARK_BACKGROUND = 0xff121212;
 
     // ============================================================
     // COLORS - DREAMER LIGHT THEME
     // ============================================================
 
     /** Background color for the screen - Dreamer Light */
-    public static final int DREAMER_LIGHT_BACKGROUND = Color.parseColor("#fafafa");
+    public static final int DREAMER_LIGHT_BACKGROUND = 0xfffafafa;
 
     // ============================================================
     // COLORS - DREAMER DARK THEME
     // ============================================================
 
     /** Background color for the screen - Dreamer Dark */
-    public static final int DREAMER_DARK_BACKGROUND = Color.parseColor("#000000");
+    public static final int DREAMER_DARK_BACKGROUND = 0xff000000;
+
+    // ============================================================
+    // PALETTE (one color per theme, in Theme order)
+    // ============================================================
+
+    private static final int[] BACKGROUNDS = Palette.table(1,
+            FREE_LIGHT_BACKGROUND,
+            FREE_DARK_BACKGROUND,
+            DREAMER_LIGHT_BACKGROUND,
+            DREAMER_DARK_BACKGROUND
+    );
 
     // ============================================================
     // COLOR GETTERS
@@ -70,17 +80,6 @@ public final class ScreenTheme {
      * @return the background color
      */
     public static int getBackground(Theme theme) {
-        switch (theme) {
-            case FREE_LIGHT:
-                return FREE_LIGHT_BACKGROUND;
-            case FREE_DARK:
-                return FREE_DARK_BACKGROUND;
-            case DREAMER_LIGHT:
-                return DREAMER_LIGHT_BACKGROUND;
-            case DREAMER_DARK:
-                return DREAMER_DARK_BACKGROUND;
-            default:
-                return FREE_LIGHT_BACKGROUND;
-        }
+        return Palette.get(BACKGROUNDS, theme);
     }
 }
@@ -0,0 +1,292 @@
+package ru.voboost.components.scroll;
+
+import java.util.function.IntSupplier;
+
+import android.graphics.Rect;
+import android.view.MotionEvent;
+import android.view.VelocityTracker;
+import android.view.View;
+import android.view.ViewConfiguration;
+import android.view.ViewParent;
+import android.widget.OverScroller;
+
+/**
+ * Vertical drag and fling handling for views that scroll their own content.
+ *
+ * <p>
+ * Owns the {@link OverScroller}, the {@link VelocityTracker} and the touch
+ * slop. The owning view keeps its own hit testing and drawing and forwards
+ * touch events, {@code scrollTo} clamping and {@code computeScroll} here, so
+ * every self-scrolling component (Tabs, SettingsList, virtualized Panel
+ * content) drags, flings and clamps the same way.
+ *
+ * <p>
+ * A fling is not limited to the content height up front: it ends where the
+ * scroll position gets clamped. This lets content whose height changes during
+ * the fling (rows measured while scrolling) move the fling with
+ * {@link #shift(int)}.
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * private final VerticalScroller scroller = new VerticalScroller(this, this::getMaxScrollY);
+ *
+ * public void scrollTo(int x, int y) {
+ *     super.scrollTo(0, scroller.clamp(y));
+ * }
+ *
+ * public void computeScroll() {
+ *     scroller.computeScroll();
+ * }
+ *
+ * public boolean onTouchEvent(MotionEvent event) {
+ *     scroller.trackVelocity(event);
+ *     // onDown / onMove / onUp / endTouch by action
+ * }
+ * </pre>
+ */
+public final class VerticalScroller {
+    private final View view;
+    private final IntSupplier maxScrollY;
+
+    private final OverScroller scroller;
+    private VelocityTracker velocityTracker;
+    private final int touchSlop;
+    private final int minFlingVelocity;
+    private final int maxFlingVelocity;
+
+    private float downY;
+    private float lastY;
+    private boolean isDragging = false;
+
+    // Shifts applied while a fling runs; added to the scroller position
+    private int flingOffset = 0;
+
+    /**
+     * Creates a scroller for a view.
+     *
+     * @param view       the view whose scroll position is driven
+     * @param maxScrollY largest scroll position of the view's content
+     */
+    public VerticalScroller(View view, IntSupplier maxScrollY) {
+        this.view = view;
+        this.maxScrollY = maxScrollY;
+
+        ViewConfiguration configuration = ViewConfiguration.get(view.getContext());
+        scroller = new OverScroller(view.getContext());
+        touchSlop = configuration.getScaledTouchSlop();
+        minFlingVelocity = configuration.getScaledMinimumFlingVelocity();
+        maxFlingVelocity = configuration.getScaledMaximumFlingVelocity();
+    }
+
+    // ============================================================
+    // SCROLL POSITION
+    // ============================================================
+
+    /**
+     * Clamps a scroll position to the content.
+     *
+     * @param y requested scroll position
+     * @return the position between 0 and the maximum scroll position
+     */
+    public int clamp(int y) {
+        return Math.max(0, Math.min(y, maxScrollY.getAsInt()));
+    }
+
+    /**
+     * Checks whether the content is taller than the view.
+     *
+     * @return true if there is something to scroll
+     */
+    public boolean canScroll() {
+        return maxScrollY.getAsInt() > 0;
+    }
+
+    /**
+     * Moves the scroll position, and a running fling with it, by a content
+     * height change above the viewport, so the visible content stays in place.
+     *
+     * @param dy height change in pixels
+     */
+    public void shift(int dy) {
+        // A running fling keeps moving from the shifted position
+        if (!scroller.isFinished()) {
+            flingOffset += dy;
+        }
+        view.scrollTo(0, view.getScrollY() + dy);
+    }
+
+    // ============================================================
+    // FLING
+    // ============================================================
+
+    /**
+     * Starts a fling from the current scroll position.
+     *
+     * @param velocityY scroll velocity in pixels per second, positive to
+     *                  scroll down
+     */
+    public void fling(int velocityY) {
+        flingOffset = 0;
+        scroller.fling(
+                0,
+                view.getScrollY(),
+                0,
+                velocityY,
+                0,
+                0,
+                Integer.MIN_VALUE / 2,
+                Integer.MAX_VALUE / 2);
+        view.postInvalidateOnAnimation();
+    }
+
+    /**
+     * Advances a running fling. Call from the view's {@code computeScroll}.
+     */
+    public void computeScroll() {
+        if (scroller.computeScrollOffset()) {
+            int y = scroller.getCurrY() + flingOffset;
+            view.scrollTo(0, y);
+
+            // The fling ends where the scroll position gets clamped
+            if (view.getScrollY() != y) {
+                scroller.forceFinished(true);
+            } else {
+                view.postInvalidateOnAnimation();
+            }
+        }
+    }
+
+    /**
+     * Stops a running fling.
+     */
+    public void stopFling() {
+        scroller.forceFinished(true);
+    }
+
+    // ============================================================
+    // TOUCH
+    // ============================================================
+
+    /**
+     * Adds a touch event to the velocity tracker.
+     *
+     * @param event the touch event
+     */
+    public void trackVelocity(MotionEvent event) {
+        if (velocityTracker == null) {
+            velocityTracker = VelocityTracker.obtain();
+        }
+        velocityTracker.addMovement(event);
+    }
+
+    /**
+     * Starts a gesture. A touch stops a running fling.
+     *
+     * @param y touch y in view coordinates
+     */
+    public void onDown(float y) {
+        scroller.forceFinished(true);
+        isDragging = false;
+        downY = y;
+        lastY = y;
+    }
+
+    /**
+     * Starts dragging once the finger moves past the touch slop and there is
+     * something to scroll. The parent stops intercepting the gesture.
+     *
+     * @param y touch y in view coordinates
+     * @return true if the gesture is a drag
+     */
+    public boolean startDragIfNeeded(float y) {
+        if (!isDragging && Math.abs(y - downY) > touchSlop && canScroll()) {
+            isDragging = true;
+
+            // The content follows the finger from the slop on, without a jump
+            lastY = y > downY ? downY + touchSlop : downY - touchSlop;
+            ViewParent parent = view.getParent();
+            if (parent != null) {
+                parent.requestDisallowInterceptTouchEvent(true);
+            }
+        }
+        return isDragging;
+    }
+
+    /**
+     * Scrolls the view by the finger movement while dragging.
+     *
+     * @param y touch y in view coordinates
+     * @return true if the gesture is a drag
+     */
+    public boolean onMove(float y) {
+        if (startDragIfNeeded(y)) {
+            int dy = Math.round(lastY - y);
+            if (dy != 0) {
+                view.scrollTo(0, view.getScrollY() + dy);
+                lastY -= dy;
+            }
+        }
+        return isDragging;
+    }
+
+    /**
+     * Ends a gesture, flinging if it was a fast drag.
+     *
+     * @return true if the gesture was a drag, false for a tap
+     */
+    public boolean onUp() {
+        boolean wasDragging = isDragging;
+        if (isDragging && velocityTracker != null) {
+            velocityTracker.computeCurrentVelocity(1000, maxFlingVelocity);
+            int velocityY = (int) velocityTracker.getYVelocity();
+            if (Math.abs(velocityY) > minFlingVelocity) {
+                fling(-velocityY);
+            }
+        }
+        endTouch();
+        return wasDragging;
+    }
+
+    /**
+     * Ends a gesture without flinging and releases the velocity tracker.
+     */
+    public void endTouch() {
+        isDragging = false;
+        if (velocityTracker != null) {
+            velocityTracker.recycle();
+            velocityTracker = null;
+        }
+    }
+
+    /**
+     * Checks whether the current gesture is a drag.
+     *
+     * @return true while dragging
+     */
+    public boolean isDragging() {
+        return isDragging;
+    }
+
+    // ============================================================
+    // VIEWPORT
+    // ============================================================
+
+    /**
+     * Returns the on-screen part of a view in content coordinates, which are
+     * shifted by the view's own scroll offset. Used to cull drawing also when
+     * a parent scroll container shows only part of the view.
+     *
+     * @param view   the view
+     * @param bounds receives the visible content rectangle
+     * @return false if no part of the view is visible
+     */
+    public static boolean getVisibleContentRect(View view, Rect bounds) {
+        if (!view.getLocalVisibleRect(bounds)) {
+            return false;
+        }
+        bounds.offset(view.getScrollX(), view.getScrollY());
+        return true;
+    }
+}
@@ -0,0 +1,139 @@
+package ru.voboost.components.scroll;
+
+import static org.junit.Assert.*;
+
+import java.time.Duration;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewConfiguration;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowSystemClock;
+
+/**
+ * Unit tests for VerticalScroller, driven through a minimal scrolling view.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = {33})
+public class VerticalScrollerTestUnit {
+
+    private ScrollingView view;
+    private int touchSlop;
+
+    @Before
+    public void setUp() {
+        Context context = RuntimeEnvironment.getApplication();
+        view = new ScrollingView(context, 2000);
+        view.layout(0, 0, 100, 500);
+        touchSlop = ViewConfiguration.get(context).getScaledTouchSlop();
+    }
+
+    @Test
+    public void testClampsToContent() {
+        view.scrollTo(0, -50);
+        assertEquals(0, view.getScrollY());
+
+        view.scrollTo(0, 5000);
+        assertEquals(1500, view.getScrollY());
+    }
+
+    @Test
+    public void testMoveWithinSlopIsTap() {
+        VerticalScroller scroller = view.scroller;
+        scroller.onDown(300f);
+        assertFalse(scroller.onMove(300f - touchSlop));
+        assertEquals(0, view.getScrollY());
+        assertFalse("A gesture that never dragged is a tap", scroller.onUp());
+    }
+
+    @Test
+    public void testDragFollowsFingerPastSlop() {
+        VerticalScroller scroller = view.scroller;
+        scroller.onDown(300f);
+        assertTrue(scroller.onMove(200f));
+
+        // The content moves by the distance beyond the slop, without a jump
+        assertEquals(100 - touchSlop, view.getScrollY());
+        scroller.onMove(150f);
+        assertEquals(150 - touchSlop, view.getScrollY());
+        assertTrue(scroller.onUp());
+        assertFalse(scroller.isDragging());
+    }
+
+    @Test
+    public void testNoDragWhenContentFits() {
+        ScrollingView fitting = new ScrollingView(RuntimeEnvironment.getApplication(), 400);
+        fitting.layout(0, 0, 100, 500);
+
+        fitting.scroller.onDown(300f);
+        assertFalse(fitting.scroller.onMove(100f));
+        assertEquals(0, fitting.getScrollY());
+    }
+
+    @Test
+    public void testFlingEndsAtContentEnd() {
+        view.scroller.fling(100000);
+
+        int frames = 0;
+        while (view.getScrollY() < 1500 && frames++ < 500) {
+            ShadowSystemClock.advanceBy(Duration.ofMillis(16));
+            view.computeScroll();
+        }
+        assertEquals(1500, view.getScrollY());
+
+        // Clamping finished the fling
+        ShadowSystemClock.advanceBy(Duration.ofMillis(16));
+        view.computeScroll();
+        assertEquals(1500, view.getScrollY());
+    }
+
+    @Test
+    public void testShiftMovesRunningFling() {
+        view.scrollTo(0, 500);
+        view.scroller.fling(1000);
+        ShadowSystemClock.advanceBy(Duration.ofMillis(16));
+        view.computeScroll();
+        int before = view.getScrollY();
+
+        // Content grew above the viewport: the fling continues from the shifted position
+        view.scroller.shift(100);
+        assertEquals(before + 100, view.getScrollY());
+        ShadowSystemClock.advanceBy(Duration.ofMillis(16));
+        view.computeScroll();
+        assertTrue(view.getScrollY() >= before + 100);
+    }
+
+    /**
+     * View with a fixed content height that scrolls through a VerticalScroller.
+     */
+    private static class ScrollingView extends View {
+        final VerticalScroller scroller;
+        private final int contentHeight;
+
+        ScrollingView(Context context, int contentHeight) {
+            super(context);
+            this.contentHeight = contentHeight;
+            this.scroller = new VerticalScroller(this, this::getMaxScrollY);
+        }
+
+        int getMaxScrollY() {
+            return Math.max(0, contentHeight - getHeight());
+        }
+
+        @Override
+        public void scrollTo(int x, int y) {
+            super.scrollTo(0, scroller.clamp(y));
+        }
+
+        @Override
+        public void computeScroll() {
+            scroller.computeScroll();
+        }
+    }
+}
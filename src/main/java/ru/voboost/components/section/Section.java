@@ -18,8 +18,11 @@ import androidx.annotation.Nullable;
 import ru.voboost.components.font.Font;
 import ru.voboost.components.i18n.ILocalizable;
 import ru.voboost.components.i18n.Language;
+import ru.voboost.components.i18n.LocalizedString;
+import ru.voboost.components.measure.MeasureCache;
 import ru.voboost.components.theme.IThemable;
 import ru.voboost.components.theme.Theme;
+import ru.voboost.components.theme.ThemeTransaction;
 
 /**
  * Section component — titled container with rounded corners and gradient
@@ -40,10 +43,11 @@ import ru.voboost.components.theme.Theme;
  * section.addView(radioComponent);
  * </pre>
  */
-public class Section extends ViewGroup implements IThemable, ILocalizable {
+public class Section extends ViewGroup
+        implements IThemable, ILocalizable, ThemeTransaction.Participant {
 
     // Data
-    private Map<String, String> title;
+    private LocalizedString title;
 
     // Theme and Language
     private Theme currentTheme;
@@ -54,12 +58,18 @@ public class Section extends ViewGroup implements IThemable, ILocalizable {
     private Paint titleGradientPaint;
     private Paint titlePaint;
 
-    // Drawing paths for rounded corners
+    // Drawing caches, rebuilt only when size, theme or title change
+    private RectF sectionRect;
     private Path titleBarPath;
-    private Path contentAreaPath;
+    private Paint.FontMetrics titleFontMetrics;
+    private boolean isShapeDirty = true;
+    private boolean isTitleDirty = true;
+    private String titleText = "";
+    private float titleBaseline;
 
     // Calculated dimensions
     private int titleBarHeight;
+    private final MeasureCache measureCache = new MeasureCache();
 
     // ============================================================
     // CONSTRUCTORS
@@ -94,8 +104,7 @@ public class Section extends ViewGroup implements IThemable, ILocalizable {
         // Enable drawing for ViewGroup
         setWillNotDraw(false);
 
-        // Enable hardware acceleration for better performance
-        setLayerType(LAYER_TYPE_HARDWARE, null);
+        // No permanent layer: a static container gains nothing from an offscreen texture
 
         // Initialize paints
         backgroundPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
@@ -106,9 +115,10 @@ public class Section extends ViewGroup implements IThemable, ILocalizable {
         titlePaint.setTextAlign(Paint.Align.LEFT);
         titlePaint.setTypeface(Font.getBold(context, ""));
 
-        // Initialize paths
+        // Initialize drawing caches
+        sectionRect = new RectF();
         titleBarPath = new Path();
-        contentAreaPath = new Path();
+        titleFontMetrics = new Paint.FontMetrics();
     }
 
     // ============================================================
@@ -118,6 +128,9 @@ public class Section extends ViewGroup implements IThemable, ILocalizable {
     /**
      * Sets the title for the section with localized labels.
      *
+     * <p>
+     * A map whose texts are all null is accepted and shows no title text.
+     *
      * @param title Map of language code to localized title text
      * @throws IllegalArgumentException if title is null or empty
      */
@@ -126,7 +139,22 @@ public class Section extends ViewGroup implements IThemable, ILocalizable {
             throw new IllegalArgumentException("Title cannot be null or empty");
         }
 
+        setLocalizedTitle(LocalizedString.ofOrDefault(title, ""));
+    }
+
+    /**
+     * Sets the localized title for the section.
+     *
+     * @param title localized title text
+     * @throws IllegalArgumentException if title is null
+     */
+    public void setLocalizedTitle(LocalizedString title) {
+        if (title == null) {
+            throw new IllegalArgumentException("Title cannot be null or empty");
+        }
+
         this.title = title;
+        isTitleDirty = true;
         calculateTitleBarHeight();
         requestLayout();
         invalidate();
@@ -135,9 +163,19 @@ public class Section extends ViewGroup implements IThemable, ILocalizable {
     /**
      * Returns the Map of localized titles.
      *
-     * @return Map of language code to title text
+     * @return new Map of language code to title text, or null if no title is set
      */
     public Map<String, String> getTitle() {
+        return title != null ? title.toMap() : null;
+    }
+
+    /**
+     * Returns the localized title.
+     *
+     * @return the title, or null if no title is set
+     */
+    @Nullable
+    public LocalizedString getLocalizedTitle() {
         return title;
     }
 
@@ -151,8 +189,7 @@ public class Section extends ViewGroup implements IThemable, ILocalizable {
             return "";
         }
 
-        String text = title.get(currentLanguage.getCode());
-        return text != null ? text : "";
+        return title.has(currentLanguage) ? title.get(currentLanguage) : "";
     }
 
     /**
@@ -167,9 +204,7 @@ public class Section extends ViewGroup implements IThemable, ILocalizable {
             throw new IllegalArgumentException("Theme cannot be null");
         }
 
-        this.currentTheme = theme;
-        updateColors();
-        invalidate();
+        ThemeTransaction.requestUpdate(this, applyTheme(theme));
     }
 
     /**
@@ -193,10 +228,7 @@ public class Section extends ViewGroup implements IThemable, ILocalizable {
             throw new IllegalArgumentException("Language cannot be null");
         }
 
-        this.currentLanguage = language;
-        calculateTitleBarHeight();
-        requestLayout();
-        invalidate();
+        ThemeTransaction.requestUpdate(this, applyLanguage(language));
     }
 
     /**
@@ -252,18 +284,57 @@ public class Section extends ViewGroup implements IThemable, ILocalizable {
         }
     }
 
+    @Override
+    public int applyTransaction(@Nullable Theme theme, @Nullable Language language) {
+        int flags = 0;
+        if (theme != null) {
+            flags |= applyTheme(theme);
+        }
+        if (language != null) {
+            flags |= applyLanguage(language);
+        }
+        return flags;
+    }
+
+    private int applyTheme(Theme theme) {
+        if (theme == this.currentTheme) {
+            return 0;
+        }
+
+        this.currentTheme = theme;
+        updateColors();
+        isShapeDirty = true;
+        return ThemeTransaction.CHANGED_DRAW;
+    }
+
+    private int applyLanguage(Language language) {
+        if (language == this.currentLanguage) {
+            return 0;
+        }
+
+        this.currentLanguage = language;
+        isTitleDirty = true;
+        calculateTitleBarHeight();
+        return ThemeTransaction.CHANGED_LAYOUT | ThemeTransaction.CHANGED_DRAW;
+    }
+
     // ============================================================
     // MEASUREMENT
     // ============================================================
 
     private void calculateTitleBarHeight() {
-        // Title bar height is fixed at 98dp (98 pixels) to match original
-        // implementation
-        titleBarHeight = 98;
+        // Title bar height is fixed at 98 pixels to match original implementation
+        titleBarHeight = SectionTheme.TITLE_BAR_HEIGHT;
     }
 
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        // Children are only re-measured after one of them (or this section) requested layout
+        if (measureCache.isValidFor(widthMeasureSpec, heightMeasureSpec)) {
+            setMeasuredDimension(measureCache.getWidth(), measureCache.getHeight());
+            return;
+        }
+
         int widthSize = MeasureSpec.getSize(widthMeasureSpec);
         int widthMode = MeasureSpec.getMode(widthMeasureSpec);
 
@@ -301,6 +372,47 @@ public class Section extends ViewGroup implements IThemable, ILocalizable {
         setMeasuredDimension(
                 resolveSize(sectionWidth + 2 * SectionTheme.HORIZONTAL_MARGIN, widthMeasureSpec),
                 resolveSize(totalHeight, heightMeasureSpec));
+        measureCache.store(
+                widthMeasureSpec, heightMeasureSpec, getMeasuredWidth(), getMeasuredHeight());
+    }
+
+    @Override
+    public void requestLayout() {
+        // Reached by title changes and by child Radios whose width changes, since a
+        // child's request travels up through its parents
+        if (measureCache != null) {
+            measureCache.invalidate();
+        }
+        super.requestLayout();
+    }
+
+    @Override
+    public void forceLayout() {
+        // Configuration changes and recycled list rows force layout without a request
+        if (measureCache != null) {
+            measureCache.invalidate();
+        }
+        super.forceLayout();
+    }
+
+    /**
+     * Returns how many full measure passes this section performed. Repeated
+     * measure requests with unchanged specs and content are answered from a
+     * cache and not counted.
+     *
+     * @return measure pass count
+     */
+    public int getMeasurePassCount() {
+        return measureCache.getPassCount();
+    }
+
+    /**
+     * Returns how many measure requests were answered from the cache.
+     *
+     * @return measure cache hit count
+     */
+    public int getMeasureCacheHitCount() {
+        return measureCache.getHitCount();
     }
 
     // ============================================================
@@ -334,6 +446,12 @@ public class Section extends ViewGroup implements IThemable, ILocalizable {
     // DRAWING
     // ============================================================
 
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        isShapeDirty = true;
+    }
+
     @Override
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
@@ -342,77 +460,96 @@ public class Section extends ViewGroup implements IThemable, ILocalizable {
             return;
         }
 
-        int height = getHeight();
-
-        float sectionLeft = SectionTheme.HORIZONTAL_MARGIN;
-        float sectionRight = sectionLeft + SectionTheme.SECTION_WIDTH;
-        float sectionTop = 0;
-        float sectionBottom = height - SectionTheme.BOTTOM_MARGIN;
-        float radius = SectionTheme.CORNER_RADIUS;
+        // Child animations redraw the section every frame; only rebuild on change
+        if (isShapeDirty) {
+            updateShapes();
+        }
+        if (isTitleDirty) {
+            updateTitle();
+        }
 
         // Draw full section background with all corners rounded
-        backgroundPaint.setColor(SectionTheme.getBackground(currentTheme));
-        RectF sectionRect = new RectF(sectionLeft, sectionTop, sectionRight, sectionBottom);
+        float radius = SectionTheme.CORNER_RADIUS;
         canvas.drawRoundRect(sectionRect, radius, radius, backgroundPaint);
 
         // Draw title gradient overlay (only for dark themes)
         if (SectionTheme.hasTitleGradient(currentTheme)) {
-            drawTitleGradient(canvas, sectionLeft, sectionRight, sectionTop, radius);
+            canvas.drawPath(titleBarPath, titleGradientPaint);
         }
 
         // Draw title text
-        drawTitle(canvas, sectionLeft);
+        if (!titleText.isEmpty()) {
+            float titleX = SectionTheme.HORIZONTAL_MARGIN + SectionTheme.TITLE_MARGIN_START;
+            canvas.drawText(titleText, titleX, titleBaseline, titlePaint);
+        }
     }
 
-    private void drawTitle(Canvas canvas, float sectionLeft) {
-        String titleText = getTitleText();
-        if (titleText.isEmpty()) {
-            return;
+    /**
+     * Rebuilds the background rect, the title bar path and its gradient shader
+     * for the current size and theme.
+     */
+    private void updateShapes() {
+        float sectionLeft = SectionTheme.HORIZONTAL_MARGIN;
+        float sectionRight = sectionLeft + SectionTheme.SECTION_WIDTH;
+        float sectionTop = 0;
+        float sectionBottom = getHeight() - SectionTheme.BOTTOM_MARGIN;
+        float radius = SectionTheme.CORNER_RADIUS;
+
+        sectionRect.set(sectionLeft, sectionTop, sectionRight, sectionBottom);
+
+        titleBarPath.rewind();
+        if (SectionTheme.hasTitleGradient(currentTheme)) {
+            // Gradient only in the title area with top rounded corners
+            float gradientBottom = sectionTop + titleBarHeight;
+            float[] radii = new float[] { radius, radius, radius, radius, 0, 0, 0, 0 };
+            titleBarPath.addRoundRect(
+                    sectionLeft, sectionTop, sectionRight, gradientBottom, radii, Path.Direction.CW);
+
+            // Horizontal gradient: darker on the left, fading to section background on
+            // the right
+            titleGradientPaint.setShader(
+                    new LinearGradient(
+                            sectionLeft,
+                            0,
+                            sectionRight,
+                            0,
+                            SectionTheme.getTitleGradientStart(currentTheme),
+                            SectionTheme.getBackground(currentTheme),
+                            Shader.TileMode.CLAMP));
+        } else {
+            titleGradientPaint.setShader(null);
         }
 
-        // Set the correct bold font variant based on title text content
-        titlePaint.setTypeface(Font.getBold(getContext(), titleText));
+        isShapeDirty = false;
+    }
 
-        float titleX = sectionLeft + SectionTheme.TITLE_MARGIN_START;
-        float titleY = SectionTheme.TITLE_MARGIN_TOP + getTextVerticalOffset() + 4f;
+    /**
+     * Resolves the title text, its bold font variant and its baseline for the
+     * current title and language.
+     */
+    private void updateTitle() {
+        titleText = getTitleText();
+        if (!titleText.isEmpty()) {
+            // Set the correct bold font variant based on title text content
+            titlePaint.setTypeface(
+                    Font.getBold(getContext(), title.isAsciiOnly(currentLanguage)));
+
+            // Position text baseline correctly
+            titlePaint.getFontMetrics(titleFontMetrics);
+            titleBaseline = SectionTheme.TITLE_MARGIN_TOP - titleFontMetrics.ascent + 4f;
+        }
 
-        titlePaint.setColor(SectionTheme.getTitleTextColor(currentTheme));
-        canvas.drawText(titleText, titleX, titleY, titlePaint);
-    }
-
-    private float getTextVerticalOffset() {
-        // Position text baseline correctly
-        Paint.FontMetrics fm = titlePaint.getFontMetrics();
-        return -fm.ascent;
-    }
-
-    private void drawTitleGradient(
-            Canvas canvas, float sectionLeft, float sectionRight, float sectionTop, float radius) {
-        // Horizontal gradient: darker on the left, fading to section background on the
-        // right
-        int gradientStart = SectionTheme.getTitleGradientStart(currentTheme);
-        int bgColor = SectionTheme.getBackground(currentTheme);
-
-        float gradientBottom = sectionTop + titleBarHeight;
-
-        titleGradientPaint.setShader(
-                new LinearGradient(
-                        sectionLeft,
-                        0,
-                        sectionRight,
-                        0,
-                        gradientStart,
-                        bgColor,
-                        Shader.TileMode.CLAMP));
-
-        // Draw gradient only in the title area with top rounded corners
-        Path titlePath = new Path();
-        float[] radii = new float[] { radius, radius, radius, radius, 0, 0, 0, 0 };
-        titlePath.addRoundRect(
-                new RectF(sectionLeft, sectionTop, sectionRight, gradientBottom),
-                radii,
-                Path.Direction.CW);
-        canvas.drawPath(titlePath, titleGradientPaint);
+        isTitleDirty = false;
+    }
+
+    /**
+     * Returns the cached title gradient shader.
+     *
+     * @return the shader, or null if the theme has no title gradient or the
+     *         section was not drawn yet
+     */
+    Shader getTitleShader() {
+        return titleGradientPaint.getShader();
     }
 
     // ============================================================
@@ -33,9 +33,16 @@ fun Section(
             }
         },
         update = { sectionView ->
-            sectionView.setTheme(theme)
-            sectionView.setLanguage(lang)
-            sectionView.setTitle(title)
+            // Forward only real changes: setTitle requests a layout pass
+            if (theme != sectionView.getCurrentTheme()) {
+                sectionView.setTheme(theme)
+            }
+            if (lang != sectionView.getCurrentLanguage()) {
+                sectionView.setLanguage(lang)
+            }
+            if (title != sectionView.getTitle()) {
+                sectionView.setTitle(title)
+            }
         },
     )
 }
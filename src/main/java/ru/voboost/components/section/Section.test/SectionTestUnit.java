@@ -129,6 +129,85 @@ public class SectionTestUnit {
         assertEquals("Настройки", section.getTitleText());
     }
 
+    @Test
+    public void testRedrawReusesCachedShader() {
+        Map<String, String> title = new HashMap<>();
+        title.put("en", "Settings");
+        section.setTitle(title);
+        section.setLanguage(Language.EN);
+        section.setTheme(Theme.FREE_DARK);
+        section.layout(0, 0, 1000, 300);
+
+        android.graphics.Canvas canvas =
+                new android.graphics.Canvas(
+                        android.graphics.Bitmap.createBitmap(
+                                1000, 300, android.graphics.Bitmap.Config.ARGB_8888));
+        section.draw(canvas);
+        android.graphics.Shader shader = section.getTitleShader();
+        assertNotNull("Dark theme should draw the title gradient", shader);
+
+        // Redraws (e.g. from child animations) reuse the cached shader
+        section.draw(canvas);
+        assertSame(shader, section.getTitleShader());
+
+        // A theme change rebuilds it
+        section.setTheme(Theme.DREAMER_DARK);
+        section.draw(canvas);
+        assertNotSame(shader, section.getTitleShader());
+
+        // Themes without a gradient drop it
+        section.setTheme(Theme.FREE_LIGHT);
+        section.draw(canvas);
+        assertNull(section.getTitleShader());
+    }
+
+    @Test
+    public void testMeasureIsMemoized() {
+        android.view.View child =
+                new android.view.View(
+                        androidx.test.core.app.ApplicationProvider.getApplicationContext());
+        section.addView(child);
+
+        int widthSpec = android.view.View.MeasureSpec.makeMeasureSpec(
+                1000, android.view.View.MeasureSpec.EXACTLY);
+        int heightSpec = android.view.View.MeasureSpec.makeMeasureSpec(
+                0, android.view.View.MeasureSpec.UNSPECIFIED);
+
+        section.measure(widthSpec, heightSpec);
+        int passes = section.getMeasurePassCount();
+        int width = section.getMeasuredWidth();
+        int height = section.getMeasuredHeight();
+
+        // Same specs within one layout pass: answered from the cache
+        section.measure(widthSpec, heightSpec);
+        assertEquals(passes, section.getMeasurePassCount());
+        assertEquals(1, section.getMeasureCacheHitCount());
+        assertEquals(width, section.getMeasuredWidth());
+        assertEquals(height, section.getMeasuredHeight());
+
+        // A child requesting layout invalidates the cache
+        child.requestLayout();
+        section.measure(widthSpec, heightSpec);
+        assertEquals(passes + 1, section.getMeasurePassCount());
+    }
+
+    @Test
+    public void testForceLayoutMeasuresAgain() {
+        int widthSpec = android.view.View.MeasureSpec.makeMeasureSpec(
+                1000, android.view.View.MeasureSpec.EXACTLY);
+        int heightSpec = android.view.View.MeasureSpec.makeMeasureSpec(
+                0, android.view.View.MeasureSpec.UNSPECIFIED);
+
+        section.measure(widthSpec, heightSpec);
+        section.layout(0, 0, section.getMeasuredWidth(), section.getMeasuredHeight());
+        int passes = section.getMeasurePassCount();
+
+        // forceLayout() bypasses requestLayout(), so it clears the cache itself
+        section.forceLayout();
+        section.measure(widthSpec, heightSpec);
+        assertEquals(passes + 1, section.getMeasurePassCount());
+    }
+
     @Test
     public void testAddChildView() {
         // Create a simple View as child
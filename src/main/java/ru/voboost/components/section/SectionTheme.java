@@ -1,7 +1,6 @@
 package ru.voboost.components.section;
 
-import android.graphics.Color;
-
+import ru.voboost.components.theme.Palette;
 import ru.voboost.components.theme.Theme;
 
 /**
@@ -41,6 +40,9 @@ public final class SectionTheme {
     /** Title text left margin inside the section */
     public static final int TITLE_MARGIN_START = 30;
 
+    /** Height of the title bar (gradient area) */
+    public static final int TITLE_BAR_HEIGHT = 98;
+
     /** Title text top margin inside the section */
     public static final int TITLE_MARGIN_TOP = 25;
 
@@ -64,46 +66,70 @@ public final class SectionTheme {
     // ============================================================
 
     /** Background color for the section - Free Light */
-    public static final int FREE_LIGHT_BACKGROUND = Color.parseColor("#f1f5fb");
+    public static final int FREE_LIGHT_BACKGROUND = 0xfff1f5fb;
 
     /** Title text color - Free Light */
-    public static final int FREE_LIGHT_TITLE_TEXT = Color.parseColor("#1a1a1a");
+    public static final int FREE_LIGHT_TITLE_TEXT = 0xff1a1a1a;
 
     // ============================================================
     // COLORS - FREE DARK THEME
     // ============================================================
 
     /** Background color for the section - Free Dark */
-    public static final int FREE_DARK_BACKGROUND = Color.parseColor("#23272f");
+    public static final int FREE_DARK_BACKGROUND = 0xff23272f;
 
     /** Title gradient start color (left edge) - Free Dark */
-    public static final int FREE_DARK_TITLE_GRADIENT_START = Color.parseColor("#181b21");
+    public static final int FREE_DARK_TITLE_GRADIENT_START = 0xff181b21;
 
     /** Title text color - Free Dark */
-    public static final int FREE_DARK_TITLE_TEXT = Color.parseColor("#ffffff");
+    public static final int FREE_DARK_TITLE_TEXT = 0xffffffff;
 
     // ============================================================
     // COLORS - DREAMER LIGHT THEME
     // ============================================================
 
     /** Background color for the section - Dreamer Light */
-    public static final int DREAMER_LIGHT_BACKGROUND = Color.parseColor("#f5f0eb");
+    public static final int DREAMER_LIGHT_BACKGROUND = 0xfff5f0eb;
 
     /** Title text color - Dreamer Light */
-    public static final int DREAMER_LIGHT_TITLE_TEXT = Color.parseColor("#1a1a1a");
+    public static final int DREAMER_LIGHT_TITLE_TEXT = 0xff1a1a1a;
 
     // ============================================================
     // COLORS - DREAMER DARK THEME
     // ============================================================
 
     /** Background color for the section - Dreamer Dark */
-    public static final int DREAMER_DARK_BACKGROUND = Color.parseColor("#25272b");
+    public static final int DREAMER_DARK_BACKGROUND = 0xff25272b;
 
     /** Title gradient start color (left edge) - Dreamer Dark */
-    public static final int DREAMER_DARK_TITLE_GRADIENT_START = Color.parseColor("#18191e");
+    public static final int DREAMER_DARK_TITLE_GRADIENT_START = 0xff18191e;
 
     /** Title text color - Dreamer Dark */
-    public static final int DREAMER_DARK_TITLE_TEXT = Color.parseColor("#ffffff");
+    public static final int DREAMER_DARK_TITLE_TEXT = 0xffffffff;
+
+    // ============================================================
+    // PALETTE (one row of tokens per theme, in Theme order)
+    // ============================================================
+
+    private static final int BACKGROUND = 0;
+    private static final int TITLE_TEXT = 1;
+    private static final int TITLE_GRADIENT_START = 2;
+    private static final int TOKEN_COUNT = 3;
+
+    private static final int[] COLORS = Palette.table(TOKEN_COUNT,
+            FREE_LIGHT_BACKGROUND,
+            FREE_LIGHT_TITLE_TEXT,
+            0,
+            FREE_DARK_BACKGROUND,
+            FREE_DARK_TITLE_TEXT,
+            FREE_DARK_TITLE_GRADIENT_START,
+            DREAMER_LIGHT_BACKGROUND,
+            DREAMER_LIGHT_TITLE_TEXT,
+            0,
+            DREAMER_DARK_BACKGROUND,
+            DREAMER_DARK_TITLE_TEXT,
+            DREAMER_DARK_TITLE_GRADIENT_START
+    );
 
     // ============================================================
     // COLOR GETTERS
@@ -116,18 +142,7 @@ public final class SectionTheme {
      * @return the background color
      */
     public static int getBackground(Theme theme) {
-        switch (theme) {
-            case FREE_LIGHT:
-                return FREE_LIGHT_BACKGROUND;
-            case FREE_DARK:
-                return FREE_DARK_BACKGROUND;
-            case DREAMER_LIGHT:
-                return DREAMER_LIGHT_BACKGROUND;
-            case DREAMER_DARK:
-                return DREAMER_DARK_BACKGROUND;
-            default:
-                return FREE_LIGHT_BACKGROUND;
-        }
+        return Palette.get(COLORS, TOKEN_COUNT, BACKGROUND, theme);
     }
 
     /**
@@ -137,18 +152,7 @@ public final class SectionTheme {
      * @return the title text color
      */
     public static int getTitleTextColor(Theme theme) {
-        switch (theme) {
-            case FREE_LIGHT:
-                return FREE_LIGHT_TITLE_TEXT;
-            case FREE_DARK:
-                return FREE_DARK_TITLE_TEXT;
-            case DREAMER_LIGHT:
-                return DREAMER_LIGHT_TITLE_TEXT;
-            case DREAMER_DARK:
-                return DREAMER_DARK_TITLE_TEXT;
-            default:
-                return FREE_LIGHT_TITLE_TEXT;
-        }
+        return Palette.get(COLORS, TOKEN_COUNT, TITLE_TEXT, theme);
     }
 
     /**
@@ -159,14 +163,7 @@ public final class SectionTheme {
      * @return the gradient start color, or 0 if no gradient for this theme
      */
     public static int getTitleGradientStart(Theme theme) {
-        switch (theme) {
-            case FREE_DARK:
-                return FREE_DARK_TITLE_GRADIENT_START;
-            case DREAMER_DARK:
-                return DREAMER_DARK_TITLE_GRADIENT_START;
-            default:
-                return 0;
-        }
+        return Palette.get(COLORS, TOKEN_COUNT, TITLE_GRADIENT_START, theme);
     }
 
     /**
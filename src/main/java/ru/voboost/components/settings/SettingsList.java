@@ -0,0 +1,773 @@
+package ru.voboost.components.settings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.LinearGradient;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.Shader;
+import android.graphics.Typeface;
+import android.util.AttributeSet;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+import androidx.annotation.Nullable;
+
+import ru.voboost.components.animation.FrameClock;
+import ru.voboost.components.font.Font;
+import ru.voboost.components.i18n.ILocalizable;
+import ru.voboost.components.i18n.Language;
+import ru.voboost.components.radio.RadioRow;
+import ru.voboost.components.scroll.VerticalScroller;
+import ru.voboost.components.section.SectionTheme;
+import ru.voboost.components.theme.IThemable;
+import ru.voboost.components.theme.Theme;
+import ru.voboost.components.theme.ThemeTransaction;
+
+/**
+ * SettingsList component — a whole settings page of titled sections with
+ * segmented controls, drawn by a single View.
+ *
+ * <p>
+ * Replaces {@code ScrollView → LinearLayout → Section → Radio} trees: the
+ * page is described by {@link SettingsSection} / {@link SettingsRadio} specs
+ * and drawn with the same {@link SectionTheme} and Radio styling, so it looks
+ * identical to the view-based page. Hit testing, scrolling (with fling) and
+ * the per-row selection animation are handled by this view. Only the
+ * sections and rows inside the viewport are measured and drawn.
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * SettingsList list = new SettingsList(context);
+ * list.setTheme(Theme.FREE_DARK);
+ * list.setLanguage(Language.EN);
+ * list.setSections(Arrays.asList(
+ *         new SettingsSection(Map.of("en", "Language"), Arrays.asList(
+ *                 new SettingsRadio("language", languageButtons)))));
+ * list.setSelectedValue("language", "en");
+ * list.setOnValueChangeListener((key, value) -> { ... });
+ * </pre>
+ */
+public class SettingsList extends View
+        implements IThemable, ILocalizable, ThemeTransaction.Participant {
+
+    // Vertical offset of the first row inside a section
+    private static final int ROWS_TOP = SectionTheme.TITLE_BAR_HEIGHT + SectionTheme.TITLE_SPACING;
+
+    // Left edge of the row content, where a Radio child of a Section draws it
+    // (Radio translates its overshoot padding out of the way)
+    private static final float ROW_LEFT = SectionTheme.HORIZONTAL_MARGIN
+            + SectionTheme.CONTENT_PADDING_HORIZONTAL;
+
+    // Content
+    private List<SettingsSection> sections = Collections.emptyList();
+    private RadioRow[] rows = new RadioRow[0];
+    private String[] rowKeys = new String[0];
+    private final HashMap<String, Integer> rowIndexByKey = new HashMap<>();
+
+    // Vertical layout in content coordinates (independent of text, so it is
+    // computed once per setSections)
+    private int[] sectionTops = new int[0];
+    private int[] sectionHeights = new int[0];
+    private int[] sectionFirstRows = new int[0];
+    private int contentHeight = 0;
+
+    // Theme and Language
+    private Theme currentTheme;
+    private Language currentLanguage;
+
+    // Paints
+    private Paint backgroundPaint;
+    private Paint titleGradientPaint;
+    private Paint titlePaint;
+    private RadioRow.Paints radioPaints;
+
+    // Title typefaces and their baselines relative to the section top
+    private Typeface titleAsciiTypeface;
+    private Typeface titleUnicodeTypeface;
+    private float titleAsciiBaseline;
+    private float titleUnicodeBaseline;
+
+    // Drawing caches: one rect and one title path shared by all sections
+    private RectF sectionRect;
+    private Path titleBarPath;
+    private boolean isShapeDirty = true;
+
+    // Viewport culling: only sections and rows intersecting the clip and the
+    // on-screen part of the view are drawn, also when a parent ScrollView
+    // scrolls a full-height list
+    private final Rect clipBounds = new Rect();
+    private final Rect visibleBounds = new Rect();
+    private int drawnTop = 0;
+    private int drawnBottom = 0;
+    private final ViewTreeObserver.OnScrollChangedListener scrollChangedListener =
+            () -> {
+                // Display lists are not re-recorded on scroll, so redraw only
+                // when content outside the recorded range becomes visible
+                if (VerticalScroller.getVisibleContentRect(this, visibleBounds)
+                        && (visibleBounds.top < drawnTop || visibleBounds.bottom > drawnBottom)) {
+                    invalidate();
+                }
+            };
+
+    // Scrolling
+    private VerticalScroller scroller;
+
+    // Selection animations of all rows, advanced in one FrameClock animation
+    private final FrameClock.Animation rowAnimation = new FrameClock.Animation() {
+        @Override
+        public boolean onFrame(long frameTimeNanos) {
+            boolean isRunning = false;
+            for (RadioRow row : rows) {
+                if (row.step(frameTimeNanos)) {
+                    isRunning = true;
+                }
+            }
+            return isRunning;
+        }
+
+        @Override
+        public View getTarget() {
+            return SettingsList.this;
+        }
+    };
+
+    private OnValueChangeListener onValueChangeListener;
+
+    /**
+     * Callback for value selection changes.
+     */
+    public interface OnValueChangeListener {
+        /**
+         * Called when the user selects a new value in a row.
+         *
+         * @param key   key of the row
+         * @param value the selected value
+         */
+        void onValueChange(String key, String value);
+    }
+
+    // ============================================================
+    // CONSTRUCTORS
+    // ============================================================
+
+    public SettingsList(Context context) {
+        super(context);
+        init(context);
+    }
+
+    public SettingsList(Context context, @Nullable AttributeSet attrs) {
+        super(context, attrs);
+        init(context);
+    }
+
+    public SettingsList(Context context, @Nullable AttributeSet attrs, int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+        init(context);
+    }
+
+    public SettingsList(
+            Context context, @Nullable AttributeSet attrs, int defStyleAttr, int defStyleRes) {
+        super(context, attrs, defStyleAttr, defStyleRes);
+        init(context);
+    }
+
+    // ============================================================
+    // INITIALIZATION
+    // ============================================================
+
+    private void init(Context context) {
+        // Initialize paints
+        backgroundPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        titleGradientPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        titlePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        titlePaint.setTextSize(SectionTheme.TITLE_TEXT_SIZE);
+        titlePaint.setTextAlign(Paint.Align.LEFT);
+        radioPaints = new RadioRow.Paints(context);
+
+        // Both bold title variants and their baselines are resolved once
+        Paint.FontMetrics fontMetrics = new Paint.FontMetrics();
+        titleAsciiTypeface = Font.getBold(context, true);
+        titlePaint.setTypeface(titleAsciiTypeface);
+        titlePaint.getFontMetrics(fontMetrics);
+        titleAsciiBaseline = SectionTheme.TITLE_MARGIN_TOP - fontMetrics.ascent + 4f;
+
+        titleUnicodeTypeface = Font.getBold(context, false);
+        titlePaint.setTypeface(titleUnicodeTypeface);
+        titlePaint.getFontMetrics(fontMetrics);
+        titleUnicodeBaseline = SectionTheme.TITLE_MARGIN_TOP - fontMetrics.ascent + 4f;
+
+        // Initialize drawing caches
+        sectionRect = new RectF();
+        titleBarPath = new Path();
+
+        // Initialize scrolling
+        scroller = new VerticalScroller(this, this::getMaxScrollY);
+        setVerticalScrollBarEnabled(false);
+    }
+
+    // ============================================================
+    // PUBLIC API
+    // ============================================================
+
+    /**
+     * Sets the sections of the page. Selections of rows whose key is still
+     * present are kept.
+     *
+     * @param sections the section specs
+     * @throws IllegalArgumentException if sections is null, contains null or
+     *                                  two rows share a key
+     */
+    public void setSections(List<SettingsSection> sections) {
+        if (sections == null) {
+            throw new IllegalArgumentException("Sections cannot be null");
+        }
+
+        // Keys address rows, so they must be unique across the page
+        HashSet<String> keys = new HashSet<>();
+        for (SettingsSection section : sections) {
+            if (section == null) {
+                throw new IllegalArgumentException("Section cannot be null");
+            }
+            for (SettingsRadio row : section.getRows()) {
+                if (!keys.add(row.getKey())) {
+                    throw new IllegalArgumentException("Duplicate row key: " + row.getKey());
+                }
+            }
+        }
+
+        HashMap<String, String> previousValues = new HashMap<>();
+        for (int i = 0; i < rows.length; i++) {
+            previousValues.put(rowKeys[i], rows[i].getSelectedValue());
+        }
+
+        FrameClock.getInstance().stop(rowAnimation);
+        // Section geometry is a snapshot, so later edits of the caller's list
+        // must not reach the drawing code
+        this.sections = Collections.unmodifiableList(new ArrayList<>(sections));
+        buildRows(previousValues);
+
+        // Keep the scroll position inside the new content
+        scrollTo(0, getScrollY());
+        requestLayout();
+        invalidate();
+    }
+
+    /**
+     * Returns the sections of the page.
+     *
+     * @return unmodifiable list of section specs
+     */
+    public List<SettingsSection> getSections() {
+        return sections;
+    }
+
+    /**
+     * Selects a value in a row without animation.
+     *
+     * @param key   key of the row
+     * @param value value to select
+     * @throws IllegalArgumentException if no row has the key
+     */
+    public void setSelectedValue(String key, String value) {
+        rows[getRowIndex(key)].setSelectedValue(value);
+        invalidate();
+    }
+
+    /**
+     * Returns the selected value of a row.
+     *
+     * @param key key of the row
+     * @return the selected value, or empty string if nothing is selected
+     * @throws IllegalArgumentException if no row has the key
+     */
+    public String getSelectedValue(String key) {
+        return rows[getRowIndex(key)].getSelectedValue();
+    }
+
+    /**
+     * Sets the listener notified when the user selects a value.
+     *
+     * @param listener the listener, or null to remove it
+     */
+    public void setOnValueChangeListener(@Nullable OnValueChangeListener listener) {
+        this.onValueChangeListener = listener;
+    }
+
+    /**
+     * Returns the height of the whole page.
+     *
+     * @return content height in pixels
+     */
+    public int getContentHeight() {
+        return contentHeight;
+    }
+
+    /**
+     * Returns the number of rows on the page.
+     *
+     * @return row count
+     */
+    public int getRowCount() {
+        return rows.length;
+    }
+
+    /**
+     * Sets the theme for the component.
+     *
+     * @param theme the theme to apply
+     * @throws IllegalArgumentException if theme is null
+     */
+    @Override
+    public void setTheme(Theme theme) {
+        if (theme == null) {
+            throw new IllegalArgumentException("Theme cannot be null");
+        }
+
+        ThemeTransaction.requestUpdate(this, applyTheme(theme));
+    }
+
+    /**
+     * Returns the current theme.
+     *
+     * @return the current theme
+     */
+    public Theme getCurrentTheme() {
+        return currentTheme;
+    }
+
+    /**
+     * Sets the language for the component.
+     *
+     * @param language the language to apply
+     * @throws IllegalArgumentException if language is null
+     */
+    @Override
+    public void setLanguage(Language language) {
+        if (language == null) {
+            throw new IllegalArgumentException("Language cannot be null");
+        }
+
+        ThemeTransaction.requestUpdate(this, applyLanguage(language));
+    }
+
+    /**
+     * Returns the current language.
+     *
+     * @return the current language
+     */
+    public Language getCurrentLanguage() {
+        return currentLanguage;
+    }
+
+    @Override
+    public void propagateTheme(Theme theme) {
+        // No child views: every row is drawn by this view
+    }
+
+    @Override
+    public void propagateLanguage(Language language) {
+        // No child views: every row is drawn by this view
+    }
+
+    @Override
+    public int applyTransaction(@Nullable Theme theme, @Nullable Language language) {
+        int flags = 0;
+        if (theme != null) {
+            flags |= applyTheme(theme);
+        }
+        if (language != null) {
+            flags |= applyLanguage(language);
+        }
+        return flags;
+    }
+
+    private int applyTheme(Theme theme) {
+        if (theme == this.currentTheme) {
+            return 0;
+        }
+
+        this.currentTheme = theme;
+        backgroundPaint.setColor(SectionTheme.getBackground(theme));
+        titlePaint.setColor(SectionTheme.getTitleTextColor(theme));
+        isShapeDirty = true;
+        return ThemeTransaction.CHANGED_DRAW;
+    }
+
+    private int applyLanguage(Language language) {
+        if (language == this.currentLanguage) {
+            return 0;
+        }
+
+        // Rows re-measure their labels lazily when they are next drawn
+        this.currentLanguage = language;
+        return ThemeTransaction.CHANGED_DRAW;
+    }
+
+    // ============================================================
+    // CONTENT LAYOUT
+    // ============================================================
+
+    private void buildRows(HashMap<String, String> previousValues) {
+        int sectionCount = sections.size();
+        int rowCount = 0;
+        for (int i = 0; i < sectionCount; i++) {
+            rowCount += sections.get(i).getRows().size();
+        }
+
+        rows = new RadioRow[rowCount];
+        rowKeys = new String[rowCount];
+        rowIndexByKey.clear();
+        sectionTops = new int[sectionCount];
+        sectionHeights = new int[sectionCount];
+        sectionFirstRows = new int[sectionCount];
+
+        int rowHeight = (int) Math.ceil(RadioRow.getHeight());
+        int top = 0;
+        int rowIndex = 0;
+        for (int i = 0; i < sectionCount; i++) {
+            List<SettingsRadio> sectionRows = sections.get(i).getRows();
+
+            sectionTops[i] = top;
+            sectionFirstRows[i] = rowIndex;
+
+            // Same stacking as a Section with Radio children
+            sectionHeights[i] = ROWS_TOP
+                    + sectionRows.size() * rowHeight
+                    + SectionTheme.CONTENT_PADDING_BOTTOM
+                    + SectionTheme.BOTTOM_MARGIN;
+            top += sectionHeights[i];
+
+            for (SettingsRadio spec : sectionRows) {
+                RadioRow row = new RadioRow(spec.getOptions());
+                String previousValue = previousValues.get(spec.getKey());
+                if (previousValue != null) {
+                    row.setSelectedValue(previousValue);
+                }
+
+                rows[rowIndex] = row;
+                rowKeys[rowIndex] = spec.getKey();
+                rowIndexByKey.put(spec.getKey(), rowIndex);
+                rowIndex++;
+            }
+        }
+
+        contentHeight = top;
+    }
+
+    private int getRowIndex(String key) {
+        Integer index = rowIndexByKey.get(key);
+        if (index == null) {
+            throw new IllegalArgumentException("No row with key: " + key);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the section containing the content y coordinate.
+     *
+     * @param y content y coordinate
+     * @return section index, or -1 if y is outside the content
+     */
+    int findSectionAt(int y) {
+        if (y < 0 || y >= contentHeight) {
+            return -1;
+        }
+
+        // Sections are sorted by top, so the section is found by binary search
+        int index = Arrays.binarySearch(sectionTops, y);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * Returns the row at the content y coordinate.
+     *
+     * @param y content y coordinate
+     * @return row index, or -1 if y is not on a row
+     */
+    int findRowAt(int y) {
+        int section = findSectionAt(y);
+        if (section < 0) {
+            return -1;
+        }
+
+        int local = y - sectionTops[section] - ROWS_TOP;
+        if (local < 0) {
+            return -1;
+        }
+
+        int row = local / (int) Math.ceil(RadioRow.getHeight());
+        if (row >= sections.get(section).getRows().size()) {
+            return -1;
+        }
+        return sectionFirstRows[section] + row;
+    }
+
+    // ============================================================
+    // MEASUREMENT
+    // ============================================================
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        // Fixed section width; the height is the page height unless the parent
+        // bounds it, in which case the list scrolls itself
+        setMeasuredDimension(
+                resolveSize(
+                        SectionTheme.SECTION_WIDTH + 2 * SectionTheme.HORIZONTAL_MARGIN,
+                        widthMeasureSpec),
+                resolveSize(contentHeight, heightMeasureSpec));
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        scrollTo(0, getScrollY());
+    }
+
+    // ============================================================
+    // SCROLLING
+    // ============================================================
+
+    private int getMaxScrollY() {
+        return Math.max(0, contentHeight - getHeight());
+    }
+
+    @Override
+    public void scrollTo(int x, int y) {
+        super.scrollTo(0, scroller.clamp(y));
+    }
+
+    @Override
+    public void computeScroll() {
+        scroller.computeScroll();
+    }
+
+    @Override
+    protected int computeVerticalScrollRange() {
+        return contentHeight;
+    }
+
+    @Override
+    public boolean canScrollVertically(int direction) {
+        return direction < 0 ? getScrollY() > 0 : getScrollY() < getMaxScrollY();
+    }
+
+    // ============================================================
+    // TOUCH
+    // ============================================================
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        scroller.trackVelocity(event);
+
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                scroller.onDown(event.getY());
+                return true;
+
+            case MotionEvent.ACTION_MOVE:
+                scroller.onMove(event.getY());
+                return true;
+
+            case MotionEvent.ACTION_UP:
+                if (!scroller.onUp()) {
+                    handleTap(event.getX(), event.getY() + getScrollY());
+                }
+                return true;
+
+            case MotionEvent.ACTION_CANCEL:
+                scroller.endTouch();
+                return true;
+
+            default:
+                return super.onTouchEvent(event);
+        }
+    }
+
+    private void handleTap(float x, float contentY) {
+        if (currentTheme == null || currentLanguage == null) {
+            return;
+        }
+
+        int rowIndex = findRowAt((int) contentY);
+        if (rowIndex < 0) {
+            return;
+        }
+
+        RadioRow row = rows[rowIndex];
+        row.measure(getContext(), currentLanguage);
+        int itemIndex = row.getItemIndexAt(x - ROW_LEFT);
+        if (row.animateToIndex(itemIndex)) {
+            FrameClock.getInstance().start(rowAnimation);
+            invalidate();
+
+            if (onValueChangeListener != null) {
+                onValueChangeListener.onValueChange(rowKeys[rowIndex], row.getSelectedValue());
+            }
+        }
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        getViewTreeObserver().addOnScrollChangedListener(scrollChangedListener);
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        getViewTreeObserver().removeOnScrollChangedListener(scrollChangedListener);
+        FrameClock.getInstance().stop(rowAnimation);
+        scroller.stopFling();
+        scroller.endTouch();
+    }
+
+    // ============================================================
+    // DRAWING
+    // ============================================================
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+
+        if (currentTheme == null || currentLanguage == null || sections.isEmpty()) {
+            return;
+        }
+
+        if (isShapeDirty) {
+            updateShapes();
+        }
+
+        // Only sections intersecting the viewport are drawn
+        updateDrawnRange(canvas);
+        int visibleTop = drawnTop;
+        int visibleBottom = drawnBottom;
+        int first = Math.max(0, findSectionAt(visibleTop));
+        for (int i = first; i < sectionTops.length && sectionTops[i] < visibleBottom; i++) {
+            canvas.save();
+            canvas.translate(0f, sectionTops[i]);
+            drawSection(canvas, i, visibleTop - sectionTops[i], visibleBottom - sectionTops[i]);
+            canvas.restore();
+        }
+    }
+
+    private void drawSection(Canvas canvas, int index, int visibleTop, int visibleBottom) {
+        SettingsSection section = sections.get(index);
+
+        // Background with all corners rounded
+        float radius = SectionTheme.CORNER_RADIUS;
+        sectionRect.set(
+                SectionTheme.HORIZONTAL_MARGIN,
+                0,
+                SectionTheme.HORIZONTAL_MARGIN + SectionTheme.SECTION_WIDTH,
+                sectionHeights[index] - SectionTheme.BOTTOM_MARGIN);
+        canvas.drawRoundRect(sectionRect, radius, radius, backgroundPaint);
+
+        // Title gradient overlay (only for dark themes)
+        if (SectionTheme.hasTitleGradient(currentTheme)) {
+            canvas.drawPath(titleBarPath, titleGradientPaint);
+        }
+
+        // Title
+        String title = section.getTitle().has(currentLanguage)
+                ? section.getTitle().get(currentLanguage)
+                : "";
+        if (!title.isEmpty()) {
+            boolean isAsciiOnly = section.getTitle().isAsciiOnly(currentLanguage);
+            titlePaint.setTypeface(isAsciiOnly ? titleAsciiTypeface : titleUnicodeTypeface);
+            canvas.drawText(
+                    title,
+                    SectionTheme.HORIZONTAL_MARGIN + SectionTheme.TITLE_MARGIN_START,
+                    isAsciiOnly ? titleAsciiBaseline : titleUnicodeBaseline,
+                    titlePaint);
+        }
+
+        // Rows inside the viewport
+        int rowCount = section.getRows().size();
+        int rowHeight = (int) Math.ceil(RadioRow.getHeight());
+        for (int j = 0; j < rowCount; j++) {
+            int rowTop = ROWS_TOP + j * rowHeight;
+            if (rowTop >= visibleBottom) {
+                break;
+            }
+            if (rowTop + rowHeight <= visibleTop) {
+                continue;
+            }
+
+            RadioRow row = rows[sectionFirstRows[index] + j];
+            row.measure(getContext(), currentLanguage);
+
+            canvas.save();
+            canvas.translate(ROW_LEFT, rowTop);
+            row.draw(canvas, currentTheme, radioPaints);
+            canvas.restore();
+        }
+    }
+
+    private void updateDrawnRange(Canvas canvas) {
+        if (canvas.getClipBounds(clipBounds)) {
+            drawnTop = clipBounds.top;
+            drawnBottom = clipBounds.bottom;
+        } else {
+            drawnTop = getScrollY();
+            drawnBottom = drawnTop + getHeight();
+        }
+
+        // Inside a scroll container the recorded clip is the whole view;
+        // narrow it to the part that is actually on screen
+        if (isAttachedToWindow() && VerticalScroller.getVisibleContentRect(this, visibleBounds)) {
+            drawnTop = Math.max(drawnTop, visibleBounds.top);
+            drawnBottom = Math.min(drawnBottom, visibleBounds.bottom);
+        }
+    }
+
+    /**
+     * Rebuilds the title bar path and its gradient shader, shared by all
+     * sections, for the current theme.
+     */
+    private void updateShapes() {
+        float sectionLeft = SectionTheme.HORIZONTAL_MARGIN;
+        float sectionRight = sectionLeft + SectionTheme.SECTION_WIDTH;
+        float radius = SectionTheme.CORNER_RADIUS;
+
+        titleBarPath.rewind();
+        if (SectionTheme.hasTitleGradient(currentTheme)) {
+            // Gradient only in the title area with top rounded corners
+            float[] radii = new float[] { radius, radius, radius, radius, 0, 0, 0, 0 };
+            titleBarPath.addRoundRect(
+                    sectionLeft,
+                    0,
+                    sectionRight,
+                    SectionTheme.TITLE_BAR_HEIGHT,
+                    radii,
+                    Path.Direction.CW);
+
+            // Horizontal gradient: darker on the left, fading to section background
+            titleGradientPaint.setShader(
+                    new LinearGradient(
+                            sectionLeft,
+                            0,
+                            sectionRight,
+                            0,
+                            SectionTheme.getTitleGradientStart(currentTheme),
+                            SectionTheme.getBackground(currentTheme),
+                            Shader.TileMode.CLAMP));
+        } else {
+            titleGradientPaint.setShader(null);
+        }
+
+        isShapeDirty = false;
+    }
+}
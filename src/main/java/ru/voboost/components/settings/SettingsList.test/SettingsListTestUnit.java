@@ -0,0 +1,285 @@
+package ru.voboost.components.settings;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import android.app.Activity;
+import android.content.Context;
+import android.graphics.Rect;
+import android.view.MotionEvent;
+import android.view.View;
+import android.widget.ScrollView;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+
+import ru.voboost.components.i18n.Language;
+import ru.voboost.components.radio.Radio;
+import ru.voboost.components.radio.RadioButton;
+import ru.voboost.components.section.Section;
+import ru.voboost.components.section.SectionTheme;
+import ru.voboost.components.testing.DrawingTests.ClippedCanvas;
+import ru.voboost.components.theme.Theme;
+
+/**
+ * Unit tests for the SettingsList component.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class SettingsListTestUnit {
+
+    private Context context;
+    private SettingsList list;
+    private List<RadioButton> buttons;
+
+    @Before
+    public void setUp() {
+        context = androidx.test.core.app.ApplicationProvider.getApplicationContext();
+        list = new SettingsList(context);
+        list.setTheme(Theme.FREE_DARK);
+        list.setLanguage(Language.EN);
+
+        buttons = new ArrayList<>();
+        buttons.add(new RadioButton("en", label("English", "Английский")));
+        buttons.add(new RadioButton("ru", label("Russian", "Русский")));
+    }
+
+    private static Map<String, String> label(String en, String ru) {
+        Map<String, String> label = new HashMap<>();
+        label.put("en", en);
+        label.put("ru", ru);
+        return label;
+    }
+
+    private static int unspecified() {
+        return View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+    }
+
+    @Test
+    public void testHeightMatchesSectionWithRadios() {
+        list.setSections(Arrays.asList(
+                new SettingsSection(label("Language", "Язык"), Arrays.asList(
+                        new SettingsRadio("language", buttons),
+                        new SettingsRadio("voice", buttons)))));
+        list.measure(unspecified(), unspecified());
+
+        Section section = new Section(context);
+        section.setTheme(Theme.FREE_DARK);
+        section.setLanguage(Language.EN);
+        section.setTitle(label("Language", "Язык"));
+        for (int i = 0; i < 2; i++) {
+            Radio radio = new Radio(context);
+            radio.setTheme(Theme.FREE_DARK);
+            radio.setLanguage(Language.EN);
+            radio.setButtons(buttons);
+            section.addView(radio);
+        }
+        section.measure(unspecified(), unspecified());
+
+        assertEquals(section.getMeasuredHeight(), list.getMeasuredHeight());
+        assertEquals(section.getMeasuredWidth(), list.getMeasuredWidth());
+        assertEquals(2, list.getRowCount());
+    }
+
+    @Test
+    public void testTapSelectsValueAndNotifiesListener() {
+        list.setSections(Arrays.asList(
+                new SettingsSection(label("Language", "Язык"), Arrays.asList(
+                        new SettingsRadio("language", buttons)))));
+        list.measure(unspecified(), unspecified());
+        list.layout(0, 0, list.getMeasuredWidth(), list.getMeasuredHeight());
+
+        final String[] changed = new String[2];
+        list.setOnValueChangeListener((key, value) -> {
+            changed[0] = key;
+            changed[1] = value;
+        });
+
+        // Tap inside the first option of the only row
+        float x = SectionTheme.HORIZONTAL_MARGIN + SectionTheme.CONTENT_PADDING_HORIZONTAL + 60f;
+        float y = SectionTheme.TITLE_BAR_HEIGHT + SectionTheme.TITLE_SPACING + 35f;
+        MotionEvent down = MotionEvent.obtain(0, 0, MotionEvent.ACTION_DOWN, x, y, 0);
+        MotionEvent up = MotionEvent.obtain(0, 10, MotionEvent.ACTION_UP, x, y, 0);
+        list.onTouchEvent(down);
+        list.onTouchEvent(up);
+        down.recycle();
+        up.recycle();
+
+        assertEquals("language", changed[0]);
+        assertEquals("en", changed[1]);
+        assertEquals("en", list.getSelectedValue("language"));
+    }
+
+    @Test
+    public void testRowIsPlacedLikeRadioInSection() {
+        list.setSections(Arrays.asList(
+                new SettingsSection(label("Language", "Язык"), Arrays.asList(
+                        new SettingsRadio("language", buttons)))));
+        list.measure(unspecified(), unspecified());
+        list.layout(0, 0, list.getMeasuredWidth(), list.getMeasuredHeight());
+
+        Section section = new Section(context);
+        section.setTheme(Theme.FREE_DARK);
+        section.setLanguage(Language.EN);
+        section.setTitle(label("Language", "Язык"));
+        Radio radio = new Radio(context);
+        radio.setTheme(Theme.FREE_DARK);
+        radio.setLanguage(Language.EN);
+        radio.setButtons(buttons);
+        section.addView(radio);
+        section.measure(unspecified(), unspecified());
+        section.layout(0, 0, section.getMeasuredWidth(), section.getMeasuredHeight());
+
+        // Radio draws its content one overshoot padding right of its
+        // translated left edge, so the content starts at the layout left
+        float contentLeft = radio.getX() - radio.getTranslationX();
+        float y = radio.getTop() + radio.getHeight() / 2f;
+
+        final String[] changed = new String[1];
+        list.setOnValueChangeListener((key, value) -> changed[0] = value);
+
+        // Just left of the content: no option
+        tap(contentLeft - 2f, y);
+        assertNull(changed[0]);
+
+        // Just inside the content: the first option
+        tap(contentLeft + 2f, y);
+        assertEquals("en", changed[0]);
+    }
+
+    private void tap(float x, float y) {
+        MotionEvent down = MotionEvent.obtain(0, 0, MotionEvent.ACTION_DOWN, x, y, 0);
+        MotionEvent up = MotionEvent.obtain(0, 10, MotionEvent.ACTION_UP, x, y, 0);
+        list.onTouchEvent(down);
+        list.onTouchEvent(up);
+        down.recycle();
+        up.recycle();
+    }
+
+    @Test
+    public void testSelectionSurvivesSetSections() {
+        List<SettingsSection> sections = Arrays.asList(
+                new SettingsSection(label("Language", "Язык"), Arrays.asList(
+                        new SettingsRadio("language", buttons))));
+        list.setSections(sections);
+        list.setSelectedValue("language", "ru");
+
+        list.setSections(sections);
+        assertEquals("ru", list.getSelectedValue("language"));
+    }
+
+    @Test
+    public void testScrollIsClampedToContent() {
+        List<SettingsSection> sections = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            sections.add(new SettingsSection(label("Section " + i, "Раздел " + i), Arrays.asList(
+                    new SettingsRadio("row" + i, buttons))));
+        }
+        list.setSections(sections);
+
+        int viewportHeight = 600;
+        list.measure(
+                View.MeasureSpec.makeMeasureSpec(1364, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(viewportHeight, View.MeasureSpec.EXACTLY));
+        list.layout(0, 0, 1364, viewportHeight);
+
+        list.scrollTo(0, -100);
+        assertEquals(0, list.getScrollY());
+
+        list.scrollTo(0, Integer.MAX_VALUE);
+        assertEquals(list.getContentHeight() - viewportHeight, list.getScrollY());
+        assertFalse(list.canScrollVertically(1));
+        assertTrue(list.canScrollVertically(-1));
+    }
+
+    @Test
+    public void testCulledInsideScrollView() {
+        List<SettingsSection> sections = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            sections.add(new SettingsSection(label("Section " + i, "Раздел " + i), Arrays.asList(
+                    new SettingsRadio("row" + i, buttons))));
+        }
+        list.setSections(sections);
+
+        // The parent scrolls a full-height list, as Panel does
+        Activity activity = Robolectric.buildActivity(Activity.class).setup().get();
+        ScrollView scrollView = new ScrollView(activity);
+        scrollView.addView(list);
+        activity.setContentView(scrollView);
+        scrollView.measure(
+                View.MeasureSpec.makeMeasureSpec(1364, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(600, View.MeasureSpec.EXACTLY));
+        scrollView.layout(0, 0, 1364, 600);
+        assertEquals(list.getContentHeight(), list.getHeight());
+
+        // Scroll to the middle of the fifth section
+        int sectionHeight = list.getContentHeight() / 20;
+        scrollView.scrollTo(0, 4 * sectionHeight + sectionHeight / 2);
+
+        ClippedCanvas canvas = new ClippedCanvas(new Rect(0, 0, 1364, list.getHeight()));
+        list.draw(canvas);
+
+        assertTrue(canvas.drawnTexts.contains("Section 5"));
+        assertFalse("Sections above the viewport", canvas.drawnTexts.contains("Section 3"));
+        assertFalse("Sections below the viewport", canvas.drawnTexts.contains("Section 10"));
+    }
+
+    @Test
+    public void testSectionsAreCopied() {
+        List<SettingsSection> sections = new ArrayList<>();
+        sections.add(new SettingsSection(label("Language", "Язык"), Arrays.asList(
+                new SettingsRadio("language", buttons))));
+        list.setSections(sections);
+
+        // Editing the caller's list must not desync the drawn geometry
+        sections.clear();
+        assertEquals(1, list.getSections().size());
+        assertEquals(1, list.getRowCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullSection() {
+        list.setSections(Arrays.asList((SettingsSection) null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullRow() {
+        new SettingsSection(label("Language", "Язык"), Arrays.asList((SettingsRadio) null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownKey() {
+        list.getSelectedValue("missing");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateKeys() {
+        list.setSections(Arrays.asList(
+                new SettingsSection(label("Language", "Язык"), Arrays.asList(
+                        new SettingsRadio("language", buttons))),
+                new SettingsSection(label("Voice", "Голос"), Arrays.asList(
+                        new SettingsRadio("language", buttons)))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetSectionsNull() {
+        list.setSections(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetThemeNull() {
+        list.setTheme(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetLanguageNull() {
+        list.setLanguage(null);
+    }
+}
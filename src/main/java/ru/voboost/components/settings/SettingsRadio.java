@@ -0,0 +1,88 @@
+package ru.voboost.components.settings;
+
+import java.util.List;
+
+import ru.voboost.components.radio.RadioButton;
+import ru.voboost.components.radio.RadioOptions;
+
+/**
+ * Declarative spec of one segmented control row in a {@link SettingsList}.
+ *
+ * <p>Each SettingsRadio contains:
+ * <ul>
+ *   <li>key - unique identifier of the setting, reported with every change</li>
+ *   <li>options - the options, as for a Radio; rows may share one option set</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>
+ * new SettingsRadio("language", Arrays.asList(
+ *         new RadioButton("en", Map.of("en", "English")),
+ *         new RadioButton("ru", Map.of("en", "Русский"))));
+ * </pre>
+ */
+public final class SettingsRadio {
+
+    private final String key;
+    private final RadioOptions options;
+
+    /**
+     * Creates a new row spec.
+     *
+     * @param key     unique identifier of the setting
+     * @param buttons the options
+     * @throws IllegalArgumentException if key is null or empty
+     * @throws IllegalArgumentException if buttons is null
+     */
+    public SettingsRadio(String key, List<RadioButton> buttons) {
+        this(key, buttons != null ? RadioOptions.of(buttons) : null);
+    }
+
+    /**
+     * Creates a new row spec with a shared option set.
+     *
+     * @param key     unique identifier of the setting
+     * @param options the option set
+     * @throws IllegalArgumentException if key is null or empty
+     * @throws IllegalArgumentException if options is null
+     */
+    public SettingsRadio(String key, RadioOptions options) {
+        if (key == null || key.trim().isEmpty()) {
+            throw new IllegalArgumentException("SettingsRadio key cannot be null or empty");
+        }
+
+        if (options == null) {
+            throw new IllegalArgumentException("SettingsRadio buttons cannot be null");
+        }
+
+        this.key = key;
+        this.options = options;
+    }
+
+    /**
+     * Returns the setting key.
+     *
+     * @return the key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the options.
+     *
+     * @return unmodifiable list of options
+     */
+    public List<RadioButton> getButtons() {
+        return options.getButtons();
+    }
+
+    /**
+     * Returns the option set.
+     *
+     * @return the option set
+     */
+    public RadioOptions getOptions() {
+        return options;
+    }
+}
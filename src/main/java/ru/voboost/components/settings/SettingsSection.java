@@ -0,0 +1,95 @@
+package ru.voboost.components.settings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import ru.voboost.components.i18n.LocalizedString;
+
+/**
+ * Declarative spec of one titled section in a {@link SettingsList}.
+ *
+ * <p>Each SettingsSection contains:
+ * <ul>
+ *   <li>title - localized section title</li>
+ *   <li>rows - the segmented controls of the section, top to bottom</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>
+ * new SettingsSection(
+ *         LocalizedString.of("Language", "Язык"),
+ *         Arrays.asList(new SettingsRadio("language", buttons)));
+ * </pre>
+ */
+public final class SettingsSection {
+
+    private final LocalizedString title;
+    private final List<SettingsRadio> rows;
+
+    /**
+     * Creates a new section spec.
+     *
+     * @param title Map of language code to localized title text
+     * @param rows  the rows of the section
+     * @throws IllegalArgumentException if title is null or empty
+     * @throws IllegalArgumentException if rows is null or contains null
+     */
+    public SettingsSection(Map<String, String> title, List<SettingsRadio> rows) {
+        this(toLocalizedString(title), rows);
+    }
+
+    /**
+     * Creates a new section spec.
+     *
+     * @param title localized title text
+     * @param rows  the rows of the section
+     * @throws IllegalArgumentException if title is null
+     * @throws IllegalArgumentException if rows is null or contains null
+     */
+    public SettingsSection(LocalizedString title, List<SettingsRadio> rows) {
+        if (title == null) {
+            throw new IllegalArgumentException("Title cannot be null");
+        }
+
+        if (rows == null) {
+            throw new IllegalArgumentException("SettingsSection rows cannot be null");
+        }
+
+        for (SettingsRadio row : rows) {
+            if (row == null) {
+                throw new IllegalArgumentException("SettingsSection row cannot be null");
+            }
+        }
+
+        this.title = title;
+        this.rows = Collections.unmodifiableList(new ArrayList<>(rows));
+    }
+
+    /**
+     * Returns the localized title.
+     *
+     * @return the title
+     */
+    public LocalizedString getTitle() {
+        return title;
+    }
+
+    /**
+     * Returns the rows.
+     *
+     * @return unmodifiable list of rows
+     */
+    public List<SettingsRadio> getRows() {
+        return rows;
+    }
+
+    private static LocalizedString toLocalizedString(Map<String, String> title) {
+        if (title == null || title.isEmpty()) {
+            throw new IllegalArgumentException("Title cannot be null or empty");
+        }
+
+        return LocalizedString.of(title);
+    }
+}
@@ -2,6 +2,12 @@ package ru.voboost.components.tabs;
 
 import java.util.Map;
 
+import androidx.compose.runtime.Immutable;
+
+import ru.voboost.components.font.Font;
+import ru.voboost.components.i18n.Language;
+import ru.voboost.components.i18n.LocalizedString;
+
 /**
  * Data model for a single tab item in the Tabs component.
  *
@@ -19,25 +25,41 @@ import java.util.Map;
  * TabItem item = new TabItem("settings", labels);
  * </pre>
  */
+@Immutable
 public class TabItem {
 
     private final String value;
-    private final Map<String, String> label;
+    private final LocalizedString label;
 
     /**
      * Creates a new TabItem with the specified value and localized labels.
      *
+     * <p>Null texts in the map are skipped; if every text is null, the label resolves
+     * to the value in every language.
+     *
      * @param value unique identifier for this tab
      * @param label Map of language code to localized label text
      * @throws IllegalArgumentException if value is null or empty
      * @throws IllegalArgumentException if label is null or empty
      */
     public TabItem(String value, Map<String, String> label) {
+        this(value, toLocalizedString(value, label));
+    }
+
+    /**
+     * Creates a new TabItem with the specified value and localized label.
+     *
+     * @param value unique identifier for this tab
+     * @param label localized label text
+     * @throws IllegalArgumentException if value is null or empty
+     * @throws IllegalArgumentException if label is null
+     */
+    public TabItem(String value, LocalizedString label) {
         if (value == null || value.trim().isEmpty()) {
             throw new IllegalArgumentException("TabItem value cannot be null or empty");
         }
 
-        if (label == null || label.isEmpty()) {
+        if (label == null) {
             throw new IllegalArgumentException("TabItem label cannot be null or empty");
         }
 
@@ -57,9 +79,18 @@ public class TabItem {
     /**
      * Returns the Map of localized labels.
      *
-     * @return Map of language code to label text
+     * @return new Map of language code to label text
      */
     public Map<String, String> getLabel() {
+        return label.toMap();
+    }
+
+    /**
+     * Returns the localized label.
+     *
+     * @return the label
+     */
+    public LocalizedString getLocalizedLabel() {
         return label;
     }
 
@@ -70,9 +101,54 @@ public class TabItem {
      * @return the label text, or the value if no label exists for the language
      */
     public String getText(String languageCode) {
-        String text = label.get(languageCode);
+        return label.has(languageCode) ? label.get(languageCode) : value;
+    }
+
+    /**
+     * Returns the label text for the specified language.
+     *
+     * @param language the language
+     * @return the label text, or the value if no label exists for the language
+     */
+    public String getText(Language language) {
+        return label.has(language) ? label.get(language) : value;
+    }
+
+    /**
+     * Checks whether the label text for the language contains only ASCII characters.
+     *
+     * <p>Codes are classified through the memoized {@link Font#isAsciiOnly(String)}.
+     *
+     * @param languageCode the language code (e.g., "en", "ru")
+     * @return true if {@link #getText(String)} for this language is ASCII-only
+     */
+    public boolean isAsciiOnly(String languageCode) {
+        return Font.isAsciiOnly(getText(languageCode));
+    }
 
-        return text != null ? text : value;
+    /**
+     * Checks whether the label text for the language contains only ASCII characters.
+     *
+     * <p>Precomputed by the label, so the Tabs renderer can pick the bold font variant
+     * without scanning the text on every frame.
+     *
+     * @param language the language
+     * @return true if {@link #getText(Language)} for this language is ASCII-only
+     */
+    public boolean isAsciiOnly(Language language) {
+        return label.has(language) ? label.isAsciiOnly(language) : Font.isAsciiOnly(value);
+    }
+
+    /**
+     * Checks whether the other item has the same value and label. Unlike
+     * {@link #equals(Object)}, which identifies items by value only, this
+     * detects label changes.
+     *
+     * @param other the other item, may be null
+     * @return true if value and label are equal
+     */
+    boolean hasSameContent(TabItem other) {
+        return other != null && value.equals(other.value) && label.equals(other.label);
     }
 
     @Override
@@ -90,6 +166,15 @@ public class TabItem {
         return value.hashCode();
     }
 
+    private static LocalizedString toLocalizedString(String value, Map<String, String> label) {
+        if (label == null || label.isEmpty()) {
+            throw new IllegalArgumentException("TabItem label cannot be null or empty");
+        }
+
+        // A map with only null texts falls back to the value, as before LocalizedString
+        return LocalizedString.ofOrDefault(label, value);
+    }
+
     @Override
     public String toString() {
         return "TabItem{value='" + value + "', label=" + label + "}";
@@ -1,26 +1,32 @@
 package ru.voboost.components.tabs;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-import android.animation.ValueAnimator;
 import android.content.Context;
 import android.graphics.Canvas;
 import android.graphics.Paint;
+import android.graphics.Rect;
 import android.graphics.RectF;
+import android.graphics.Typeface;
 import android.text.TextPaint;
 import android.util.AttributeSet;
 import android.view.MotionEvent;
 import android.view.View;
-import android.view.animation.OvershootInterpolator;
+import android.view.ViewTreeObserver;
 
 import androidx.annotation.Nullable;
 
+import ru.voboost.components.animation.FrameClock;
+import ru.voboost.components.animation.Spring;
 import ru.voboost.components.font.Font;
 import ru.voboost.components.i18n.ILocalizable;
 import ru.voboost.components.i18n.Language;
+import ru.voboost.components.scroll.VerticalScroller;
 import ru.voboost.components.theme.IThemable;
 import ru.voboost.components.theme.Theme;
+import ru.voboost.components.theme.ThemeTransaction;
 
 /**
  * Tabs component - A vertical navigation sidebar with animated selection
@@ -35,6 +41,7 @@ import ru.voboost.components.theme.Theme;
  * <ul>
  * <li>Vertical tab layout</li>
  * <li>Animated selection indicator</li>
+ * <li>Scrolls itself (drag and fling) when the items exceed its height</li>
  * <li>Multi-theme support (Free/Dreamer, Light/Dark)</li>
  * <li>Multi-language support (EN/RU)</li>
  * <li>Touch event handling</li>
@@ -54,8 +61,8 @@ import ru.voboost.components.theme.Theme;
  * });
  * </pre>
  */
-public class Tabs extends View implements IThemable, ILocalizable {
-
+public class Tabs extends View
+        implements IThemable, ILocalizable, ThemeTransaction.Participant {
     // Data
     private List<TabItem> items = new ArrayList<>();
     private String selectedValue = "";
@@ -73,10 +80,50 @@ public class Tabs extends View implements IThemable, ILocalizable {
     // Animation
     private float animatedY = 0f;
     private boolean animatedYInitialized = false;
-    private ValueAnimator selectionAnimator;
+    private final Spring ySpring =
+            Spring.fromOvershoot(TabsTheme.OVERSHOOT_TENSION, TabsTheme.ANIMATION_DURATION);
+    private final FrameClock.Animation selectionAnimation = new FrameClock.Animation() {
+        @Override
+        public boolean onFrame(long frameTimeNanos) {
+            boolean isRunning = ySpring.step(frameTimeNanos);
+            animatedY = ySpring.getValue();
+            return isRunning;
+        }
 
-    // Calculated positions
-    private List<Float> itemPositions = new ArrayList<>();
+        @Override
+        public View getTarget() {
+            return Tabs.this;
+        }
+    };
+
+    // Label geometry, rebuilt only when items or language change
+    private TabsLayout layout;
+    private final RectF indicatorRect = new RectF();
+
+    // Scrolling: the view is viewport-sized and scrolls its own content, so
+    // its drawing surface does not grow with the number of items
+    private VerticalScroller scroller;
+
+    // Item under the finger, selected on ACTION_UP unless the touch became a drag
+    private int pendingIndex = -1;
+
+    // Viewport culling: only items intersecting the clip and the visible
+    // (scrolled) area are drawn. The range is found by index arithmetic on the
+    // fixed item pitch.
+    private final Rect clipBounds = new Rect();
+    private final Rect visibleBounds = new Rect();
+    private int firstDrawnIndex = 0;
+    private int lastDrawnIndex = -1;
+    private final ViewTreeObserver.OnScrollChangedListener scrollChangedListener =
+            () -> {
+                // Display lists are not re-recorded on scroll, so redraw only
+                // when items outside the recorded range become visible
+                if (VerticalScroller.getVisibleContentRect(this, visibleBounds)
+                        && (getFirstIndexBelow(visibleBounds.top) < firstDrawnIndex
+                                || getLastIndexAbove(visibleBounds.bottom) > lastDrawnIndex)) {
+                    invalidate();
+                }
+            };
 
     // Callbacks
     private OnValueChangeListener onValueChangeListener;
@@ -135,8 +182,7 @@ public class Tabs extends View implements IThemable, ILocalizable {
     // ============================================================
 
     private void init(Context context) {
-        // Enable hardware acceleration for better performance
-        setLayerType(LAYER_TYPE_HARDWARE, null);
+        // No hardware layer: the indicator animation redraws the content every frame
 
         // Initialize paints
         sidebarBackgroundPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
@@ -151,6 +197,11 @@ public class Tabs extends View implements IThemable, ILocalizable {
         // All tabs use bold font to match original implementation
         selectedTextPaint.setTypeface(Font.getBold(context, ""));
         unselectedTextPaint.setTypeface(Font.getBold(context, ""));
+
+        // Initialize scrolling
+        scroller = new VerticalScroller(this, this::getMaxScrollY);
+        setVerticalScrollBarEnabled(false);
+        setOverScrollMode(OVER_SCROLL_NEVER);
     }
 
     // ============================================================
@@ -160,16 +211,59 @@ public class Tabs extends View implements IThemable, ILocalizable {
     /**
      * Sets the list of tab items.
      *
+     * <p>
+     * A list with the same content as the current items (same values and
+     * labels, in order) is ignored, so repeated updates keep the indicator,
+     * any running animation and the scroll position. Otherwise only changed
+     * labels are measured again, and the indicator snaps only if the selected
+     * tab moved.
+     *
      * @param items the list of TabItem objects
      */
     public void setItems(List<TabItem> items) {
-        this.items = items != null ? new ArrayList<>(items) : new ArrayList<>();
-        animatedYInitialized = false;
-        calculateItemPositions();
-        requestLayout();
+        List<TabItem> newItems = items != null ? items : Collections.emptyList();
+        if (hasSameItems(newItems)) {
+            return;
+        }
+
+        int oldCount = this.items.size();
+        int oldIndex = getIndexForValue(selectedValue);
+        this.items = new ArrayList<>(newItems);
+
+        // The label table is rebuilt lazily from the previous one on the next draw
+        if (getIndexForValue(selectedValue) != oldIndex) {
+            ySpring.cancel();
+            FrameClock.getInstance().stop(selectionAnimation);
+            animatedYInitialized = false;
+            snapToSelectedItem();
+        }
+
+        // Height depends only on the number of items
+        if (this.items.size() != oldCount) {
+            scroller.stopFling();
+            scrollTo(0, getScrollY());
+            requestLayout();
+        }
         invalidate();
     }
 
+    /**
+     * Checks whether the list has the same content as the current items,
+     * compared by value and label in order. The current items are a copy, so
+     * there is no identity shortcut.
+     */
+    private boolean hasSameItems(List<TabItem> newItems) {
+        if (newItems.size() != items.size()) {
+            return false;
+        }
+        for (int i = 0; i < newItems.size(); i++) {
+            if (!items.get(i).hasSameContent(newItems.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Sets the currently selected tab value.
      *
@@ -196,7 +290,7 @@ public class Tabs extends View implements IThemable, ILocalizable {
         // Animate to new position
         int newIndex = getIndexForValue(value);
         if (newIndex >= 0) {
-            float targetY = itemPositions.get(newIndex);
+            float targetY = getItemTop(newIndex);
 
             if (!animatedYInitialized) {
                 // First render: set position immediately without animation
@@ -242,9 +336,39 @@ public class Tabs extends View implements IThemable, ILocalizable {
             throw new IllegalArgumentException("Theme cannot be null");
         }
 
+        ThemeTransaction.requestUpdate(this, applyTheme(theme));
+    }
+
+    @Override
+    public int applyTransaction(@Nullable Theme theme, @Nullable Language language) {
+        int flags = 0;
+        if (theme != null) {
+            flags |= applyTheme(theme);
+        }
+        if (language != null) {
+            flags |= applyLanguage(language);
+        }
+        return flags;
+    }
+
+    private int applyTheme(Theme theme) {
+        if (theme == this.currentTheme) {
+            return 0;
+        }
+
         this.currentTheme = theme;
         updateColors();
-        invalidate();
+        return ThemeTransaction.CHANGED_DRAW;
+    }
+
+    private int applyLanguage(Language language) {
+        if (language == this.currentLanguage) {
+            return 0;
+        }
+
+        // Label geometry is rebuilt lazily on the next draw
+        this.currentLanguage = language;
+        return ThemeTransaction.CHANGED_DRAW;
     }
 
     @Override
@@ -277,8 +401,7 @@ public class Tabs extends View implements IThemable, ILocalizable {
             throw new IllegalArgumentException("Language cannot be null");
         }
 
-        this.currentLanguage = language;
-        invalidate();
+        ThemeTransaction.requestUpdate(this, applyLanguage(language));
     }
 
     /**
@@ -318,6 +441,24 @@ public class Tabs extends View implements IThemable, ILocalizable {
         return TabsTheme.SIDEBAR_WIDTH;
     }
 
+    /**
+     * Returns the height of all items, independent of the view height.
+     *
+     * @return content height in pixels
+     */
+    public int getContentHeight() {
+        return calculateTotalHeight();
+    }
+
+    /**
+     * Returns the largest vertical scroll offset, or 0 when all items fit.
+     *
+     * @return maximum scrollY in pixels
+     */
+    public int getMaxScrollY() {
+        return Math.max(0, calculateTotalHeight() - getHeight());
+    }
+
     // ============================================================
     // MEASUREMENT
     // ============================================================
@@ -325,20 +466,15 @@ public class Tabs extends View implements IThemable, ILocalizable {
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
         int width = TabsTheme.SIDEBAR_WIDTH;
-        int height = calculateTotalHeight();
 
-        // Report natural height without constraint resolution
+        // A bounded parent gets a viewport-sized view that scrolls itself; an
+        // unbounded one (e.g. a ScrollView) still gets the natural height
+        int height = resolveSize(calculateTotalHeight(), heightMeasureSpec);
         setMeasuredDimension(width, height);
     }
 
     private int calculateTotalHeight() {
-        if (items.isEmpty()) {
-            return 0;
-        }
-
-        return items.size() * TabsTheme.TAB_ITEM_HEIGHT
-                + (items.size() - 1) * TabsTheme.TAB_ITEM_SPACING
-                + TabsTheme.SIDEBAR_PADDING_BOTTOM;
+        return TabsGeometry.getTotalHeight(items.size());
     }
 
     // ============================================================
@@ -353,8 +489,8 @@ public class Tabs extends View implements IThemable, ILocalizable {
             return;
         }
 
-        // Draw sidebar background
-        canvas.drawRect(0, 0, getWidth(), getHeight(), sidebarBackgroundPaint);
+        // Draw sidebar background behind the items (content coordinates)
+        canvas.drawRect(0, 0, getWidth(), calculateTotalHeight(), sidebarBackgroundPaint);
 
         // Draw selection indicator
         drawSelectionIndicator(canvas);
@@ -368,41 +504,41 @@ public class Tabs extends View implements IThemable, ILocalizable {
             return;
         }
 
-        float left = TabsTheme.SIDEBAR_PADDING_LEFT;
-        float right = TabsTheme.SIDEBAR_PADDING_LEFT + TabsTheme.TAB_ITEM_WIDTH;
-        float top = animatedY;
-        float bottom = top + TabsTheme.TAB_ITEM_HEIGHT;
-
-        RectF rect = new RectF(left, top, right, bottom);
+        indicatorRect.set(
+                TabsGeometry.ITEM_LEFT,
+                animatedY,
+                TabsGeometry.ITEM_RIGHT,
+                animatedY + TabsTheme.TAB_ITEM_HEIGHT);
         canvas.drawRoundRect(
-                rect, TabsTheme.CORNER_RADIUS, TabsTheme.CORNER_RADIUS, selectedBackgroundPaint);
+                indicatorRect,
+                TabsTheme.CORNER_RADIUS,
+                TabsTheme.CORNER_RADIUS,
+                selectedBackgroundPaint);
     }
 
     private void drawTabItems(Canvas canvas) {
-        String langCode = currentLanguage.getCode();
-
-        for (int i = 0; i < items.size(); i++) {
-            TabItem item = items.get(i);
-            float y = itemPositions.get(i);
-
-            String text = item.getText(langCode);
-            boolean isSelected = item.getValue().equals(selectedValue);
-
-            TextPaint textPaint = isSelected ? selectedTextPaint : unselectedTextPaint;
+        if (layout == null || !layout.isFor(items, currentLanguage)) {
+            layout = TabsLayout.create(
+                    getContext(), items, currentLanguage, selectedTextPaint, layout);
+        }
 
-            // Set the correct bold font variant based on text content
-            textPaint.setTypeface(Font.getBold(getContext(), text));
+        int selectedIndex = getIndexForValue(selectedValue);
 
-            // Calculate float-precision horizontal centering
-            float textWidth = textPaint.measureText(text);
-            float x = TabsTheme.SIDEBAR_PADDING_LEFT + (TabsTheme.TAB_ITEM_WIDTH - textWidth) / 2f;
+        updateDrawnRange(canvas);
+        for (int i = firstDrawnIndex; i <= lastDrawnIndex; i++) {
+            TextPaint textPaint = i == selectedIndex ? selectedTextPaint : unselectedTextPaint;
 
-            // Calculate vertical position to center text in tab item
-            // Using baseline-based positioning with manual offset for visual alignment
-            float textY = y + (TabsTheme.TAB_ITEM_HEIGHT + TabsTheme.TEXT_SIZE) / 2f - 6f;
+            Typeface typeface = layout.typefaces[i];
+            if (textPaint.getTypeface() != typeface) {
+                textPaint.setTypeface(typeface);
+            }
 
             // Draw text with Paint.Align.LEFT (default)
-            canvas.drawText(text, x, textY, textPaint);
+            canvas.drawText(
+                    layout.texts[i],
+                    layout.textX[i],
+                    getItemTop(i) + TabsGeometry.BASELINE_OFFSET,
+                    textPaint);
         }
     }
 
@@ -411,25 +547,19 @@ public class Tabs extends View implements IThemable, ILocalizable {
     // ============================================================
 
     private void animateToPosition(int index) {
-        if (index < 0 || index >= itemPositions.size()) {
+        if (index < 0 || index >= items.size()) {
             return;
         }
 
-        float targetY = itemPositions.get(index);
-
-        if (selectionAnimator != null && selectionAnimator.isRunning()) {
-            selectionAnimator.cancel();
+        // A resting spring starts from the drawn position; a moving one keeps
+        // its velocity and only changes target
+        if (!ySpring.isRunning()) {
+            ySpring.snapTo(animatedY);
         }
+        ySpring.animateTo(getItemTop(index));
 
-        selectionAnimator = ValueAnimator.ofFloat(animatedY, targetY);
-        selectionAnimator.setDuration(TabsTheme.ANIMATION_DURATION);
-        selectionAnimator.setInterpolator(new OvershootInterpolator(1.0f));
-        selectionAnimator.addUpdateListener(
-                animation -> {
-                    animatedY = (float) animation.getAnimatedValue();
-                    invalidate();
-                });
-        selectionAnimator.start();
+        // The shared clock invalidates this view once per frame
+        FrameClock.getInstance().start(selectionAnimation);
     }
 
     // ============================================================
@@ -438,52 +568,152 @@ public class Tabs extends View implements IThemable, ILocalizable {
 
     @Override
     public boolean onTouchEvent(MotionEvent event) {
-        if (event.getAction() == MotionEvent.ACTION_DOWN) {
-            int index = getItemIndexAtPosition(event.getY());
+        scroller.trackVelocity(event);
 
-            if (index >= 0 && index < items.size()) {
-                String newValue = items.get(index).getValue();
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                scroller.onDown(event.getY());
+
+                int index = getItemIndexAtPosition(event.getY() + getScrollY());
+                if (index >= 0 && index < items.size()) {
+                    pendingIndex = index;
+                    return true;
+                }
 
-                if (!newValue.equals(selectedValue)) {
-                    setSelectedValue(newValue, true);
+                // Gaps only start a gesture when there is something to scroll
+                if (scroller.canScroll()) {
+                    return true;
                 }
+                endTouch();
+                return super.onTouchEvent(event);
 
+            case MotionEvent.ACTION_MOVE:
+                scroller.onMove(event.getY());
                 return true;
-            }
+
+            case MotionEvent.ACTION_UP:
+                // Only a tap selects; a drag that started on a tab keeps the selection
+                if (!scroller.onUp() && pendingIndex >= 0 && pendingIndex < items.size()) {
+                    String newValue = items.get(pendingIndex).getValue();
+
+                    if (!newValue.equals(selectedValue)) {
+                        setSelectedValue(newValue, true);
+                    }
+                }
+                endTouch();
+                return true;
+
+            case MotionEvent.ACTION_CANCEL:
+                endTouch();
+                return true;
+
+            default:
+                return super.onTouchEvent(event);
         }
-        return super.onTouchEvent(event);
+    }
+
+    private void endTouch() {
+        pendingIndex = -1;
+        scroller.endTouch();
     }
 
     private int getItemIndexAtPosition(float y) {
-        for (int i = 0; i < itemPositions.size(); i++) {
-            float itemTop = itemPositions.get(i);
-            float itemBottom = itemTop + TabsTheme.TAB_ITEM_HEIGHT;
+        return TabsGeometry.getItemIndexAt(y, items.size());
+    }
 
-            if (y >= itemTop && y <= itemBottom) {
-                return i;
-            }
+    // ============================================================
+    // SCROLLING
+    // ============================================================
+
+    @Override
+    public void scrollTo(int x, int y) {
+        super.scrollTo(0, scroller.clamp(y));
+    }
+
+    @Override
+    public void computeScroll() {
+        scroller.computeScroll();
+    }
+
+    @Override
+    protected int computeVerticalScrollRange() {
+        return calculateTotalHeight();
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        scrollTo(0, getScrollY());
+    }
+
+    // ============================================================
+    // VIEWPORT CULLING
+    // ============================================================
+
+    private void updateDrawnRange(Canvas canvas) {
+        int top;
+        int bottom;
+        if (canvas.getClipBounds(clipBounds)) {
+            top = clipBounds.top;
+            bottom = clipBounds.bottom;
+        } else {
+            top = getScrollY();
+            bottom = top + getHeight();
         }
 
-        return -1;
+        // Inside a scroll container the recorded clip is the whole view;
+        // narrow it to the part that is actually on screen
+        if (isAttachedToWindow() && VerticalScroller.getVisibleContentRect(this, visibleBounds)) {
+            top = Math.max(top, visibleBounds.top);
+            bottom = Math.min(bottom, visibleBounds.bottom);
+        }
+
+        firstDrawnIndex = getFirstIndexBelow(top);
+        lastDrawnIndex = getLastIndexAbove(bottom);
+    }
+
+    /**
+     * Returns the first item whose bottom edge is below the given y.
+     */
+    private int getFirstIndexBelow(int top) {
+        return TabsGeometry.getFirstIndexBelow(top);
+    }
+
+    /**
+     * Returns the last item whose top edge is above the given y.
+     */
+    private int getLastIndexAbove(int bottom) {
+        return TabsGeometry.getLastIndexAbove(bottom, items.size());
     }
 
     // ============================================================
     // HELPER METHODS
     // ============================================================
 
-    private void calculateItemPositions() {
-        itemPositions.clear();
+    /**
+     * Returns the top y of the item at the given index.
+     *
+     * @param index item index
+     * @return item top in pixels
+     */
+    float getItemTop(int index) {
+        return TabsGeometry.getItemTop(index);
+    }
 
-        float y = 0;
-        for (int i = 0; i < items.size(); i++) {
-            itemPositions.add(y);
-            y += TabsTheme.TAB_ITEM_HEIGHT + TabsTheme.TAB_ITEM_SPACING;
-        }
+    /**
+     * Returns the current label geometry table.
+     *
+     * @return the geometry table, or null if not drawn yet
+     */
+    TabsLayout getLabelLayout() {
+        return layout;
+    }
 
+    private void snapToSelectedItem() {
         // Set initial animated position
         int selectedIndex = getIndexForValue(selectedValue);
-        if (selectedIndex >= 0 && selectedIndex < itemPositions.size()) {
-            animatedY = itemPositions.get(selectedIndex);
+        if (selectedIndex >= 0) {
+            animatedY = getItemTop(selectedIndex);
         }
     }
 
@@ -512,14 +742,21 @@ public class Tabs extends View implements IThemable, ILocalizable {
     // LIFECYCLE
     // ============================================================
 
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        getViewTreeObserver().addOnScrollChangedListener(scrollChangedListener);
+    }
+
     @Override
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
+        getViewTreeObserver().removeOnScrollChangedListener(scrollChangedListener);
 
-        if (selectionAnimator != null) {
-            selectionAnimator.cancel();
-            selectionAnimator = null;
-        }
+        ySpring.cancel();
+        FrameClock.getInstance().stop(selectionAnimation);
+        scroller.stopFling();
+        endTouch();
     }
 
 }
@@ -1,6 +1,9 @@
 package ru.voboost.components.tabs
 
 import androidx.compose.runtime.Composable
+import androidx.compose.runtime.getValue
+import androidx.compose.runtime.remember
+import androidx.compose.runtime.rememberUpdatedState
 import androidx.compose.ui.viewinterop.AndroidView
 import ru.voboost.components.i18n.Language
 import ru.voboost.components.theme.Theme
@@ -10,6 +13,9 @@ import ru.voboost.components.theme.Theme
  *
  * A vertical navigation sidebar with animated selection indicator.
  *
+ * Only parameters that changed since the last recomposition are forwarded to the view,
+ * so a parent recomposition does not reset the selection indicator.
+ *
  * @param items List of TabItem objects representing the tabs
  * @param lang Language enum value for localization
  * @param theme Theme enum value
@@ -24,23 +30,59 @@ fun Tabs(
     value: String,
     onValueChange: (String) -> Unit,
 ) {
+    // The view keeps one listener; it always calls the latest callback
+    val currentOnValueChange by rememberUpdatedState(onValueChange)
+    val applied = remember { AppliedItems() }
+
     AndroidView(
         factory = { context ->
             ru.voboost.components.tabs.Tabs(context).apply {
                 setTheme(theme)
                 setLanguage(lang)
                 setItems(items)
+                applied.items = items
                 setSelectedValue(value)
                 setOnValueChangeListener { newValue ->
-                    onValueChange(newValue)
+                    currentOnValueChange(newValue)
                 }
             }
         },
         update = { tabsView ->
-            tabsView.setTheme(theme)
-            tabsView.setLanguage(lang)
-            tabsView.setItems(items)
-            tabsView.setSelectedValue(value)
+            if (theme != tabsView.getCurrentTheme()) {
+                tabsView.setTheme(theme)
+            }
+            if (lang != tabsView.getCurrentLanguage()) {
+                tabsView.setLanguage(lang)
+            }
+            // setItems ignores equal lists too; this skips the call when the same list is recomposed
+            if (!isSameItems(items, applied.items)) {
+                tabsView.setItems(items)
+                applied.items = items
+            }
+            if (value != tabsView.getSelectedValue()) {
+                tabsView.setSelectedValue(value)
+            }
         },
     )
 }
+
+/**
+ * Item list last forwarded to the view (the view keeps its own copy).
+ */
+internal class AppliedItems {
+    var items: List<TabItem>? = null
+}
+
+/**
+ * Compares item lists by value and label ([TabItem.hasSameContent]), as [Tabs.setItems] does;
+ * TabItem.equals compares values only.
+ */
+internal fun isSameItems(items: List<TabItem>?, applied: List<TabItem>?): Boolean {
+    if (items === applied) return true
+    if (items == null || applied == null || items.size != applied.size) return false
+
+    for (i in items.indices) {
+        if (!items[i].hasSameContent(applied[i])) return false
+    }
+    return true
+}
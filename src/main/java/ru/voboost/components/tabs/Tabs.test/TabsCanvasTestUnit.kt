@@ -0,0 +1,143 @@
+package ru.voboost.components.tabs
+
+import android.content.Context
+import android.graphics.Bitmap
+import android.view.View
+import androidx.compose.ui.geometry.Size
+import androidx.compose.ui.graphics.Canvas
+import androidx.compose.ui.graphics.drawscope.CanvasDrawScope
+import androidx.compose.ui.unit.Density
+import androidx.compose.ui.unit.LayoutDirection
+import kotlinx.coroutines.cancel
+import kotlinx.coroutines.test.TestScope
+import org.junit.Assert.assertArrayEquals
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotEquals
+import org.junit.Assert.assertNotNull
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.RuntimeEnvironment
+import org.robolectric.annotation.Config
+import org.robolectric.annotation.GraphicsMode
+import ru.voboost.components.i18n.Language
+import ru.voboost.components.testing.DrawingTests.countDifferentPixels
+import ru.voboost.components.theme.Theme
+
+/**
+ * Unit tests for the Compose-native Tabs (TabsCanvas).
+ * Checks that it shares geometry with the View and draws the same pixels.
+ * No frame-time comparison: timing the interop and RenderNode cost needs a device benchmark.
+ */
+@RunWith(RobolectricTestRunner::class)
+@Config(sdk = [33])
+@GraphicsMode(GraphicsMode.Mode.NATIVE)
+class TabsCanvasTestUnit {
+    private lateinit var context: Context
+    private lateinit var items: List<TabItem>
+    private lateinit var tabs: Tabs
+
+    @Before
+    fun setUp() {
+        context = RuntimeEnvironment.getApplication()
+        items =
+            listOf(
+                TabItem("store", mapOf("en" to "Store", "ru" to "Магазин")),
+                TabItem("settings", mapOf("en" to "Settings", "ru" to "Настройки")),
+                TabItem("vehicle", mapOf("en" to "Vehicle", "ru" to "Автомобиль")),
+            )
+
+        tabs = Tabs(context)
+        tabs.setTheme(Theme.FREE_DARK)
+        tabs.setLanguage(Language.EN)
+        tabs.setItems(items)
+        tabs.setSelectedValue("settings")
+        tabs.measure(
+            View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+            View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+        )
+        tabs.layout(0, 0, tabs.measuredWidth, tabs.measuredHeight)
+    }
+
+    @Test
+    fun testLayoutMatchesView() {
+        val viewBitmap = Bitmap.createBitmap(tabs.measuredWidth, tabs.measuredHeight, Bitmap.Config.ARGB_8888)
+        tabs.draw(android.graphics.Canvas(viewBitmap))
+        val viewLayout = tabs.getLabelLayout()
+        assertNotNull("View should have a layout after drawing", viewLayout)
+
+        val canvasLayout = TabsRenderer(context).createLayout(context, items, Language.EN)
+
+        assertArrayEquals(viewLayout!!.texts, canvasLayout.texts)
+        assertArrayEquals(viewLayout.textX, canvasLayout.textX, 0f)
+        assertEquals(TabsGeometry.getTotalHeight(items.size), tabs.measuredHeight)
+    }
+
+    @Test
+    fun testHitTestMatchesGeometry() {
+        for (i in items.indices) {
+            val centerY = TabsGeometry.getItemTop(i) + TabsTheme.TAB_ITEM_HEIGHT / 2f
+            assertEquals(i, TabsGeometry.getItemIndexAt(centerY, items.size))
+        }
+    }
+
+    @Test
+    fun testLabelOnlyChangeIsLaidOutAgain() {
+        val relabelled =
+            listOf(
+                TabItem("store", mapOf("en" to "Shop", "ru" to "Магазин")),
+                items[1],
+                items[2],
+            )
+
+        // Equal lists are one key; a new label is a new key despite equal values
+        assertEquals(ItemsContent(items), ItemsContent(items.toList()))
+        assertNotEquals(ItemsContent(items), ItemsContent(relabelled))
+
+        val layout = TabsRenderer(context).createLayout(context, relabelled, Language.EN)
+        assertEquals("Shop", layout.texts[0])
+    }
+
+    @Test
+    fun testEqualItemsKeepRunningAnimation() {
+        val scope = TestScope()
+        val state = TabsCanvasState(0)
+        state.sync(scope, ItemsContent(items), 0)
+
+        // A tap starts the animation from the first item
+        state.sync(scope, ItemsContent(items), 2)
+        assertEquals(2, state.drawnIndex)
+        assertEquals(TabsGeometry.getItemTop(0), state.y, 0f)
+
+        // A recomposition with an equal, newly built list must not snap
+        state.sync(scope, ItemsContent(items.toList()), 2)
+        assertEquals(TabsGeometry.getItemTop(0), state.y, 0f)
+
+        scope.cancel()
+    }
+
+    @Test
+    fun testPixelsMatchView() {
+        val renderer = TabsRenderer(context)
+        val layout = renderer.createLayout(context, items, Language.EN)
+        val width = tabs.measuredWidth
+        val height = tabs.measuredHeight
+
+        val viewBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888)
+        tabs.draw(android.graphics.Canvas(viewBitmap))
+
+        val composeBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888)
+        val composeCanvas = Canvas(android.graphics.Canvas(composeBitmap))
+        CanvasDrawScope().draw(
+            Density(1f),
+            LayoutDirection.Ltr,
+            composeCanvas,
+            Size(width.toFloat(), height.toFloat()),
+        ) {
+            renderer.draw(this, layout, Theme.FREE_DARK, 1, TabsGeometry.getItemTop(1))
+        }
+
+        assertEquals("Pixels differing from the View", 0, countDifferentPixels(viewBitmap, composeBitmap))
+    }
+}
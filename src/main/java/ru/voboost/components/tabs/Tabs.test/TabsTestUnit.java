@@ -3,10 +3,15 @@ package ru.voboost.components.tabs;
 import static org.junit.Assert.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import android.graphics.Rect;
+import android.view.MotionEvent;
+import android.view.View;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -14,6 +19,7 @@ import org.robolectric.RobolectricTestRunner;
 import org.robolectric.RuntimeEnvironment;
 
 import ru.voboost.components.i18n.Language;
+import ru.voboost.components.testing.DrawingTests.ClippedCanvas;
 import ru.voboost.components.theme.Theme;
 
 /**
@@ -123,6 +129,200 @@ public class TabsTestUnit {
         assertEquals("nonexistent", tabs.getSelectedValue());
     }
 
+    @Test
+    public void testItemScriptClassification() {
+        TabItem store = testItems.get(0);
+
+        assertTrue(store.isAsciiOnly("en"));
+        assertFalse(store.isAsciiOnly("ru"));
+        // Missing language falls back to the value, which is ASCII
+        assertTrue(store.isAsciiOnly("de"));
+    }
+
+    @Test
+    public void testOnlyVisibleItemsAreDrawn() {
+        List<TabItem> manyItems = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Map<String, String> labels = new HashMap<>();
+            labels.put("en", "Item " + i);
+            manyItems.add(new TabItem("item" + i, labels));
+        }
+
+        tabs.setTheme(Theme.FREE_LIGHT);
+        tabs.setLanguage(Language.EN);
+        tabs.setItems(manyItems);
+        tabs.measure(
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
+        tabs.layout(0, 0, tabs.getMeasuredWidth(), tabs.getMeasuredHeight());
+
+        // Items are 100px high on a 140px pitch: y 150..430 touches items 1, 2 and 3
+        ClippedCanvas canvas = new ClippedCanvas(new Rect(0, 150, 300, 430));
+        tabs.draw(canvas);
+
+        assertEquals(Arrays.asList("Item 1", "Item 2", "Item 3"), canvas.drawnTexts);
+    }
+
+    @Test
+    public void testLabelGeometryRebuiltOnlyWhenContentChanges() {
+        tabs.setTheme(Theme.FREE_LIGHT);
+        tabs.setLanguage(Language.EN);
+        tabs.setItems(testItems);
+        tabs.setSelectedValue("store");
+        tabs.measure(
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
+        tabs.layout(0, 0, tabs.getMeasuredWidth(), tabs.getMeasuredHeight());
+        Rect all = new Rect(0, 0, tabs.getWidth(), tabs.getHeight());
+
+        tabs.draw(new ClippedCanvas(all));
+        TabsLayout first = tabs.getLabelLayout();
+        assertNotNull("Geometry should be built on first draw", first);
+        assertEquals("Settings", first.texts[1]);
+
+        // Selection and theme changes reuse the table
+        tabs.setSelectedValue("vehicle");
+        tabs.setTheme(Theme.DREAMER_DARK);
+        tabs.draw(new ClippedCanvas(all));
+        assertSame("Redraw should not rebuild the table", first, tabs.getLabelLayout());
+
+        // Language change rebuilds it
+        tabs.setLanguage(Language.RU);
+        tabs.draw(new ClippedCanvas(all));
+        assertNotSame(first, tabs.getLabelLayout());
+        assertEquals("Настройки", tabs.getLabelLayout().texts[1]);
+    }
+
+    @Test
+    public void testEquivalentItemsAreIgnored() {
+        tabs.setTheme(Theme.FREE_LIGHT);
+        tabs.setLanguage(Language.EN);
+        tabs.setItems(testItems);
+        tabs.setSelectedValue("store");
+        tabs.measure(
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED));
+        tabs.layout(0, 0, tabs.getMeasuredWidth(), tabs.getMeasuredHeight());
+        Rect all = new Rect(0, 0, tabs.getWidth(), tabs.getHeight());
+        tabs.draw(new ClippedCanvas(all));
+        TabsLayout first = tabs.getLabelLayout();
+
+        // A copy with the same content changes nothing
+        tabs.setItems(new ArrayList<>(testItems));
+        assertFalse("Equal items should not request layout", tabs.isLayoutRequested());
+        tabs.draw(new ClippedCanvas(all));
+        assertSame("Equal items should keep the table", first, tabs.getLabelLayout());
+
+        // A relabelled item rebuilds the table, keeping the other labels
+        List<TabItem> relabelled = new ArrayList<>(testItems);
+        Map<String, String> labels = new HashMap<>();
+        labels.put("en", "Shop");
+        relabelled.set(0, new TabItem("store", labels));
+        tabs.setItems(relabelled);
+        assertFalse("Same item count should not request layout", tabs.isLayoutRequested());
+        tabs.draw(new ClippedCanvas(all));
+        assertEquals("Shop", tabs.getLabelLayout().texts[0]);
+        assertEquals(first.textX[1], tabs.getLabelLayout().textX[1], 0f);
+        assertEquals("store", tabs.getSelectedValue());
+    }
+
+    @Test
+    public void testHitTestUsesItemPitch() {
+        tabs.setItems(testItems);
+        tabs.setSelectedValue("store");
+
+        // Spacing between the first and second item (y 100..140) is not a tab
+        assertFalse(tabs.onTouchEvent(obtainDown(120f)));
+        assertEquals("store", tabs.getSelectedValue());
+
+        assertTrue(tap(150f));
+        assertEquals("settings", tabs.getSelectedValue());
+
+        assertTrue(tap(380f));
+        assertEquals("vehicle", tabs.getSelectedValue());
+
+        // Below the last item
+        assertFalse(tabs.onTouchEvent(obtainDown(1000f)));
+        assertEquals("vehicle", tabs.getSelectedValue());
+    }
+
+    @Test
+    public void testScrollsItselfWithinViewport() {
+        List<TabItem> manyItems = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Map<String, String> labels = new HashMap<>();
+            labels.put("en", "Item " + i);
+            manyItems.add(new TabItem("item" + i, labels));
+        }
+        tabs.setItems(manyItems);
+        tabs.setSelectedValue("item0");
+
+        // A bounded parent gets a viewport-sized view, not the full content height
+        tabs.measure(
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+                View.MeasureSpec.makeMeasureSpec(600, View.MeasureSpec.EXACTLY));
+        tabs.layout(0, 0, tabs.getMeasuredWidth(), 600);
+        assertEquals(600, tabs.getHeight());
+        assertEquals(tabs.getContentHeight() - 600, tabs.getMaxScrollY());
+
+        // Scrolling is clamped to the content
+        tabs.scrollTo(0, -50);
+        assertEquals(0, tabs.getScrollY());
+        tabs.scrollTo(0, Integer.MAX_VALUE);
+        assertEquals(tabs.getMaxScrollY(), tabs.getScrollY());
+
+        // Touches are hit-tested in content coordinates
+        tabs.scrollTo(0, 1400);
+        assertTrue(tap(10f));
+        assertEquals("item10", tabs.getSelectedValue());
+    }
+
+    @Test
+    public void testSelectsOnUpAndNotAfterDrag() {
+        List<TabItem> manyItems = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Map<String, String> labels = new HashMap<>();
+            labels.put("en", "Item " + i);
+            manyItems.add(new TabItem("item" + i, labels));
+        }
+        tabs.setItems(manyItems);
+        tabs.setSelectedValue("item0");
+        tabs.measure(
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+                View.MeasureSpec.makeMeasureSpec(600, View.MeasureSpec.EXACTLY));
+        tabs.layout(0, 0, tabs.getMeasuredWidth(), 600);
+
+        // Finger-down alone does not switch the tab
+        assertTrue(tabs.onTouchEvent(obtainDown(150f)));
+        assertEquals("item0", tabs.getSelectedValue());
+
+        // A drag that started on a tab scrolls and keeps the selection
+        assertTrue(tabs.onTouchEvent(obtain(MotionEvent.ACTION_MOVE, 50f)));
+        assertTrue(tabs.getScrollY() > 0);
+        assertTrue(tabs.onTouchEvent(obtain(MotionEvent.ACTION_UP, 50f)));
+        assertEquals("item0", tabs.getSelectedValue());
+
+        // A tap without movement selects on ACTION_UP
+        tabs.scrollTo(0, 0);
+        assertTrue(tabs.onTouchEvent(obtainDown(150f)));
+        assertTrue(tabs.onTouchEvent(obtain(MotionEvent.ACTION_UP, 150f)));
+        assertEquals("item1", tabs.getSelectedValue());
+    }
+
+    private boolean tap(float y) {
+        boolean handled = tabs.onTouchEvent(obtainDown(y));
+        tabs.onTouchEvent(obtain(MotionEvent.ACTION_UP, y));
+        return handled;
+    }
+
+    private static MotionEvent obtainDown(float y) {
+        return obtain(MotionEvent.ACTION_DOWN, y);
+    }
+
+    private static MotionEvent obtain(int action, float y) {
+        return MotionEvent.obtain(0, 0, action, 100f, y, 0);
+    }
+
     @Test
     public void testNullItems() {
         tabs.setItems(null);
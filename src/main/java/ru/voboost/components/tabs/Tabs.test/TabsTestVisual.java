@@ -301,17 +301,13 @@ public class TabsTestVisual {
 
         // Use reflection to access animation fields and set progress
         try {
-            // Get the animatedY and itemPositions fields
+            // Get the animatedY and items fields
             Field animatedYField = Tabs.class.getDeclaredField("animatedY");
-            Field itemPositionsField = Tabs.class.getDeclaredField("itemPositions");
             Field itemsField = Tabs.class.getDeclaredField("items");
 
             animatedYField.setAccessible(true);
-            itemPositionsField.setAccessible(true);
             itemsField.setAccessible(true);
 
-            @SuppressWarnings("unchecked")
-            List<Float> itemPositions = (List<Float>) itemPositionsField.get(tabs);
             @SuppressWarnings("unchecked")
             List<TabItem> items = (List<TabItem>) itemsField.get(tabs);
 
@@ -324,8 +320,8 @@ public class TabsTestVisual {
             }
 
             if (fromIndex >= 0 && toIndex >= 0) {
-                float startY = itemPositions.get(fromIndex);
-                float endY = itemPositions.get(toIndex);
+                float startY = tabs.getItemTop(fromIndex);
+                float endY = tabs.getItemTop(toIndex);
 
                 // Apply overshoot interpolation manually (matches OvershootInterpolator with
                 // tension=1.0f)
@@ -0,0 +1,270 @@
+package ru.voboost.components.tabs
+
+import android.content.Context
+import android.graphics.Paint
+import android.text.TextPaint
+import androidx.compose.foundation.Canvas
+import androidx.compose.foundation.gestures.detectTapGestures
+import androidx.compose.foundation.layout.requiredSize
+import androidx.compose.runtime.Composable
+import androidx.compose.runtime.SideEffect
+import androidx.compose.runtime.getValue
+import androidx.compose.runtime.mutableFloatStateOf
+import androidx.compose.runtime.mutableIntStateOf
+import androidx.compose.runtime.remember
+import androidx.compose.runtime.rememberCoroutineScope
+import androidx.compose.runtime.rememberUpdatedState
+import androidx.compose.runtime.setValue
+import androidx.compose.runtime.withFrameNanos
+import androidx.compose.ui.Modifier
+import androidx.compose.ui.geometry.CornerRadius
+import androidx.compose.ui.geometry.Offset
+import androidx.compose.ui.geometry.Size
+import androidx.compose.ui.graphics.Color
+import androidx.compose.ui.graphics.drawscope.DrawScope
+import androidx.compose.ui.graphics.drawscope.drawIntoCanvas
+import androidx.compose.ui.graphics.nativeCanvas
+import androidx.compose.ui.input.pointer.pointerInput
+import androidx.compose.ui.platform.LocalContext
+import androidx.compose.ui.platform.LocalDensity
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.launch
+import ru.voboost.components.animation.Spring
+import ru.voboost.components.font.Font
+import ru.voboost.components.i18n.Language
+import ru.voboost.components.theme.Theme
+
+/**
+ * Compose-native Tabs: draws with [Canvas] and animates with Compose state instead of
+ * wrapping the View in `AndroidView`.
+ *
+ * Items are laid out by the same [TabsLayout] / [TabsGeometry] as the View, the
+ * indicator is driven by the same [Spring], and labels are drawn with the same
+ * [TextPaint]s, so pixels match the View version. The indicator moves in the draw
+ * phase only: an animation frame neither recomposes nor re-measures.
+ *
+ * Parameters and behavior are the same as the [Tabs] wrapper: selection changes
+ * animate, the first selection and a new item list snap. Item lists are compared by
+ * value and label, so an equal list built on every recomposition keeps the label
+ * table and a running animation, and a relabelled list is laid out again.
+ *
+ * @param items List of TabItem objects representing the tabs
+ * @param lang Language enum value for localization
+ * @param theme Theme enum value
+ * @param value Currently selected tab value
+ * @param onValueChange Callback when tab selection changes
+ * @param modifier Modifier for the sidebar
+ */
+@Composable
+fun TabsCanvas(
+    items: List<TabItem>,
+    lang: Language,
+    theme: Theme,
+    value: String,
+    onValueChange: (String) -> Unit,
+    modifier: Modifier = Modifier,
+) {
+    val context = LocalContext.current
+    val currentOnValueChange by rememberUpdatedState(onValueChange)
+    val scope = rememberCoroutineScope()
+    val renderer = remember { TabsRenderer(context) }
+    val content = ItemsContent(items)
+    val layout = remember(content, lang) { renderer.createLayout(context, items, lang) }
+    val selectedIndex = indexOfValue(items, value)
+    val state = remember { TabsCanvasState(selectedIndex) }
+
+    // Applied before this frame is drawn, so the indicator never shows a stale frame
+    SideEffect {
+        state.sync(scope, content, selectedIndex)
+    }
+
+    val density = LocalDensity.current
+
+    Canvas(
+        modifier =
+            modifier
+                .requiredSize(
+                    with(density) { TabsTheme.SIDEBAR_WIDTH.toDp() },
+                    with(density) { TabsGeometry.getTotalHeight(items.size).toDp() },
+                ).pointerInput(content) {
+                    detectTapGestures(
+                        onPress = { offset ->
+                            val index = TabsGeometry.getItemIndexAt(offset.y, items.size)
+                            if (index >= 0 && index != state.drawnIndex) {
+                                state.animateTo(scope, index)
+                                currentOnValueChange(items[index].value)
+                            }
+                        },
+                    )
+                },
+    ) {
+        renderer.draw(this, layout, theme, state.drawnIndex, state.y)
+    }
+}
+
+/**
+ * Item list as a `remember` key, compared by value and label ([isSameItems]) instead of
+ * [TabItem.equals], which compares values only.
+ */
+internal class ItemsContent(
+    val items: List<TabItem>,
+) {
+    override fun equals(other: Any?): Boolean = other is ItemsContent && isSameItems(items, other.items)
+
+    override fun hashCode(): Int = items.size
+}
+
+/**
+ * Selection indicator state of a [TabsCanvas].
+ */
+internal class TabsCanvasState(
+    initialIndex: Int,
+) {
+    private val ySpring =
+        Spring.fromOvershoot(TabsTheme.OVERSHOOT_TENSION, TabsTheme.ANIMATION_DURATION.toLong())
+
+    // Read in the draw phase only, so frames invalidate the canvas without recomposing
+    var y by mutableFloatStateOf(if (initialIndex >= 0) TabsGeometry.getItemTop(initialIndex) else 0f)
+        private set
+    var drawnIndex by mutableIntStateOf(initialIndex)
+        private set
+
+    private var content: ItemsContent? = null
+    private var animationJob: Job? = null
+
+    /**
+     * Snaps for a new item list, animates for a new selection (like Tabs.setSelectedValue).
+     */
+    fun sync(
+        scope: CoroutineScope,
+        content: ItemsContent,
+        index: Int,
+    ) {
+        if (content != this.content) {
+            // New items reset the indicator, like Tabs.setItems
+            this.content = content
+            animationJob?.cancel()
+            animationJob = null
+            ySpring.cancel()
+            drawnIndex = index
+            if (index >= 0) {
+                y = TabsGeometry.getItemTop(index)
+            }
+        } else if (index != drawnIndex && index >= 0) {
+            animateTo(scope, index)
+        } else if (index < 0) {
+            drawnIndex = index
+        }
+    }
+
+    /**
+     * Animates the indicator to the index, retargeting a running animation.
+     */
+    fun animateTo(
+        scope: CoroutineScope,
+        index: Int,
+    ) {
+        // A resting spring starts from the drawn position; a moving one keeps its velocity
+        if (!ySpring.isRunning) {
+            ySpring.snapTo(y)
+        }
+        ySpring.animateTo(TabsGeometry.getItemTop(index))
+        drawnIndex = index
+
+        animationJob?.cancel()
+        animationJob =
+            scope.launch {
+                var isRunning = true
+                while (isRunning) {
+                    isRunning =
+                        withFrameNanos { frameTimeNanos ->
+                            val isStillRunning = ySpring.step(frameTimeNanos)
+                            y = ySpring.value
+                            isStillRunning
+                        }
+                }
+            }
+    }
+}
+
+/**
+ * Draws Tabs into a [DrawScope] with the same geometry, paints and colors as the View.
+ */
+internal class TabsRenderer(
+    context: Context,
+) {
+    // All tabs use bold font to match the View
+    private val selectedTextPaint = createTextPaint(context)
+    private val unselectedTextPaint = createTextPaint(context)
+
+    fun createLayout(
+        context: Context,
+        items: List<TabItem>,
+        lang: Language,
+    ): TabsLayout = TabsLayout.create(context, items, lang, selectedTextPaint)
+
+    /**
+     * Draws the sidebar background, the selection indicator and the labels.
+     *
+     * @param selectedIndex selected item, -1 for none
+     * @param y indicator top
+     */
+    fun draw(
+        scope: DrawScope,
+        layout: TabsLayout,
+        theme: Theme,
+        selectedIndex: Int,
+        y: Float,
+    ) {
+        val count = layout.texts.size
+        if (count == 0) {
+            return
+        }
+
+        // Sidebar background
+        scope.drawRect(color = Color(TabsTheme.getSidebarBackground(theme)), size = scope.size)
+
+        // Selection indicator
+        if (selectedIndex >= 0) {
+            scope.drawRoundRect(
+                color = Color(TabsTheme.getSelectedBackground(theme)),
+                topLeft = Offset(TabsGeometry.ITEM_LEFT, y),
+                size = Size(TabsGeometry.ITEM_RIGHT - TabsGeometry.ITEM_LEFT, TabsTheme.TAB_ITEM_HEIGHT.toFloat()),
+                cornerRadius = CornerRadius(TabsTheme.CORNER_RADIUS.toFloat()),
+            )
+        }
+
+        // Labels
+        selectedTextPaint.color = TabsTheme.getSelectedTextColor(theme)
+        unselectedTextPaint.color = TabsTheme.getUnselectedTextColor(theme)
+        scope.drawIntoCanvas { canvas ->
+            for (i in 0 until count) {
+                val textPaint = if (i == selectedIndex) selectedTextPaint else unselectedTextPaint
+                textPaint.typeface = layout.typefaces[i]
+                canvas.nativeCanvas.drawText(
+                    layout.texts[i],
+                    layout.textX[i],
+                    TabsGeometry.getItemTop(i) + TabsGeometry.BASELINE_OFFSET,
+                    textPaint,
+                )
+            }
+        }
+    }
+
+    private fun createTextPaint(context: Context): TextPaint =
+        TextPaint(Paint.ANTI_ALIAS_FLAG).apply {
+            textSize = TabsTheme.TEXT_SIZE.toFloat()
+            typeface = Font.getBold(context, "")
+        }
+}
+
+private fun indexOfValue(
+    items: List<TabItem>,
+    value: String,
+): Int {
+    for (i in items.indices) {
+        if (items[i].value == value) return i
+    }
+    return -1
+}
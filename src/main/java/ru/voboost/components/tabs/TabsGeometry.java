@@ -0,0 +1,120 @@
+package ru.voboost.components.tabs;
+
+/**
+ * Platform-independent geometry of the Tabs sidebar: item positions on the
+ * fixed item pitch, hit testing and the visible index range.
+ *
+ * <p>
+ * Contains no Android types, so the View ({@link Tabs}) and the Compose
+ * implementation ({@code TabsCanvas}) compute identical positions.
+ */
+final class TabsGeometry {
+    /** Distance between the tops of two neighbouring items. */
+    static final int ITEM_PITCH = TabsTheme.TAB_ITEM_HEIGHT + TabsTheme.TAB_ITEM_SPACING;
+
+    /** Left edge of the items and the selection indicator. */
+    static final float ITEM_LEFT = TabsTheme.SIDEBAR_PADDING_LEFT;
+
+    /** Right edge of the items and the selection indicator. */
+    static final float ITEM_RIGHT = TabsTheme.SIDEBAR_PADDING_LEFT + TabsTheme.TAB_ITEM_WIDTH;
+
+    /** Baseline of a label relative to its item top, with the visual alignment offset. */
+    static final float BASELINE_OFFSET =
+            (TabsTheme.TAB_ITEM_HEIGHT + TabsTheme.TEXT_SIZE) / 2f - 6f;
+
+    private TabsGeometry() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Returns the top y of the item at the given index.
+     *
+     * @param index item index
+     * @return item top in pixels
+     */
+    static float getItemTop(int index) {
+        return index * (float) ITEM_PITCH;
+    }
+
+    /**
+     * Returns the natural height of the sidebar.
+     *
+     * @param count number of items
+     * @return height in pixels
+     */
+    static int getTotalHeight(int count) {
+        if (count == 0) {
+            return 0;
+        }
+
+        return count * TabsTheme.TAB_ITEM_HEIGHT
+                + (count - 1) * TabsTheme.TAB_ITEM_SPACING
+                + TabsTheme.SIDEBAR_PADDING_BOTTOM;
+    }
+
+    /**
+     * Returns the left x of a label centered in its item.
+     *
+     * @param textWidth measured label width
+     * @return label x in pixels
+     */
+    static float getTextX(float textWidth) {
+        // Float-precision horizontal centering in the tab item
+        return TabsTheme.SIDEBAR_PADDING_LEFT + (TabsTheme.TAB_ITEM_WIDTH - textWidth) / 2f;
+    }
+
+    /**
+     * Returns the item under the given y coordinate.
+     *
+     * @param y     y coordinate in the sidebar
+     * @param count number of items
+     * @return item index, or -1 if no item is hit
+     */
+    static int getItemIndexAt(float y, int count) {
+        if (y < 0) {
+            return -1;
+        }
+
+        // Items sit on a fixed pitch, so the index is a single division
+        int index = (int) (y / ITEM_PITCH);
+        if (index >= count || y - index * ITEM_PITCH > TabsTheme.TAB_ITEM_HEIGHT) {
+            // Past the last item or in the spacing between two items
+            return -1;
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns the first item whose bottom edge is below the given y.
+     *
+     * @param top top of the visible area
+     * @return first visible index
+     */
+    static int getFirstIndexBelow(int top) {
+        if (top <= 0) {
+            return 0;
+        }
+
+        // Item i ends at i * pitch + height; it is visible when that is > top
+        int index = (int) Math.floor((top - TabsTheme.TAB_ITEM_HEIGHT) / (double) ITEM_PITCH) + 1;
+        return Math.max(0, index);
+    }
+
+    /**
+     * Returns the last item whose top edge is above the given y.
+     *
+     * @param bottom bottom of the visible area
+     * @param count  number of items
+     * @return last visible index, or -1 if none
+     */
+    static int getLastIndexAbove(int bottom, int count) {
+        if (bottom <= 0) {
+            return -1;
+        }
+
+        // Item i starts at i * pitch; it is visible when that is < bottom
+        int index = (int) Math.ceil(bottom / (double) ITEM_PITCH) - 1;
+        return Math.min(count - 1, index);
+    }
+}
@@ -0,0 +1,137 @@
+package ru.voboost.components.tabs;
+
+import java.util.HashMap;
+import java.util.List;
+
+import android.content.Context;
+import android.graphics.Paint;
+import android.graphics.Typeface;
+
+import androidx.annotation.Nullable;
+
+import ru.voboost.components.font.Font;
+import ru.voboost.components.i18n.Language;
+
+/**
+ * Precomputed label geometry of Tabs for one (items, language) pair.
+ *
+ * <p>
+ * Holds the resolved label strings, their bold typefaces and centered x
+ * offsets in primitive arrays, so that drawing only reads this table. Item tops
+ * follow from the fixed item pitch and are not stored. A new table is built
+ * only when the items or the language change, and items whose value and
+ * label are unchanged are copied from the previous table instead of measured.
+ */
+final class TabsLayout {
+    /** Items this table was built for (compared by identity). */
+    final List<TabItem> items;
+
+    /** Language this table was built for. */
+    final Language language;
+
+    /** Resolved label text per item. */
+    final String[] texts;
+
+    /** Bold typeface per item (ASCII or Unicode variant of the label). */
+    final Typeface[] typefaces;
+
+    /** Left x of each label, centered in the tab item. */
+    final float[] textX;
+
+    private TabsLayout(
+            List<TabItem> items,
+            Language language,
+            String[] texts,
+            Typeface[] typefaces,
+            float[] textX) {
+        this.items = items;
+        this.language = language;
+        this.texts = texts;
+        this.typefaces = typefaces;
+        this.textX = textX;
+    }
+
+    /**
+     * Checks whether this table is still valid for the given content.
+     *
+     * @param items    current item list
+     * @param language current language
+     * @return true if the table was built for exactly this list and language
+     */
+    boolean isFor(List<TabItem> items, Language language) {
+        return this.items == items && this.language == language;
+    }
+
+    /**
+     * Measures all labels and builds the geometry table.
+     *
+     * @param context      context used to resolve typefaces
+     * @param items        item list
+     * @param language     language to resolve labels for
+     * @param measurePaint paint configured with the label text size (its
+     *                     typeface is changed while measuring)
+     * @return the new geometry table
+     */
+    static TabsLayout create(
+            Context context, List<TabItem> items, Language language, Paint measurePaint) {
+        return create(context, items, language, measurePaint, null);
+    }
+
+    /**
+     * Builds the geometry table, measuring only items that are not in the
+     * previous table with the same value, label and language.
+     *
+     * @param context      context used to resolve typefaces
+     * @param items        item list
+     * @param language     language to resolve labels for
+     * @param measurePaint paint configured with the label text size (its
+     *                     typeface is changed while measuring)
+     * @param previous     table to copy unchanged items from, may be null
+     * @return the new geometry table
+     */
+    static TabsLayout create(
+            Context context,
+            List<TabItem> items,
+            Language language,
+            Paint measurePaint,
+            @Nullable TabsLayout previous) {
+        int count = items.size();
+
+        String[] texts = new String[count];
+        Typeface[] typefaces = new Typeface[count];
+        float[] textX = new float[count];
+
+        // Previous rows by value; a language change invalidates all of them
+        HashMap<String, Integer> previousIndex = null;
+        if (previous != null && previous.language == language) {
+            previousIndex = new HashMap<>(previous.items.size() * 2);
+            for (int i = 0; i < previous.items.size(); i++) {
+                previousIndex.put(previous.items.get(i).getValue(), i);
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            TabItem item = items.get(i);
+
+            Integer reused = previousIndex != null ? previousIndex.get(item.getValue()) : null;
+            if (reused != null && item.hasSameContent(previous.items.get(reused))) {
+                texts[i] = previous.texts[reused];
+                typefaces[i] = previous.typefaces[reused];
+                textX[i] = previous.textX[reused];
+                continue;
+            }
+
+            String text = item.getText(language);
+            Typeface typeface = Font.getBold(context, item.isAsciiOnly(language));
+
+            measurePaint.setTypeface(typeface);
+            float textWidth = measurePaint.measureText(text);
+
+            texts[i] = text;
+            typefaces[i] = typeface;
+            textX[i] = TabsGeometry.getTextX(textWidth);
+        }
+
+        return new TabsLayout(items, language, texts, typefaces, textX);
+    }
+}
@@ -2,6 +2,7 @@ package ru.voboost.components.tabs;
 
 import android.graphics.Color;
 
+import ru.voboost.components.theme.Palette;
 import ru.voboost.components.theme.Theme;
 
 /**
@@ -56,21 +57,24 @@ public final class TabsTheme {
     /** Animation duration in milliseconds */
     public static final int ANIMATION_DURATION = 400;
 
+    /** Overshoot tension of the selection indicator animation */
+    public static final float OVERSHOOT_TENSION = 1.0f;
+
     // ============================================================
     // COLORS - FREE LIGHT THEME
     // ============================================================
 
     /** Background color for the sidebar - Free Light */
-    public static final int FREE_LIGHT_SIDEBAR_BACKGROUND = Color.parseColor("#f1f5fb");
+    public static final int FREE_LIGHT_SIDEBAR_BACKGROUND = 0xfff1f5fb;
 
     /** Background color for selected tab indicator - Free Light */
-    public static final int FREE_LIGHT_SELECTED_BACKGROUND = Color.parseColor("#ffffff");
+    public static final int FREE_LIGHT_SELECTED_BACKGROUND = 0xffffffff;
 
     /** Text color for selected tab - Free Light */
-    public static final int FREE_LIGHT_SELECTED_TEXT = Color.parseColor("#1a1a1a");
+    public static final int FREE_LIGHT_SELECTED_TEXT = 0xff1a1a1a;
 
     /** Text color for unselected tab - Free Light */
-    public static final int FREE_LIGHT_UNSELECTED_TEXT = Color.parseColor("#666666");
+    public static final int FREE_LIGHT_UNSELECTED_TEXT = 0xff666666;
 
     // ============================================================
     // COLORS - FREE DARK THEME
@@ -80,45 +84,74 @@ public final class TabsTheme {
     public static final int FREE_DARK_SIDEBAR_BACKGROUND = Color.TRANSPARENT;
 
     /** Background color for selected tab indicator - Free Dark */
-    public static final int FREE_DARK_SELECTED_BACKGROUND = Color.parseColor("#23272f");
+    public static final int FREE_DARK_SELECTED_BACKGROUND = 0xff23272f;
 
     /** Text color for selected tab - Free Dark */
-    public static final int FREE_DARK_SELECTED_TEXT = Color.parseColor("#47b4ff");
+    public static final int FREE_DARK_SELECTED_TEXT = 0xff47b4ff;
 
     /** Text color for unselected tab - Free Dark */
-    public static final int FREE_DARK_UNSELECTED_TEXT = Color.parseColor("#CACACA");
+    public static final int FREE_DARK_UNSELECTED_TEXT = 0xffcacaca;
 
     // ============================================================
     // COLORS - DREAMER LIGHT THEME
     // ============================================================
 
     /** Background color for the sidebar - Dreamer Light */
-    public static final int DREAMER_LIGHT_SIDEBAR_BACKGROUND = Color.parseColor("#f5f5f5");
+    public static final int DREAMER_LIGHT_SIDEBAR_BACKGROUND = 0xfff5f5f5;
 
     /** Background color for selected tab indicator - Dreamer Light */
-    public static final int DREAMER_LIGHT_SELECTED_BACKGROUND = Color.parseColor("#ffffff");
+    public static final int DREAMER_LIGHT_SELECTED_BACKGROUND = 0xffffffff;
 
     /** Text color for selected tab - Dreamer Light */
-    public static final int DREAMER_LIGHT_SELECTED_TEXT = Color.parseColor("#1a1a1a");
+    public static final int DREAMER_LIGHT_SELECTED_TEXT = 0xff1a1a1a;
 
     /** Text color for unselected tab - Dreamer Light */
-    public static final int DREAMER_LIGHT_UNSELECTED_TEXT = Color.parseColor("#666666");
+    public static final int DREAMER_LIGHT_UNSELECTED_TEXT = 0xff666666;
 
     // ============================================================
     // COLORS - DREAMER DARK THEME
     // ============================================================
 
     /** Background color for the sidebar - Dreamer Dark */
-    public static final int DREAMER_DARK_SIDEBAR_BACKGROUND = Color.parseColor("#0a0a0a");
+    public static final int DREAMER_DARK_SIDEBAR_BACKGROUND = 0xff0a0a0a;
 
     /** Background color for selected tab indicator - Dreamer Dark */
-    public static final int DREAMER_DARK_SELECTED_BACKGROUND = Color.parseColor("#2a2a2a");
+    public static final int DREAMER_DARK_SELECTED_BACKGROUND = 0xff2a2a2a;
 
     /** Text color for selected tab - Dreamer Dark */
-    public static final int DREAMER_DARK_SELECTED_TEXT = Color.parseColor("#ffffff");
+    public static final int DREAMER_DARK_SELECTED_TEXT = 0xffffffff;
 
     /** Text color for unselected tab - Dreamer Dark */
-    public static final int DREAMER_DARK_UNSELECTED_TEXT = Color.parseColor("#888888");
+    public static final int DREAMER_DARK_UNSELECTED_TEXT = 0xff888888;
+
+    // ============================================================
+    // PALETTE (one row of tokens per theme, in Theme order)
+    // ============================================================
+
+    private static final int SIDEBAR_BACKGROUND = 0;
+    private static final int SELECTED_BACKGROUND = 1;
+    private static final int SELECTED_TEXT = 2;
+    private static final int UNSELECTED_TEXT = 3;
+    private static final int TOKEN_COUNT = 4;
+
+    private static final int[] COLORS = Palette.table(TOKEN_COUNT,
+            FREE_LIGHT_SIDEBAR_BACKGROUND,
+            FREE_LIGHT_SELECTED_BACKGROUND,
+            FREE_LIGHT_SELECTED_TEXT,
+            FREE_LIGHT_UNSELECTED_TEXT,
+            FREE_DARK_SIDEBAR_BACKGROUND,
+            FREE_DARK_SELECTED_BACKGROUND,
+            FREE_DARK_SELECTED_TEXT,
+            FREE_DARK_UNSELECTED_TEXT,
+            DREAMER_LIGHT_SIDEBAR_BACKGROUND,
+            DREAMER_LIGHT_SELECTED_BACKGROUND,
+            DREAMER_LIGHT_SELECTED_TEXT,
+            DREAMER_LIGHT_UNSELECTED_TEXT,
+            DREAMER_DARK_SIDEBAR_BACKGROUND,
+            DREAMER_DARK_SELECTED_BACKGROUND,
+            DREAMER_DARK_SELECTED_TEXT,
+            DREAMER_DARK_UNSELECTED_TEXT
+    );
 
     // ============================================================
     // COLOR GETTERS
@@ -131,18 +164,7 @@ public final class TabsTheme {
      * @return the sidebar background color
      */
     public static int getSidebarBackground(Theme theme) {
-        switch (theme) {
-            case FREE_LIGHT:
-                return FREE_LIGHT_SIDEBAR_BACKGROUND;
-            case FREE_DARK:
-                return FREE_DARK_SIDEBAR_BACKGROUND;
-            case DREAMER_LIGHT:
-                return DREAMER_LIGHT_SIDEBAR_BACKGROUND;
-            case DREAMER_DARK:
-                return DREAMER_DARK_SIDEBAR_BACKGROUND;
-            default:
-                return FREE_LIGHT_SIDEBAR_BACKGROUND;
-        }
+        return Palette.get(COLORS, TOKEN_COUNT, SIDEBAR_BACKGROUND, theme);
     }
 
     /**
@@ -152,18 +174,7 @@ public final class TabsTheme {
      * @return the selected tab background color
      */
     public static int getSelectedBackground(Theme theme) {
-        switch (theme) {
-            case FREE_LIGHT:
-                return FREE_LIGHT_SELECTED_BACKGROUND;
-            case FREE_DARK:
-                return FREE_DARK_SELECTED_BACKGROUND;
-            case DREAMER_LIGHT:
-                return DREAMER_LIGHT_SELECTED_BACKGROUND;
-            case DREAMER_DARK:
-                return DREAMER_DARK_SELECTED_BACKGROUND;
-            default:
-                return FREE_LIGHT_SELECTED_BACKGROUND;
-        }
+        return Palette.get(COLORS, TOKEN_COUNT, SELECTED_BACKGROUND, theme);
     }
 
     /**
@@ -173,18 +184,7 @@ public final class TabsTheme {
      * @return the selected tab text color
      */
     public static int getSelectedTextColor(Theme theme) {
-        switch (theme) {
-            case FREE_LIGHT:
-                return FREE_LIGHT_SELECTED_TEXT;
-            case FREE_DARK:
-                return FREE_DARK_SELECTED_TEXT;
-            case DREAMER_LIGHT:
-                return DREAMER_LIGHT_SELECTED_TEXT;
-            case DREAMER_DARK:
-                return DREAMER_DARK_SELECTED_TEXT;
-            default:
-                return FREE_LIGHT_SELECTED_TEXT;
-        }
+        return Palette.get(COLORS, TOKEN_COUNT, SELECTED_TEXT, theme);
     }
 
     /**
@@ -194,17 +194,6 @@ public final class TabsTheme {
      * @return the unselected tab text color
      */
     public static int getUnselectedTextColor(Theme theme) {
-        switch (theme) {
-            case FREE_LIGHT:
-                return FREE_LIGHT_UNSELECTED_TEXT;
-            case FREE_DARK:
-                return FREE_DARK_UNSELECTED_TEXT;
-            case DREAMER_LIGHT:
-                return DREAMER_LIGHT_UNSELECTED_TEXT;
-            case DREAMER_DARK:
-                return DREAMER_DARK_UNSELECTED_TEXT;
-            default:
-                return FREE_LIGHT_UNSELECTED_TEXT;
-        }
+        return Palette.get(COLORS, TOKEN_COUNT, UNSELECTED_TEXT, theme);
     }
 }
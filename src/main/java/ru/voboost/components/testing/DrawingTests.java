@@ -0,0 +1,81 @@
+package ru.voboost.components.testing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+
+/**
+ * Drawing helpers shared by the component unit tests.
+ *
+ * <p>
+ * Test-only: the {@code *Tests.java} name keeps it out of the library build,
+ * like the co-located test classes.
+ */
+public final class DrawingTests {
+
+    /** Per-channel difference allowed for rounding in antialiased edges. */
+    public static final int PIXEL_TOLERANCE = 2;
+
+    private DrawingTests() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Counts the pixels whose alpha, red, green or blue channel differs by more
+     * than {@link #PIXEL_TOLERANCE}. Both bitmaps must have the same size.
+     *
+     * @param expected the reference bitmap
+     * @param actual   the bitmap to compare
+     * @return number of differing pixels
+     */
+    public static int countDifferentPixels(Bitmap expected, Bitmap actual) {
+        if (expected.getWidth() != actual.getWidth()
+                || expected.getHeight() != actual.getHeight()) {
+            throw new IllegalArgumentException("Bitmaps differ in size");
+        }
+
+        int count = 0;
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                int a = expected.getPixel(x, y);
+                int b = actual.getPixel(x, y);
+                for (int shift = 0; shift <= 24; shift += 8) {
+                    int delta = ((a >> shift) & 0xFF) - ((b >> shift) & 0xFF);
+                    if (delta > PIXEL_TOLERANCE || delta < -PIXEL_TOLERANCE) {
+                        count++;
+                        break;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Canvas that reports a fixed clip and records the drawn texts, for
+     * checking which items a culled {@code onDraw} visits.
+     */
+    public static class ClippedCanvas extends Canvas {
+        public final List<String> drawnTexts = new ArrayList<>();
+        private final Rect clip;
+
+        public ClippedCanvas(Rect clip) {
+            this.clip = clip;
+        }
+
+        @Override
+        public boolean getClipBounds(Rect bounds) {
+            bounds.set(clip);
+            return true;
+        }
+
+        @Override
+        public void drawText(String text, float x, float y, Paint paint) {
+            drawnTexts.add(text);
+        }
+    }
+}
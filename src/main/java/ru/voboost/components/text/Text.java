@@ -14,6 +14,7 @@ import ru.voboost.components.i18n.ILocalizable;
 import ru.voboost.components.i18n.Language;
 import ru.voboost.components.theme.IThemable;
 import ru.voboost.components.theme.Theme;
+import ru.voboost.components.theme.ThemeTransaction;
 
 /**
  * Text component — simple themed text rendering with localization.
@@ -22,7 +23,8 @@ import ru.voboost.components.theme.Theme;
  * Extends AppCompatTextView for robust text measurement and rendering,
  * while integrating Voboost theme, language, and role-driven sizing.
  */
-public class Text extends AppCompatTextView implements IThemable, ILocalizable {
+public class Text extends AppCompatTextView
+        implements IThemable, ILocalizable, ThemeTransaction.Participant {
 
     private Map<Language, String> localizedText;
     private TextRole role = TextRole.CONTROL;
@@ -117,6 +119,19 @@ public class Text extends AppCompatTextView implements IThemable, ILocalizable {
         // Leaf component, no children
     }
 
+    @Override
+    public int applyTransaction(@Nullable Theme theme, @Nullable Language language) {
+        // TextView schedules its own redraw and layout in setTextColor/setText,
+        // so only skip the setters when the state is already current
+        if (theme != null && theme != this.theme) {
+            setTheme(theme);
+        }
+        if (language != null && language != this.language) {
+            setLanguage(language);
+        }
+        return 0;
+    }
+
     private void applyRole() {
         setTextSize(android.util.TypedValue.COMPLEX_UNIT_PX, role.getSizePx());
         updateTypeface();
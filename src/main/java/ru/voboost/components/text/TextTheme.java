@@ -1,7 +1,6 @@
 package ru.voboost.components.text;
 
-import android.graphics.Color;
-
+import ru.voboost.components.theme.Palette;
 import ru.voboost.components.theme.Theme;
 
 /**
@@ -11,20 +10,34 @@ import ru.voboost.components.theme.Theme;
 public class TextTheme {
 
     // Free Light Theme Colors
-    private static final int FREE_LIGHT_CONTROL = Color.parseColor("#1a1a1a");
-    private static final int FREE_LIGHT_TITLE = Color.parseColor("#000000");
+    private static final int FREE_LIGHT_CONTROL = 0xff1a1a1a;
+    private static final int FREE_LIGHT_TITLE = 0xff000000;
 
     // Free Dark Theme Colors
-    private static final int FREE_DARK_CONTROL = Color.parseColor("#ffffff");
-    private static final int FREE_DARK_TITLE = Color.parseColor("#f1f5fb");
+    private static final int FREE_DARK_CONTROL = 0xffffffff;
+    private static final int FREE_DARK_TITLE = 0xfff1f5fb;
 
     // Dreamer Light Theme Colors
-    private static final int DREAMER_LIGHT_CONTROL = Color.parseColor("#1a1a1a");
-    private static final int DREAMER_LIGHT_TITLE = Color.parseColor("#000000");
+    private static final int DREAMER_LIGHT_CONTROL = 0xff1a1a1a;
+    private static final int DREAMER_LIGHT_TITLE = 0xff000000;
 
     // Dreamer Dark Theme Colors
-    private static final int DREAMER_DARK_CONTROL = Color.parseColor("#ffffff");
-    private static final int DREAMER_DARK_TITLE = Color.parseColor("#f1f5fb");
+    private static final int DREAMER_DARK_CONTROL = 0xffffffff;
+    private static final int DREAMER_DARK_TITLE = 0xfff1f5fb;
+
+    // Palette: one row of role colors per theme, in Theme order (columns follow TextRole order)
+    private static final int ROLE_COUNT = TextRole.values().length;
+
+    private static final int[] COLORS = Palette.table(ROLE_COUNT,
+            FREE_LIGHT_CONTROL,
+            FREE_LIGHT_TITLE,
+            FREE_DARK_CONTROL,
+            FREE_DARK_TITLE,
+            DREAMER_LIGHT_CONTROL,
+            DREAMER_LIGHT_TITLE,
+            DREAMER_DARK_CONTROL,
+            DREAMER_DARK_TITLE
+    );
 
     /**
      * Get the color for a specific text role and theme.
@@ -38,73 +51,6 @@ public class TextTheme {
             return FREE_LIGHT_CONTROL; // Default fallback
         }
 
-        switch (theme) {
-            case FREE_LIGHT:
-                return getFreeLightColor(role);
-            case FREE_DARK:
-                return getFreeDarkColor(role);
-            case DREAMER_LIGHT:
-                return getDreamerLightColor(role);
-            case DREAMER_DARK:
-                return getDreamerDarkColor(role);
-            default:
-                return FREE_LIGHT_CONTROL; // Default fallback
-        }
-    }
-
-    /**
-     * Get color for Free Light theme.
-     */
-    private static int getFreeLightColor(TextRole role) {
-        switch (role) {
-            case CONTROL:
-                return FREE_LIGHT_CONTROL;
-            case TITLE:
-                return FREE_LIGHT_TITLE;
-            default:
-                return FREE_LIGHT_CONTROL;
-        }
-    }
-
-    /**
-     * Get color for Free Dark theme.
-     */
-    private static int getFreeDarkColor(TextRole role) {
-        switch (role) {
-            case CONTROL:
-                return FREE_DARK_CONTROL;
-            case TITLE:
-                return FREE_DARK_TITLE;
-            default:
-                return FREE_DARK_CONTROL;
-        }
-    }
-
-    /**
-     * Get color for Dreamer Light theme.
-     */
-    private static int getDreamerLightColor(TextRole role) {
-        switch (role) {
-            case CONTROL:
-                return DREAMER_LIGHT_CONTROL;
-            case TITLE:
-                return DREAMER_LIGHT_TITLE;
-            default:
-                return DREAMER_LIGHT_CONTROL;
-        }
-    }
-
-    /**
-     * Get color for Dreamer Dark theme.
-     */
-    private static int getDreamerDarkColor(TextRole role) {
-        switch (role) {
-            case CONTROL:
-                return DREAMER_DARK_CONTROL;
-            case TITLE:
-                return DREAMER_DARK_TITLE;
-            default:
-                return DREAMER_DARK_CONTROL;
-        }
+        return Palette.get(COLORS, ROLE_COUNT, role.ordinal(), theme);
     }
 }
@@ -0,0 +1,104 @@
+package ru.voboost.components.theme;
+
+/**
+ * Lookup helpers for precompiled theme color tables.
+ *
+ * <p>
+ * Component themes keep their colors in flat {@code int[]} tables of color
+ * literals, indexed by {@link Theme#ordinal()} and, for components with
+ * several colors, by a per-component token:
+ *
+ * <pre>
+ * index = theme.ordinal() * tokenCount + token
+ * </pre>
+ *
+ * <p>
+ * Tables are listed in the declaration order of {@link Theme} and declared
+ * through {@link #table(int, int...)} or {@link #table(Object[])}, which
+ * check their size against {@code Theme.values().length}. Nothing is parsed
+ * at class initialization, and every color lookup is one array read.
+ * A null theme is rejected, as by the switch-based getters these tables
+ * replace; components with a default theme handle null before the lookup.
+ */
+public final class Palette {
+    // Rows in every palette table
+    private static final int THEME_COUNT = Theme.values().length;
+
+    private Palette() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Declares a color table with {@code tokenCount} colors per theme.
+     *
+     * @param tokenCount number of tokens per theme
+     * @param colors     colors grouped by theme, in {@link Theme} order
+     * @return the colors
+     * @throws IllegalStateException if the table does not hold one row per theme
+     */
+    public static int[] table(int tokenCount, int... colors) {
+        checkSize(colors.length, tokenCount);
+        return colors;
+    }
+
+    /**
+     * Declares a table with one entry (e.g. a color scheme object) per theme.
+     *
+     * @param rows entries in {@link Theme} order
+     * @param <T>  the entry type
+     * @return the entries
+     * @throws IllegalStateException if the table does not hold one row per theme
+     */
+    public static <T> T[] table(T[] rows) {
+        checkSize(rows.length, 1);
+        return rows;
+    }
+
+    private static void checkSize(int length, int tokenCount) {
+        int expected = THEME_COUNT * tokenCount;
+        if (length != expected) {
+            throw new IllegalStateException(
+                    "Palette table has " + length + " entries, expected " + expected);
+        }
+    }
+
+    /**
+     * Returns the table row of the theme.
+     *
+     * @param theme the theme
+     * @return the theme ordinal
+     * @throws IllegalArgumentException if the theme is null
+     */
+    public static int index(Theme theme) {
+        if (theme == null) {
+            throw new IllegalArgumentException("Theme cannot be null");
+        }
+        return theme.ordinal();
+    }
+
+    /**
+     * Reads a color from a table with one color per theme.
+     *
+     * @param table colors in {@link Theme} order
+     * @param theme the theme
+     * @return the color for the theme
+     * @throws IllegalArgumentException if the theme is null
+     */
+    public static int get(int[] table, Theme theme) {
+        return table[index(theme)];
+    }
+
+    /**
+     * Reads a color from a table with several colors (tokens) per theme.
+     *
+     * @param table      colors grouped by theme, in {@link Theme} order
+     * @param tokenCount number of tokens per theme
+     * @param token      token index within the theme group
+     * @param theme      the theme
+     * @return the color for the theme and token
+     * @throws IllegalArgumentException if the theme is null
+     */
+    public static int get(int[] table, int tokenCount, int token, Theme theme) {
+        return table[index(theme) * tokenCount + token];
+    }
+}
@@ -0,0 +1,173 @@
+package ru.voboost.components.theme;
+
+import static org.junit.Assert.*;
+
+import android.graphics.Color;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import ru.voboost.components.panel.PanelTheme;
+import ru.voboost.components.radio.RadioColors;
+import ru.voboost.components.radio.RadioTheme;
+import ru.voboost.components.screen.ScreenTheme;
+import ru.voboost.components.section.SectionTheme;
+import ru.voboost.components.tabs.TabsTheme;
+import ru.voboost.components.text.TextRole;
+import ru.voboost.components.text.TextTheme;
+
+/**
+ * Unit tests for Palette and the component color tables.
+ *
+ * <p>
+ * Expected colors are the {@code Color.parseColor} values the tables replaced,
+ * listed per theme in {@link Theme} order.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = {33})
+public class PaletteTestUnit {
+
+    private static final Theme[] THEMES = {
+            Theme.FREE_LIGHT, Theme.FREE_DARK, Theme.DREAMER_LIGHT, Theme.DREAMER_DARK
+    };
+
+    @Test
+    public void testThemeOrder() {
+        assertArrayEquals(THEMES, Theme.values());
+        for (Theme theme : THEMES) {
+            assertEquals(theme.ordinal(), Palette.index(theme));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullThemeRejected() {
+        Palette.index(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testComponentTableRejectsNullTheme() {
+        TabsTheme.getSidebarBackground(null);
+    }
+
+    @Test
+    public void testTableChecksSize() {
+        assertEquals(THEMES.length * 2, Palette.table(2, new int[THEMES.length * 2]).length);
+        assertEquals(THEMES.length, Palette.table(new String[THEMES.length]).length);
+
+        try {
+            Palette.table(2, new int[THEMES.length * 2 - 1]);
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException expected) {
+            // Expected
+        }
+        try {
+            Palette.table(new String[THEMES.length + 1]);
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException expected) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testRadioColors() {
+        String[][] expected = {
+                {"#ffffff", "#ffffff", "#2d3442", "#79bbfd", "#2781dd", "#8dc6ff", "#519ae5", "#1875d2"},
+                {"#373f4a", "#ffffff", "#CACACA", "#79bbfd", "#2781dd", "#8dc6ff", "#519ae5", "#1875d2"},
+                {"#ffffff", "#2f2e36", "#2d3442", "#eadac8", "#9c8069", "#eadac8", "#9c8069", "#9c8069"},
+                {"#40444a", "#2f2e36", "#80ffffff", "#eadac8", "#9c8069", "#eadac8", "#9c8069", "#9c8069"}
+        };
+        for (Theme theme : THEMES) {
+            RadioColors colors = RadioTheme.getColors(theme);
+            assertColors(theme, expected[theme.ordinal()],
+                    colors.background,
+                    colors.selectedText,
+                    colors.unselectedText,
+                    colors.selectedGradientStart,
+                    colors.selectedGradientEnd,
+                    colors.selectedBorderTop,
+                    colors.selectedBorderSide,
+                    colors.selectedBorderBottom);
+        }
+        assertSame(RadioTheme.getColors(Theme.FREE_LIGHT), RadioTheme.getColors(null));
+    }
+
+    @Test
+    public void testSectionColors() {
+        // Light themes draw no title gradient, so its start color is 0
+        String[][] expected = {
+                {"#f1f5fb", "#1a1a1a", null},
+                {"#23272f", "#ffffff", "#181b21"},
+                {"#f5f0eb", "#1a1a1a", null},
+                {"#25272b", "#ffffff", "#18191e"}
+        };
+        for (Theme theme : THEMES) {
+            assertColors(theme, expected[theme.ordinal()],
+                    SectionTheme.getBackground(theme),
+                    SectionTheme.getTitleTextColor(theme),
+                    SectionTheme.getTitleGradientStart(theme));
+        }
+    }
+
+    @Test
+    public void testPanelColors() {
+        for (Theme theme : THEMES) {
+            assertEquals(Color.TRANSPARENT, PanelTheme.getBackground(theme));
+            assertEquals(Color.TRANSPARENT, PanelTheme.getBorder(theme));
+            assertEquals(Color.TRANSPARENT, PanelTheme.getShadow(theme));
+        }
+    }
+
+    @Test
+    public void testScreenColors() {
+        String[] expected = {"#ffffff", "#121212", "#fafafa", "#000000"};
+        for (Theme theme : THEMES) {
+            assertColors(theme, new String[] {expected[theme.ordinal()]},
+                    ScreenTheme.getBackground(theme));
+        }
+    }
+
+    @Test
+    public void testTextColors() {
+        String[][] expected = {
+                {"#1a1a1a", "#000000"},
+                {"#ffffff", "#f1f5fb"},
+                {"#1a1a1a", "#000000"},
+                {"#ffffff", "#f1f5fb"}
+        };
+        for (Theme theme : THEMES) {
+            assertColors(theme, expected[theme.ordinal()],
+                    TextTheme.getColor(TextRole.CONTROL, theme),
+                    TextTheme.getColor(TextRole.TITLE, theme));
+        }
+        assertEquals(Color.parseColor("#1a1a1a"), TextTheme.getColor(TextRole.TITLE, null));
+    }
+
+    @Test
+    public void testTabsColors() {
+        // Free Dark draws no sidebar background
+        String[][] expected = {
+                {"#f1f5fb", "#ffffff", "#1a1a1a", "#666666"},
+                {null, "#23272f", "#47b4ff", "#CACACA"},
+                {"#f5f5f5", "#ffffff", "#1a1a1a", "#666666"},
+                {"#0a0a0a", "#2a2a2a", "#ffffff", "#888888"}
+        };
+        for (Theme theme : THEMES) {
+            assertColors(theme, expected[theme.ordinal()],
+                    TabsTheme.getSidebarBackground(theme),
+                    TabsTheme.getSelectedBackground(theme),
+                    TabsTheme.getSelectedTextColor(theme),
+                    TabsTheme.getUnselectedTextColor(theme));
+        }
+    }
+
+    /** Compares colors with parsed hex strings; null stands for transparent. */
+    private static void assertColors(Theme theme, String[] expected, int... actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            int color = expected[i] != null ? Color.parseColor(expected[i]) : Color.TRANSPARENT;
+            assertEquals(theme + " token " + i, color, actual[i]);
+        }
+    }
+}
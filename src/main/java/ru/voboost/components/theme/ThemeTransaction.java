@@ -0,0 +1,172 @@
+package ru.voboost.components.theme;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.Nullable;
+
+import ru.voboost.components.i18n.ILocalizable;
+import ru.voboost.components.i18n.Language;
+
+/**
+ * Applies a theme and a language to a whole component tree in one pass.
+ *
+ * <p>
+ * Calling {@code setTheme} + {@code propagateTheme} and then
+ * {@code setLanguage} + {@code propagateLanguage} walks the tree twice, and
+ * every setter invalidates (and some request layout) on its own. A transaction
+ * walks the tree once, lets each {@link Participant} update its state without
+ * side effects, skips nodes that are already current, and then issues at most
+ * one {@code requestLayout()} and one {@code invalidate()} per affected view.
+ *
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * ThemeTransaction.begin()
+ *         .setTheme(Theme.FREE_DARK)
+ *         .setLanguage(Language.RU)
+ *         .commit(screen);
+ * </pre>
+ */
+public final class ThemeTransaction {
+    /** Flag: the view has to be redrawn. */
+    public static final int CHANGED_DRAW = 1;
+
+    /** Flag: the view has to be measured and laid out again. */
+    public static final int CHANGED_LAYOUT = 2;
+
+    private Theme theme;
+    private Language language;
+
+    /**
+     * A component that can take part in a transaction.
+     */
+    public interface Participant {
+        /**
+         * Updates the component state to the given theme and language without
+         * invalidating or requesting layout. Children are visited by the
+         * transaction itself and must not be propagated to.
+         *
+         * @param theme    the new theme, or null to keep the current one
+         * @param language the new language, or null to keep the current one
+         * @return a combination of {@link #CHANGED_DRAW} and
+         *         {@link #CHANGED_LAYOUT}, or 0 if the state was already current
+         */
+        int applyTransaction(@Nullable Theme theme, @Nullable Language language);
+    }
+
+    private ThemeTransaction() {
+        // Use begin()
+    }
+
+    /**
+     * Starts a new transaction.
+     *
+     * @return the transaction
+     */
+    public static ThemeTransaction begin() {
+        return new ThemeTransaction();
+    }
+
+    /**
+     * Sets the theme to apply.
+     *
+     * @param theme the theme
+     * @return this transaction
+     * @throws IllegalArgumentException if theme is null
+     */
+    public ThemeTransaction setTheme(Theme theme) {
+        if (theme == null) {
+            throw new IllegalArgumentException("Theme cannot be null");
+        }
+
+        this.theme = theme;
+        return this;
+    }
+
+    /**
+     * Sets the language to apply.
+     *
+     * @param language the language
+     * @return this transaction
+     * @throws IllegalArgumentException if language is null
+     */
+    public ThemeTransaction setLanguage(Language language) {
+        if (language == null) {
+            throw new IllegalArgumentException("Language cannot be null");
+        }
+
+        this.language = language;
+        return this;
+    }
+
+    /**
+     * Applies the transaction to the view and all its descendants.
+     *
+     * @param root the root of the tree
+     * @return the number of views whose state changed
+     */
+    public int commit(View root) {
+        if (root == null || (theme == null && language == null)) {
+            return 0;
+        }
+
+        return dispatch(root);
+    }
+
+    /**
+     * Requests the redraw and layout described by the flags, once each.
+     *
+     * <p>
+     * Components use this in their own setters, so that a setter and a
+     * transaction share the same state update code.
+     *
+     * @param view  the view to update
+     * @param flags a combination of {@link #CHANGED_DRAW} and
+     *              {@link #CHANGED_LAYOUT}
+     */
+    public static void requestUpdate(View view, int flags) {
+        if ((flags & CHANGED_LAYOUT) != 0) {
+            view.requestLayout();
+        }
+        if (flags != 0) {
+            view.invalidate();
+        }
+    }
+
+    private int dispatch(View view) {
+        int changedCount = 0;
+
+        if (view instanceof Participant) {
+            int flags = ((Participant) view).applyTransaction(theme, language);
+            if (flags != 0) {
+                requestUpdate(view, flags);
+                changedCount++;
+            }
+        } else {
+            // Components without transaction support update themselves
+            boolean isChanged = false;
+            if (theme != null && view instanceof IThemable) {
+                ((IThemable) view).setTheme(theme);
+                isChanged = true;
+            }
+            if (language != null && view instanceof ILocalizable) {
+                ((ILocalizable) view).setLanguage(language);
+                isChanged = true;
+            }
+            if (isChanged) {
+                changedCount++;
+            }
+        }
+
+        if (view instanceof ViewGroup) {
+            ViewGroup group = (ViewGroup) view;
+            for (int i = 0; i < group.getChildCount(); i++) {
+                changedCount += dispatch(group.getChildAt(i));
+            }
+        }
+
+        return changedCount;
+    }
+}